@@ -0,0 +1,52 @@
+package com.game.bench;
+
+import com.game.model.Card;
+import com.game.model.GameState;
+import com.game.model.Move;
+import com.game.model.Player;
+import com.game.service.BotEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bot decision making on a fixed mid-game position
+ * Neither method mutates the state, so one fixture serves the whole trial
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class BotEngineBenchmark {
+
+    @Param({"0", "4", "8"})
+    int tableCards;
+
+    @Param({"2", "5", "10"})
+    int amount;
+
+    private final BotEngine botEngine = new BotEngine();
+    private GameState state;
+    private Player bot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        state = Fixtures.midGame(tableCards);
+        state.getTurnContext().setActivePlayerId(1);
+        state.getTurnContext().setActionsRemaining(3);
+        bot = state.getPlayers().get(1);
+    }
+
+    @Benchmark
+    public Move calculateBestMove() {
+        return botEngine.calculateBestMove(state, bot.getId());
+    }
+
+    @Benchmark
+    public List<Card> selectCardsForPayment() {
+        return botEngine.selectCardsForPayment(bot, amount);
+    }
+}
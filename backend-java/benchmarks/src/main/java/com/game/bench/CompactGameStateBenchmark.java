@@ -0,0 +1,51 @@
+package com.game.bench;
+
+import com.game.model.GameState;
+import com.game.service.CompactGameState;
+import com.game.service.GameSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of cloning a position, the step bot search repeats for every node:
+ * the compact struct-of-arrays copy against the binary snapshot round trip
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class CompactGameStateBenchmark {
+
+    @Param({"0", "8"})
+    int tableCards;
+
+    private GameState state;
+    private CompactGameState compact;
+    private CompactGameState target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        state = Fixtures.midGame(tableCards);
+        compact = CompactGameState.of(state);
+        target = new CompactGameState(state.getPlayers().size());
+    }
+
+    @Benchmark
+    public CompactGameState copyInto() {
+        compact.copyInto(target);
+        return target;
+    }
+
+    @Benchmark
+    public GameState toGameState() {
+        return compact.toGameState();
+    }
+
+    @Benchmark
+    public GameState snapshotRoundTrip() {
+        return GameSnapshot.decode(GameSnapshot.encode(state, 0)).state();
+    }
+}
@@ -0,0 +1,25 @@
+package com.game.bench;
+
+import com.game.model.Card;
+import com.game.service.DeckGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full deck construction, paid once per createGame
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class DeckGeneratorBenchmark {
+
+    @Benchmark
+    public Stack<Card> generateDeck() {
+        return DeckGenerator.generateDeck("bench");
+    }
+}
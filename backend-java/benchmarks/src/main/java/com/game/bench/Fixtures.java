@@ -0,0 +1,155 @@
+package com.game.bench;
+
+import com.game.model.*;
+import com.game.service.BotEngine;
+import com.game.service.DeckGenerator;
+import com.game.service.GameEngine;
+import com.game.service.RentCalculator;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Deterministic mid-game states for the benchmarks
+ * A fixture is the deck shuffled with a fixed seed, five cards dealt to each
+ * player, then tableCards rounds of money/properties laid down per player, so
+ * the same parameters always measure the same position
+ */
+final class Fixtures {
+
+    static final long SEED = 42L;
+
+    private Fixtures() {
+    }
+
+    /**
+     * GameEngine as built outside Spring: with no broadcaster, scheduler,
+     * journal or metrics, only the rules and the room mailbox are measured
+     */
+    static GameEngine headlessEngine() {
+        return new GameEngine(new BotEngine(), new RentCalculator());
+    }
+
+    /**
+     * Create a room on the engine and rearrange it into the fixture position
+     */
+    static GameState midGame(GameEngine engine, String roomId, int tableCards) {
+        GameState state = engine.createGame(roomId, SEED);
+        arrange(state, tableCards);
+        return state;
+    }
+
+    /**
+     * Standalone state for benchmarks that don't go through an engine
+     */
+    static GameState midGame(int tableCards) {
+        List<Player> players = List.of(
+            new Player(0, "You", true),
+            new Player(1, "Bot Alpha", false),
+            new Player(2, "Bot Beta", false),
+            new Player(3, "Bot Gamma", false));
+        GameState state = GameState.builder()
+            .gameId("bench")
+            .seed(SEED)
+            .status("PLAYING")
+            .players(new ArrayList<>(players))
+            .deck(DeckGenerator.generateDeck())
+            .discardPile(new ArrayList<>())
+            .turnContext(GameState.turnContextBuilder().activePlayerId(0).actionsRemaining(0).build())
+            .logs(new GameLogBuffer(50))
+            .build();
+        arrange(state, tableCards);
+        return state;
+    }
+
+    private static void arrange(GameState state, int tableCards) {
+        // Gather every card back into the deck in a stable order before shuffling
+        List<Card> cards = new ArrayList<>(state.getDeck());
+        for (Player p : state.getPlayers()) {
+            cards.addAll(p.getHand());
+            cards.addAll(p.getBank());
+            cards.addAll(p.getProperties());
+            p.getHand().clear();
+            p.getBank().clear();
+            p.getProperties().clear();
+        }
+        cards.addAll(state.getDiscardPile());
+        state.getDiscardPile().clear();
+        cards.sort(Comparator.comparingInt(Card::getId));
+        new GameRandom(SEED).shuffle(cards);
+        state.getDeck().clear();
+        state.getDeck().addAll(cards);
+
+        for (Player p : state.getPlayers()) {
+            for (int i = 0; i < 5; i++) {
+                p.getHand().add(state.getDeck().pop());
+            }
+        }
+
+        for (int round = 0; round < tableCards; round++) {
+            for (Player p : state.getPlayers()) {
+                Card card = state.getDeck().pop();
+                switch (card.getType()) {
+                    case MONEY -> p.getBank().add(card);
+                    case PROPERTY -> p.getProperties().add(card);
+                    case PROPERTY_WILD -> {
+                        if (card.getCurrentColor() == null && card.getColors() != null && !card.getColors().isEmpty()) {
+                            card.setCurrentColor(card.getColors().get(0));
+                        }
+                        p.getProperties().add(card);
+                    }
+                    default -> state.getDiscardPile().add(card);
+                }
+            }
+        }
+
+        state.getTurnContext().setActivePlayerId(0);
+        state.getTurnContext().setActionsRemaining(0);
+    }
+
+    /**
+     * Put a card matching the filter into a player's hand, preferring one still in the deck
+     */
+    static Card giveCard(GameState state, int playerId, Predicate<Card> filter) {
+        Iterator<Card> it = state.getDeck().iterator();
+        while (it.hasNext()) {
+            Card card = it.next();
+            if (filter.test(card)) {
+                it.remove();
+                state.getPlayers().get(playerId).getHand().add(card);
+                return card;
+            }
+        }
+        // Already dealt or discarded; take it from there instead
+        List<List<Card>> elsewhere = new ArrayList<>();
+        elsewhere.add(state.getDiscardPile());
+        for (Player p : state.getPlayers()) {
+            if (p.getId() != playerId) {
+                elsewhere.add(p.getHand());
+            }
+        }
+        for (List<Card> zone : elsewhere) {
+            for (Card card : zone) {
+                if (filter.test(card)) {
+                    zone.remove(card);
+                    state.getPlayers().get(playerId).getHand().add(card);
+                    return card;
+                }
+            }
+        }
+        for (Card card : state.getPlayers().get(playerId).getHand()) {
+            if (filter.test(card)) {
+                return card;
+            }
+        }
+        throw new IllegalStateException("No card left for fixture");
+    }
+
+    static Predicate<Card> ofType(CardType type) {
+        return c -> c.getType() == type;
+    }
+
+    static Predicate<Card> ofAction(ActionType actionType) {
+        return c -> c.getActionType() == actionType;
+    }
+}
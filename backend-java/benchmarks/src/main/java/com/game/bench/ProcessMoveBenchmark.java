@@ -0,0 +1,123 @@
+package com.game.bench;
+
+import com.game.model.*;
+import com.game.service.GameEngine;
+import com.game.service.GameSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameEngine.processMove through the room mailbox, one move per position
+ * A move uses up its position and takes microseconds, too little to rebuild a
+ * fixture around every call. The position is built and snapshotted once; each
+ * iteration restores BATCH rooms from the snapshot outside the measurement and
+ * times one move on each as a single batch. Scores are time per BATCH moves
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = ProcessMoveBenchmark.BATCH)
+@Measurement(iterations = 50, batchSize = ProcessMoveBenchmark.BATCH)
+@Fork(2)
+@State(Scope.Thread)
+public class ProcessMoveBenchmark {
+
+    static final int BATCH = 1000;
+    private static final String ROOM = "bench-room-";
+
+    @Param({"0", "4", "8"})
+    int tableCards;
+
+    private GameEngine engine;
+    private byte[] snapshot;
+    private final String[] rooms = new String[BATCH];
+    private final GameState[] states = new GameState[BATCH];
+    private int next;
+
+    private Move draw;
+    private Move bankMoney;
+    private Move playProperty;
+    private Move playWildRent;
+    private Move debtCollector;
+    private Move birthday;
+
+    @Setup(Level.Trial)
+    public void setUpFixture() {
+        engine = Fixtures.headlessEngine();
+        GameState state = Fixtures.midGame(engine, ROOM + "fixture", tableCards);
+
+        // Guarantee one property on the table so rent always has something to charge for
+        Card owned = Fixtures.giveCard(state, 0, Fixtures.ofType(CardType.PROPERTY));
+        state.getPlayers().get(0).getHand().remove(owned);
+        state.getPlayers().get(0).getProperties().add(owned);
+
+        draw = new Move(0, "DRAW", null, null, null);
+        bankMoney = play(Fixtures.giveCard(state, 0, Fixtures.ofType(CardType.MONEY)));
+        playProperty = play(Fixtures.giveCard(state, 0, Fixtures.ofType(CardType.PROPERTY)));
+        playWildRent = play(Fixtures.giveCard(state, 0, Fixtures.ofType(CardType.RENT_WILD)));
+        debtCollector = play(Fixtures.giveCard(state, 0, Fixtures.ofAction(ActionType.DEBT_COLLECTOR)));
+        birthday = play(Fixtures.giveCard(state, 0, Fixtures.ofAction(ActionType.BIRTHDAY)));
+
+        snapshot = GameSnapshot.encode(state, 0);
+        for (int i = 0; i < BATCH; i++) {
+            rooms[i] = ROOM + i;
+        }
+    }
+
+    /**
+     * Fresh copies of the fixture for the next batch; restoring replaces the previous rooms
+     */
+    @Setup(Level.Iteration)
+    public void restorePositions() {
+        for (int i = 0; i < BATCH; i++) {
+            GameSnapshot.Restored restored = GameSnapshot.decode(snapshot);
+            engine.restoreGame(rooms[i], restored.state(), restored.moveCount());
+            states[i] = restored.state();
+        }
+        next = 0;
+    }
+
+    private Move play(Card card) {
+        return new Move(0, "PLAY_CARD", card.getUid(), null, null);
+    }
+
+    private GameState move(Move move, boolean playing) {
+        int i = next++;
+        GameState state = states[i];
+        if (playing) {
+            state.getTurnContext().setActionsRemaining(3);
+        }
+        engine.processMove(rooms[i], move);
+        return state;
+    }
+
+    @Benchmark
+    public GameState draw() {
+        return move(draw, false);
+    }
+
+    @Benchmark
+    public GameState bankMoney() {
+        return move(bankMoney, true);
+    }
+
+    @Benchmark
+    public GameState playProperty() {
+        return move(playProperty, true);
+    }
+
+    @Benchmark
+    public GameState wildRent() {
+        return move(playWildRent, true);
+    }
+
+    @Benchmark
+    public GameState debtCollectorPayment() {
+        return move(debtCollector, true);
+    }
+
+    @Benchmark
+    public GameState birthdayPayments() {
+        return move(birthday, true);
+    }
+}
@@ -0,0 +1,51 @@
+package com.game.bench;
+
+import com.game.model.Card;
+import com.game.model.GameState;
+import com.game.model.Player;
+import com.game.service.RentCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rent lookups for the player with the most properties in the fixture
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class RentCalculatorBenchmark {
+
+    @Param({"0", "4", "8"})
+    int tableCards;
+
+    private final RentCalculator rentCalculator = new RentCalculator();
+    private Player owner;
+    private String color;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameState state = Fixtures.midGame(tableCards);
+        owner = state.getPlayers().stream()
+            .max(Comparator.comparingInt((Player p) -> p.getProperties().size()))
+            .orElseThrow();
+        color = owner.getProperties().stream()
+            .map(Card::getCurrentColor)
+            .findFirst()
+            .orElse("brown");
+    }
+
+    @Benchmark
+    public int calculateRent() {
+        return rentCalculator.calculateRent(owner, color);
+    }
+
+    @Benchmark
+    public String selectBestRentColor() {
+        return rentCalculator.selectBestRentColor(owner);
+    }
+}
@@ -3,9 +3,16 @@ package com.game;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class MonopolyDealApplication {
     public static void main(String[] args) {
-        SpringApplication.run(MonopolyDealApplication.class, args);
+        SpringApplication app = new SpringApplication(MonopolyDealApplication.class);
+        // Defaults that application.properties can override
+        app.setDefaultProperties(Map.of(
+            "management.endpoints.web.exposure.include", "health,prometheus"
+        ));
+        app.run(args);
     }
 }
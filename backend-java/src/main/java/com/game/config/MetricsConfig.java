@@ -0,0 +1,107 @@
+package com.game.config;
+
+import com.game.service.BotTurnScheduler;
+import com.game.service.GameEngine;
+import com.game.service.GameJournal;
+import com.game.service.GameSnapshotStore;
+import com.game.service.LobbyBroadcaster;
+import com.game.service.MoveStage;
+import com.game.service.RoomLifecycleManager;
+import com.game.service.SearchBotEngine;
+import com.game.service.SessionManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gauges and counters read from engine state when Prometheus scrapes
+ * /actuator/prometheus; nothing here runs on the game's hot paths
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder gameEngineMetrics(GameEngine gameEngine, SessionManager sessionManager,
+                                         RoomLifecycleManager roomLifecycle, LobbyBroadcaster lobbyBroadcaster) {
+        return registry -> {
+            Gauge.builder("game.rooms.active", gameEngine, GameEngine::getActiveGameCount)
+                .description("Rooms held in memory")
+                .register(registry);
+            Gauge.builder("game.room.mailbox.depth", gameEngine, GameEngine::getMailboxDepth)
+                .description("Room actions queued or running across all rooms")
+                .register(registry);
+            FunctionCounter.builder("game.rooms.evicted", roomLifecycle, RoomLifecycleManager::getEvictedCount)
+                .description("Rooms evicted as finished, idle or over budget")
+                .register(registry);
+            FunctionCounter.builder("game.rooms.refused", roomLifecycle, RoomLifecycleManager::getRefusedCount)
+                .description("New rooms refused at the room or heap budget")
+                .register(registry);
+            Gauge.builder("game.sessions.active", sessionManager, SessionManager::getActiveSessionCount)
+                .description("Player sessions held in memory")
+                .register(registry);
+            FunctionCounter.builder("game.sessions.expired", sessionManager, SessionManager::getExpiredCount)
+                .description("Sessions expired after inactivity")
+                .register(registry);
+            FunctionCounter.builder("game.lobby.batches", lobbyBroadcaster, LobbyBroadcaster::getBatchCount)
+                .description("Lobby change batches pushed to subscribers")
+                .register(registry);
+            FunctionCounter.builder("game.lobby.coalesced", lobbyBroadcaster, LobbyBroadcaster::getCoalescedCount)
+                .description("Lobby changes folded into a pending change for the same lobby")
+                .register(registry);
+            for (MoveStage stage : MoveStage.values()) {
+                FunctionTimer.builder("game.move.stage", gameEngine,
+                        engine -> engine.getStageTimings().get(stage).count(),
+                        engine -> engine.getStageTimings().get(stage).totalNanos(),
+                        TimeUnit.NANOSECONDS)
+                    .description("Time spent in each stage of the move pipeline")
+                    .tag("stage", stage.name())
+                    .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder botMetrics(BotTurnScheduler botTurnScheduler, SearchBotEngine searchBotEngine) {
+        return registry -> {
+            Gauge.builder("game.bot.scheduler.queue", botTurnScheduler, BotTurnScheduler::getQueueDepth)
+                .description("Bot steps waiting to fire")
+                .register(registry);
+            FunctionTimer.builder("game.bot.scheduler.lag", botTurnScheduler,
+                    BotTurnScheduler::getFiredStepCount,
+                    BotTurnScheduler::getTotalLagMillis,
+                    TimeUnit.MILLISECONDS)
+                .description("How late bot steps fired after their due time")
+                .register(registry);
+            Gauge.builder("game.bot.scheduler.lag.max", botTurnScheduler, BotTurnScheduler::getMaxLagMillis)
+                .description("Latest a bot step has fired after its due time")
+                .baseUnit("milliseconds")
+                .register(registry);
+            FunctionCounter.builder("game.search.searches", searchBotEngine, SearchBotEngine::getSearchCount)
+                .description("Moves chosen by the search bot")
+                .register(registry);
+            FunctionCounter.builder("game.search.iterations", searchBotEngine, SearchBotEngine::getIterationCount)
+                .description("Search iterations across all moves")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder persistenceMetrics(GameJournal journal, GameSnapshotStore snapshotStore) {
+        return registry -> {
+            FunctionCounter.builder("game.journal.appends", journal, GameJournal::getAppendedCount)
+                .description("Records appended to the game journal")
+                .register(registry);
+            FunctionCounter.builder("game.journal.commits", journal, GameJournal::getCommitCount)
+                .description("Group commits forced to disk")
+                .register(registry);
+            FunctionCounter.builder("game.snapshots.written", snapshotStore, GameSnapshotStore::getWrittenCount)
+                .description("Room snapshots written")
+                .register(registry);
+        };
+    }
+}
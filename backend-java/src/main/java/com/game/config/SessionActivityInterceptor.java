@@ -0,0 +1,33 @@
+package com.game.config;
+
+import com.game.service.SessionManager;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.Map;
+
+/**
+ * Keeps a lobby session alive while its connection is in use
+ * Every inbound STOMP frame, heartbeats included, touches the session the
+ * handshake tied the connection to, so a player mid-game doesn't time out
+ * just because they haven't called the REST API lately
+ */
+public class SessionActivityInterceptor implements ChannelInterceptor {
+
+    private final SessionManager sessionManager;
+
+    public SessionActivityInterceptor(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+        if (attributes != null && attributes.get(SessionHandshakeHandler.SESSION_ATTRIBUTE) instanceof String sessionId) {
+            sessionManager.updateActivity(sessionId);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.config;
+
+import com.game.model.UserSession;
+import com.game.service.SessionManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * Names each WebSocket connection after its lobby session so game views can
+ * go to user destinations
+ * The "sessionId" query parameter is checked against the SessionManager
+ * before the upgrade; a missing or unknown session is refused with 403, so a
+ * connection can't claim another player's name
+ */
+public class SessionHandshakeHandler extends DefaultHandshakeHandler implements HandshakeInterceptor {
+
+    static final String SESSION_ATTRIBUTE = "sessionId";
+
+    private final SessionManager sessionManager;
+
+    public SessionHandshakeHandler(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String sessionId = UriComponentsBuilder.fromUri(request.getURI())
+            .build()
+            .getQueryParams()
+            .getFirst("sessionId");
+        UserSession session = sessionId != null ? sessionManager.getSession(sessionId) : null;
+        if (session == null) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+        attributes.put(SESSION_ATTRIBUTE, session.getSessionId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        return new ConnectionPrincipal((String) attributes.get(SESSION_ATTRIBUTE));
+    }
+
+    private record ConnectionPrincipal(String name) implements Principal {
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
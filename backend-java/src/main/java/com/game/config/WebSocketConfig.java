@@ -1,6 +1,8 @@
 package com.game.config;
 
+import com.game.service.SessionManager;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,14 +12,31 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final SessionManager sessionManager;
+
+    public WebSocketConfig(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new SessionActivityInterceptor(sessionManager));
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint("/ws-game").setAllowedOriginPatterns("*").withSockJS();
+        SessionHandshakeHandler handshakeHandler = new SessionHandshakeHandler(sessionManager);
+        registry.addEndpoint("/ws-game")
+            .setHandshakeHandler(handshakeHandler)
+            .addInterceptors(handshakeHandler)
+            .setAllowedOriginPatterns("*")
+            .withSockJS();
     }
 }
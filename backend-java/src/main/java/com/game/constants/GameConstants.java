@@ -23,6 +23,13 @@ public final class GameConstants {
     
     // AI / Bot delays
     public static final int BOT_TURN_DELAY_MS = 1500;
+    public static final int BOT_ACTION_DELAY_MS = 1200;
+
+    // Live log entries kept in GameState; older ones are paged from the log store
+    public static final int LIVE_LOG_CAPACITY = 50;
+
+    // Settled payments kept on the turn context for clients; older ones are dropped
+    public static final int PAYMENT_HISTORY_CAPACITY = 8;
 
     // Win condition
     public static final int COMPLETE_SETS_TO_WIN = 3;
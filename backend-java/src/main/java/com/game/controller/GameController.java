@@ -1,39 +1,83 @@
 package com.game.controller;
 
-import com.game.model.GameState;
+import com.game.dto.StartGameRequest;
 import com.game.model.Move;
+import com.game.model.PlayerView;
 import com.game.service.GameEngine;
+import com.game.service.LobbyService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * STOMP entry points for a game room
+ * State goes out per seat through the engine's broadcaster as sequenced
+ * keyframes and patches on /user/queue/game/{roomId}. A connection's seat
+ * is its session's place in the room's lobby, never something the client sends
+ */
 @Controller
 public class GameController {
 
+    private static final Logger log = LoggerFactory.getLogger(GameController.class);
+
     private final GameEngine gameEngine;
+    private final LobbyService lobbyService;
 
-    public GameController(GameEngine gameEngine) {
+    public GameController(GameEngine gameEngine, LobbyService lobbyService) {
         this.gameEngine = gameEngine;
+        this.lobbyService = lobbyService;
     }
 
+    /**
+     * Moves are queued on the room's mailbox; the engine broadcasts the
+     * resulting state once the move has been applied
+     */
     @MessageMapping("/game/{roomId}/move")
-    @SendTo("/topic/game/{roomId}")
-    public GameState handleMove(@DestinationVariable String roomId, Move move) {
+    public void handleMove(@DestinationVariable String roomId, Move move) {
         gameEngine.processMove(roomId, move);
-        return gameEngine.getGameState(roomId);
     }
     
+    /**
+     * Bot seats may be given a difficulty in the request; others play STANDARD
+     * Starting a room that already has a game just attaches to that game
+     */
     @MessageMapping("/game/{roomId}/start")
-    @SendTo("/topic/game/{roomId}")
-    public GameState startGame(@DestinationVariable String roomId) {
-        return gameEngine.createGame(roomId);
+    public void startGame(@DestinationVariable String roomId, StartGameRequest request, Principal principal) {
+        try {
+            gameEngine.createGame(roomId, ThreadLocalRandom.current().nextLong(),
+                request != null && request.bots() != null ? request.bots() : Map.of());
+        } catch (IllegalStateException e) {
+            log.warn("Not starting room {}: {}", roomId, e.getMessage());
+        }
+        gameEngine.addViewer(roomId, principal.getName(), seatOf(roomId, principal));
     }
     
+    /**
+     * Subscribe/resync: clients call this on connect or when they detect a gap in seq
+     */
     @MessageMapping("/game/{roomId}/state")
-    @SendTo("/topic/game/{roomId}")
-    public GameState getState(@DestinationVariable String roomId) {
-        return gameEngine.getGameState(roomId);
+    public void getState(@DestinationVariable String roomId, Principal principal) {
+        gameEngine.addViewer(roomId, principal.getName(), seatOf(roomId, principal));
+    }
+
+    /**
+     * Seats follow lobby join order; anyone not in the lobby spectates
+     */
+    int seatOf(String roomId, Principal principal) {
+        int seat = 0;
+        for (String sessionId : lobbyService.getParticipants(roomId)) {
+            if (sessionId.equals(principal.getName())) {
+                return seat;
+            }
+            seat++;
+        }
+        return PlayerView.SPECTATOR;
     }
 }
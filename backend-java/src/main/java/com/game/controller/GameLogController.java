@@ -0,0 +1,36 @@
+package com.game.controller;
+
+import com.game.service.GameLogStore;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST paging over a room's full log history
+ * Live state only carries the most recent entries
+ */
+@RestController
+@RequestMapping("/api/games")
+@CrossOrigin(origins = "*")
+public class GameLogController {
+
+    private final GameLogStore logStore;
+
+    public GameLogController(GameLogStore logStore) {
+        this.logStore = logStore;
+    }
+
+    /**
+     * Page through logs by seq; pass the returned next as from to continue
+     */
+    @GetMapping("/{roomId}/logs")
+    public ResponseEntity<GameLogStore.Page> getLogs(
+            @PathVariable String roomId,
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "50") int limit) {
+        GameLogStore.Page page = logStore.page(roomId, from, limit);
+        if (page == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(page);
+    }
+}
@@ -4,6 +4,7 @@ import com.game.dto.CreateGameRequest;
 import com.game.dto.CreateSessionRequest;
 import com.game.dto.SessionResponse;
 import com.game.model.LobbyGame;
+import com.game.model.LobbyPage;
 import com.game.model.UserSession;
 import com.game.service.LobbyService;
 import com.game.service.SessionManager;
@@ -18,9 +19,11 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/lobby")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = LobbyController.NEXT_CURSOR_HEADER)
 public class LobbyController {
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final SessionManager sessionManager;
     private final LobbyService lobbyService;
     
@@ -65,11 +68,28 @@ public class LobbyController {
     }
     
     /**
-     * List all available lobbies
+     * List joinable lobbies, newest first, one page at a time
+     * The cursor for the next page comes back in the X-Next-Cursor header,
+     * which is absent on the last page
      */
     @GetMapping("/games")
-    public ResponseEntity<List<LobbyGame>> listGames() {
-        return ResponseEntity.ok(lobbyService.getAvailableLobbies());
+    public ResponseEntity<List<LobbyGame>> listGames(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + LobbyService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "0") int minFreeSeats,
+            @RequestParam(required = false) Integer maxPlayers) {
+        
+        LobbyPage page;
+        try {
+            page = lobbyService.findLobbies(cursor, limit, minFreeSeats, maxPlayers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.lobbies());
     }
     
     /**
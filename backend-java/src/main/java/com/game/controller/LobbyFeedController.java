@@ -0,0 +1,27 @@
+package com.game.controller;
+
+import com.game.model.LobbyUpdate;
+import com.game.service.LobbyBroadcaster;
+
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * STOMP entry point for the live lobby list
+ * Clients subscribe to /topic/lobby for change batches, then to /app/lobby,
+ * which answers once with a snapshot to apply those batches on top of
+ */
+@Controller
+public class LobbyFeedController {
+
+    private final LobbyBroadcaster lobbyBroadcaster;
+
+    public LobbyFeedController(LobbyBroadcaster lobbyBroadcaster) {
+        this.lobbyBroadcaster = lobbyBroadcaster;
+    }
+
+    @SubscribeMapping("/lobby")
+    public LobbyUpdate snapshot() {
+        return lobbyBroadcaster.snapshot();
+    }
+}
@@ -0,0 +1,11 @@
+package com.game.dto;
+
+import com.game.model.BotDifficulty;
+
+import java.util.Map;
+
+/**
+ * Body of a start request; bots optionally picks a difficulty per bot seat
+ * (unlisted seats play STANDARD). The caller's own seat comes from the lobby
+ */
+public record StartGameRequest(Map<Integer, BotDifficulty> bots) {}
@@ -0,0 +1,11 @@
+package com.game.model;
+
+/**
+ * How a bot seat picks its moves
+ * STANDARD follows BotEngine's fixed priorities; SEARCH samples the hidden
+ * cards and plays out the candidates in SearchBotEngine
+ */
+public enum BotDifficulty {
+    STANDARD,
+    SEARCH
+}
@@ -1,61 +1,118 @@
 package com.game.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
+/**
+ * One physical card in a game
+ * Static attributes come from a shared CardDefinition; the instance only
+ * carries its uid, its index in the deck's templates and mutable play state.
+ * Setters for static attributes swap in a private copy of the definition,
+ * which is only used for ad-hoc cards (tests, hand-built fixtures)
+ */
 public class Card {
+    private CardDefinition definition = CardDefinition.BLANK;
+    private int id = -1; // Template index within the standard deck, -1 for ad-hoc cards
     private String uid;
-    private String name;
-    private String description;
-    private int value;
-    private CardType type;
-    private ActionType actionType;
-    private String color; 
-    private List<String> colors; 
-    private String currentColor; 
-    private boolean isRainbow;
+    private String currentColor;
+    private PropertyColor currentPropertyColor; // currentColor parsed once on set
     private boolean hasHouse;
     private boolean hasHotel;
+    private PropertyZone zone; // Table zone indexing this card, if any
 
     public Card() {}
 
+    public Card(CardDefinition definition, int id, String uid) {
+        this.definition = definition;
+        this.id = id;
+        this.uid = uid;
+        setCurrentColor(definition.initialColor());
+    }
+
+    @JsonIgnore
+    public CardDefinition getDefinition() { return definition; }
+    @JsonIgnore
+    public int getId() { return id; }
+
     public String getUid() { return uid; }
     public void setUid(String uid) { this.uid = uid; }
-    public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
-    public String getDescription() { return description; }
-    public void setDescription(String description) { this.description = description; }
-    public int getValue() { return value; }
-    public void setValue(int value) { this.value = value; }
-    public CardType getType() { return type; }
-    public void setType(CardType type) { this.type = type; }
-    public ActionType getActionType() { return actionType; }
-    public void setActionType(ActionType actionType) { this.actionType = actionType; }
-    public String getColor() { return color; }
-    public void setColor(String color) { this.color = color; }
-    public List<String> getColors() { return colors; }
-    public void setColors(List<String> colors) { this.colors = colors; }
+    public String getName() { return definition.name(); }
+    public void setName(String name) { definition = definition.withName(name); }
+    public String getDescription() { return definition.description(); }
+    public void setDescription(String description) { definition = definition.withDescription(description); }
+    public int getValue() { return definition.value(); }
+    public void setValue(int value) {
+        beforeChange();
+        definition = definition.withValue(value);
+        afterChange();
+    }
+    public CardType getType() { return definition.type(); }
+    public void setType(CardType type) { definition = definition.withType(type); }
+    public ActionType getActionType() { return definition.actionType(); }
+    public void setActionType(ActionType actionType) { definition = definition.withActionType(actionType); }
+    public String getColor() { return definition.color(); }
+    public void setColor(String color) {
+        beforeChange();
+        definition = definition.withColor(color);
+        afterChange();
+    }
+    public List<String> getColors() { return definition.colors(); }
+    public void setColors(List<String> colors) { definition = definition.withColors(colors); }
     public String getCurrentColor() { return currentColor; }
-    public void setCurrentColor(String currentColor) { this.currentColor = currentColor; }
-    public boolean isRainbow() { return isRainbow; }
-    public void setRainbow(boolean rainbow) { isRainbow = rainbow; }
+    public void setCurrentColor(String currentColor) {
+        beforeChange();
+        this.currentColor = currentColor;
+        this.currentPropertyColor = PropertyColor.fromKey(currentColor);
+        afterChange();
+    }
+
+    /**
+     * Color this card counts as on the table: its chosen color, else its printed one
+     */
+    @JsonIgnore
+    public PropertyColor getPropertyColor() {
+        return currentColor != null ? currentPropertyColor : definition.propertyColor();
+    }
+    public boolean isRainbow() { return definition.rainbow(); }
+    public void setRainbow(boolean rainbow) { definition = definition.withRainbow(rainbow); }
     public boolean hasHouse() { return hasHouse; }
-    public void setHasHouse(boolean hasHouse) { this.hasHouse = hasHouse; }
+    public void setHasHouse(boolean hasHouse) {
+        beforeChange();
+        this.hasHouse = hasHouse;
+        afterChange();
+    }
     public boolean hasHotel() { return hasHotel; }
-    public void setHasHotel(boolean hasHotel) { this.hasHotel = hasHotel; }
+    public void setHasHotel(boolean hasHotel) {
+        beforeChange();
+        this.hasHotel = hasHotel;
+        afterChange();
+    }
+
+    PropertyZone getZone() { return zone; }
+    void setZone(PropertyZone zone) { this.zone = zone; }
+
+    private void beforeChange() {
+        if (zone != null) zone.beforeChange(this);
+    }
+
+    private void afterChange() {
+        if (zone != null) zone.afterChange(this);
+    }
 
     public static CardBuilder builder() { return new CardBuilder(); }
     public static class CardBuilder {
         private Card c = new Card();
         public CardBuilder uid(String u) { c.uid = u; return this; }
-        public CardBuilder name(String n) { c.name = n; return this; }
-        public CardBuilder description(String d) { c.description = d; return this; }
-        public CardBuilder value(int v) { c.value = v; return this; }
-        public CardBuilder type(CardType t) { c.type = t; return this; }
-        public CardBuilder actionType(ActionType at) { c.actionType = at; return this; }
-        public CardBuilder color(String clr) { c.color = clr; return this; }
-        public CardBuilder colors(List<String> clrs) { c.colors = clrs; return this; }
-        public CardBuilder currentColor(String cc) { c.currentColor = cc; return this; }
-        public CardBuilder isRainbow(boolean r) { c.isRainbow = r; return this; }
+        public CardBuilder name(String n) { c.setName(n); return this; }
+        public CardBuilder description(String d) { c.setDescription(d); return this; }
+        public CardBuilder value(int v) { c.setValue(v); return this; }
+        public CardBuilder type(CardType t) { c.setType(t); return this; }
+        public CardBuilder actionType(ActionType at) { c.setActionType(at); return this; }
+        public CardBuilder color(String clr) { c.setColor(clr); return this; }
+        public CardBuilder colors(List<String> clrs) { c.setColors(clrs); return this; }
+        public CardBuilder currentColor(String cc) { c.setCurrentColor(cc); return this; }
+        public CardBuilder isRainbow(boolean r) { c.setRainbow(r); return this; }
         public Card build() { return c; }
     }
 }
@@ -0,0 +1,84 @@
+package com.game.model;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Immutable, shared description of a card
+ * The standard deck's 106 definitions are built once by DeckGenerator and
+ * every game's Card instances point at them; only per-game state (uid,
+ * chosen color, buildings) lives on the Card itself
+ */
+public final class CardDefinition {
+    public static final CardDefinition BLANK = new CardDefinition(null, null, 0, null, null, null, null, false);
+
+    private final String name;
+    private final String description;
+    private final int value;
+    private final CardType type;
+    private final ActionType actionType;
+    private final String color;
+    private final List<String> colors;
+    private final boolean rainbow;
+    // Derived once so rules code never parses color keys per call
+    private final PropertyColor propertyColor;
+    private final int colorMask;
+
+    public CardDefinition(String name, String description, int value, CardType type, ActionType actionType,
+                          String color, List<String> colors, boolean rainbow) {
+        this.name = name;
+        this.description = description;
+        this.value = value;
+        this.type = type;
+        this.actionType = actionType;
+        this.color = color;
+        this.colors = colors != null ? List.copyOf(colors) : null;
+        this.rainbow = rainbow;
+        this.propertyColor = PropertyColor.fromKey(color);
+        this.colorMask = rainbow ? PropertyColor.ALL_MASK
+            : this.colors != null ? PropertyColor.maskOf(this.colors)
+            : propertyColor != null ? propertyColor.bit() : 0;
+    }
+
+    public String name() { return name; }
+    public String description() { return description; }
+    public int value() { return value; }
+    public CardType type() { return type; }
+    public ActionType actionType() { return actionType; }
+    public String color() { return color; }
+    public List<String> colors() { return colors; }
+    public boolean rainbow() { return rainbow; }
+    public PropertyColor propertyColor() { return propertyColor; }
+
+    /**
+     * Colors this card can be played or charged as, one bit per PropertyColor ordinal
+     */
+    public int colorMask() { return colorMask; }
+
+    public EnumSet<PropertyColor> allowedColors() {
+        return PropertyColor.setOf(colorMask);
+    }
+
+    /**
+     * Color a fresh instance starts with: its own color, or a two-color wild's first color
+     */
+    public String initialColor() {
+        if (color != null) {
+            return color;
+        }
+        if (type == CardType.PROPERTY_WILD && colors != null && !colors.isEmpty()) {
+            return colors.get(0);
+        }
+        return null;
+    }
+
+    // Copy-on-write for ad-hoc cards built through Card's setters
+    CardDefinition withName(String n) { return new CardDefinition(n, description, value, type, actionType, color, colors, rainbow); }
+    CardDefinition withDescription(String d) { return new CardDefinition(name, d, value, type, actionType, color, colors, rainbow); }
+    CardDefinition withValue(int v) { return new CardDefinition(name, description, v, type, actionType, color, colors, rainbow); }
+    CardDefinition withType(CardType t) { return new CardDefinition(name, description, value, t, actionType, color, colors, rainbow); }
+    CardDefinition withActionType(ActionType at) { return new CardDefinition(name, description, value, type, at, color, colors, rainbow); }
+    CardDefinition withColor(String c) { return new CardDefinition(name, description, value, type, actionType, c, colors, rainbow); }
+    CardDefinition withColors(List<String> cs) { return new CardDefinition(name, description, value, type, actionType, color, cs, rainbow); }
+    CardDefinition withRainbow(boolean r) { return new CardDefinition(name, description, value, type, actionType, color, colors, r); }
+}
@@ -0,0 +1,190 @@
+package com.game.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * One of a player's card zones (hand, bank, table)
+ * An unordered bag exposed as a list: each card's slot is indexed by uid, so
+ * lookups, contains and remove(Object) are O(1), and removal moves the last
+ * card into the hole instead of shifting the tail. Cards without a uid, or
+ * sharing one with a card already present, still work through a linear scan
+ */
+public class CardZone extends AbstractList<Card> implements RandomAccess {
+
+    private final List<Card> cards = new ArrayList<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private int unindexed; // Cards whose uid is missing from slots
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        if (index == cards.size()) {
+            cards.add(card);
+            indexSlot(card, index);
+        } else {
+            cards.add(index, card);
+            rebuildSlots();
+        }
+        attach(card);
+        modCount++;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = cards.set(index, card);
+        unindexSlot(old, index);
+        indexSlot(card, index);
+        detach(old);
+        attach(card);
+        return old;
+    }
+
+    /**
+     * Swap-remove: the last card takes the removed card's slot
+     */
+    @Override
+    public Card remove(int index) {
+        int last = cards.size() - 1;
+        Card old = cards.get(index);
+        unindexSlot(old, index);
+        if (index != last) {
+            Card moved = cards.get(last);
+            unindexSlot(moved, last);
+            cards.set(index, moved);
+            indexSlot(moved, index);
+        }
+        cards.remove(last);
+        detach(old);
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Card card && card.getUid() != null) {
+            int slot = slotOf(card.getUid());
+            if (slot >= 0 && cards.get(slot) == card) {
+                return slot;
+            }
+            if (unindexed == 0) {
+                return -1;
+            }
+        }
+        return cards.indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (Card card : cards) {
+            detach(card);
+        }
+        cards.clear();
+        slots.clear();
+        unindexed = 0;
+        modCount++;
+    }
+
+    /**
+     * Card with this uid, or null if it isn't in the zone
+     */
+    public Card find(String uid) {
+        if (uid == null) {
+            return null;
+        }
+        int slot = slotOf(uid);
+        if (slot >= 0) {
+            return cards.get(slot);
+        }
+        if (unindexed > 0) {
+            for (Card card : cards) {
+                if (uid.equals(card.getUid())) {
+                    return card;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove and return the card with this uid, or null if it isn't in the zone
+     */
+    public Card take(String uid) {
+        Card card = find(uid);
+        if (card != null) {
+            remove(card);
+        }
+        return card;
+    }
+
+    /**
+     * Hook for subclasses that index cards beyond their slot
+     */
+    protected void attach(Card card) {
+    }
+
+    protected void detach(Card card) {
+    }
+
+    /**
+     * Slot for a uid, or -1; a miss while some cards are unindexed (a uid
+     * collision, or a transient one mid-swap) re-indexes the zone first
+     */
+    private int slotOf(String uid) {
+        Integer slot = slots.get(uid);
+        if (slot == null && unindexed > 0) {
+            rebuildSlots();
+            slot = slots.get(uid);
+        }
+        return slot != null ? slot : -1;
+    }
+
+    private void indexSlot(Card card, int index) {
+        if (card.getUid() == null || slots.putIfAbsent(card.getUid(), index) != null) {
+            unindexed++;
+        }
+    }
+
+    private void unindexSlot(Card card, int index) {
+        if (card.getUid() != null && slots.remove(card.getUid(), index)) {
+            return;
+        }
+        unindexed--;
+    }
+
+    private void rebuildSlots() {
+        slots.clear();
+        unindexed = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            indexSlot(cards.get(i), i);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.game.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-capacity live game log
+ * Holds the most recent entries only; once full each append overwrites the
+ * oldest. Every appended entry is stamped with a monotonically increasing seq
+ * and handed to the sink, which keeps the full history elsewhere
+ */
+public class GameLogBuffer extends AbstractList<GameState.GameLog> {
+
+    private final GameState.GameLog[] entries;
+    private final Consumer<GameState.GameLog> sink;
+    private int head; // Index of the oldest entry
+    private int size;
+    private long appended;
+
+    public GameLogBuffer(int capacity) {
+        this(capacity, null);
+    }
+
+    public GameLogBuffer(int capacity, Consumer<GameState.GameLog> sink) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.entries = new GameState.GameLog[capacity];
+        this.sink = sink;
+    }
+
+    @Override
+    public boolean add(GameState.GameLog entry) {
+        entry.setSeq(appended++);
+        if (size < entries.length) {
+            entries[(head + size) % entries.length] = entry;
+            size++;
+        } else {
+            entries[head] = entry;
+            head = (head + 1) % entries.length;
+        }
+        modCount++;
+        if (sink != null) {
+            sink.accept(entry);
+        }
+        return true;
+    }
+
+    @Override
+    public GameState.GameLog get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return entries[(head + index) % entries.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Number of entries ever appended, including those that fell out of the buffer
+     */
+    public long getTotalAppended() {
+        return appended;
+    }
+}
@@ -0,0 +1,75 @@
+package com.game.model;
+
+import java.util.List;
+
+/**
+ * Per-game pseudo-random source (SplitMix64, the generator behind SplittableRandom)
+ * Every shuffle in a game draws from the game's own GameRandom, so a game is
+ * fully determined by its seed and its moves, and rooms never contend on a
+ * shared generator. The whole state is a single long: new GameRandom(getState())
+ * continues the exact same sequence, which is how snapshots resume it
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Uniform int in [0, bound), by multiply-shift with rejection (Lemire)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long m = (nextLong() >>> 32) * bound;
+        long low = m & 0xffffffffL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                m = (nextLong() >>> 32) * bound;
+                low = m & 0xffffffffL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Fisher-Yates shuffle in place
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            if (j != i) {
+                list.set(i, list.set(j, list.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Fisher-Yates shuffle of the first length values in place
+     */
+    public void shuffle(byte[] values, int length) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            byte swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    public long getState() {
+        return state;
+    }
+}
@@ -1,29 +1,182 @@
 package com.game.model;
 
 import lombok.Getter;
-import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * A game room with a single-writer mailbox
+ * Every mutation is enqueued and run one at a time in submission order,
+ * so callers never block on a busy room
+ */
 public class GameRoom {
+    private static final Logger log = LoggerFactory.getLogger(GameRoom.class);
+
     @Getter
     private final String roomId;
     private final GameState gameState;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<Queued> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Executor drainExecutor;
+    private volatile LongConsumer waitRecorder;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile boolean retired;
+    // Journal and snapshot bookkeeping, only touched from the mailbox
+    private long moveCount;
+    private long snapshotMoveCount;
+    private long snapshotNanos = System.nanoTime();
 
+    /**
+     * Room whose mailbox drains on the submitting thread
+     */
     public GameRoom(String roomId, GameState gameState) {
+        this(roomId, gameState, Runnable::run);
+    }
+
+    public GameRoom(String roomId, GameState gameState, Executor drainExecutor) {
         this.roomId = roomId;
         this.gameState = gameState;
+        this.drainExecutor = drainExecutor;
+    }
+
+    /**
+     * Enqueue a mutation and return immediately
+     * Only one drain runs at a time, so actions submitted from inside another
+     * action simply run after it instead of re-entering. Returns false if the
+     * room is retired and the action was dropped
+     */
+    public boolean submit(Runnable action) {
+        return submit(action, () -> log.debug("Room {} was retired, dropped a queued action", roomId));
+    }
+
+    /**
+     * Enqueue as above; if the room is retired after the action was queued but
+     * before it ran, onDropped runs in its place, on the mailbox after the
+     * action that retired the room. Returns false, without calling onDropped,
+     * if the room was already retired
+     */
+    public boolean submit(Runnable action, Runnable onDropped) {
+        if (retired) {
+            log.debug("Room {} is retired, dropping action", roomId);
+            return false;
+        }
+        mailbox.offer(new Queued(action, onDropped, System.nanoTime()));
+        if (wip.getAndIncrement() == 0) {
+            drainExecutor.execute(this::drain);
+        }
+        return true;
     }
 
-    public void executeWithLock(Runnable action) {
-        lock.lock();
+    private void drain() {
+        int missed = 1;
+        while (true) {
+            Queued next;
+            while ((next = mailbox.poll()) != null) {
+                if (retired) {
+                    // Evicted; whatever was queued behind the eviction is handed back instead
+                    run(next.onDropped);
+                    continue;
+                }
+                LongConsumer recorder = waitRecorder;
+                if (recorder != null) {
+                    recorder.accept(System.nanoTime() - next.enqueuedNanos);
+                }
+                run(next.action);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void run(Runnable action) {
         try {
             action.run();
-        } finally {
-            lock.unlock();
+        } catch (RuntimeException e) {
+            log.error("Room {} action failed", roomId, e);
         }
     }
 
+    /**
+     * Report how long each action waited in the mailbox, in nanoseconds
+     */
+    public void setWaitRecorder(LongConsumer waitRecorder) {
+        this.waitRecorder = waitRecorder;
+    }
+
+    /**
+     * Mark the room as used by a player now; idle eviction goes by this
+     */
+    public void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    /**
+     * Stop accepting and running actions; called from the mailbox when the
+     * room is evicted, so nothing can change its state afterwards
+     */
+    public void retire() {
+        retired = true;
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Number of submitted actions not yet completed
+     */
+    public int getMailboxDepth() {
+        return wip.get();
+    }
+
     public GameState getGameState() {
         return gameState;
     }
+
+    /**
+     * Number of this room's moves written to the journal
+     */
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    public void moveJournaled() {
+        moveCount++;
+    }
+
+    /**
+     * Continue counting from a restored game, treating it as just snapshotted
+     */
+    public void resumeAt(long moveCount) {
+        this.moveCount = moveCount;
+        this.snapshotMoveCount = moveCount;
+    }
+
+    public long getSnapshotMoveCount() {
+        return snapshotMoveCount;
+    }
+
+    public long getSnapshotNanos() {
+        return snapshotNanos;
+    }
+
+    public void snapshotTaken(long moveCount, long nanos) {
+        this.snapshotMoveCount = moveCount;
+        this.snapshotNanos = nanos;
+    }
+
+    private record Queued(Runnable action, Runnable onDropped, long enqueuedNanos) {
+    }
 }
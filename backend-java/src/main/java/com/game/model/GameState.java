@@ -1,22 +1,38 @@
 package com.game.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
 public class GameState {
     private String gameId;
+    private long seed;
+    private GameRandom random; // Every shuffle in the game, derived from seed
     private String status;
     private List<Player> players;
     private Stack<Card> deck;
     private List<Card> discardPile;
     private TurnContext turnContext;
     private List<GameLog> logs;
+    private MoveOutcome outcome; // Set only while a move is being recorded or replayed
 
     public GameState() {}
 
     public String getGameId() { return gameId; }
     public void setGameId(String gameId) { this.gameId = gameId; }
+    @JsonIgnore
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+    @JsonIgnore
+    public GameRandom getRandom() {
+        if (random == null) {
+            random = new GameRandom(seed);
+        }
+        return random;
+    }
+    public void setRandom(GameRandom random) { this.random = random; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
     public List<Player> getPlayers() { return players; }
@@ -29,6 +45,9 @@ public class GameState {
     public void setTurnContext(TurnContext turnContext) { this.turnContext = turnContext; }
     public List<GameLog> getLogs() { return logs; }
     public void setLogs(List<GameLog> logs) { this.logs = logs; }
+    @JsonIgnore
+    public MoveOutcome getOutcome() { return outcome; }
+    public void setOutcome(MoveOutcome outcome) { this.outcome = outcome; }
 
     public static class TurnContext {
         private int activePlayerId;
@@ -40,10 +59,12 @@ public class GameState {
         private int turnTimer;
         private boolean paused;
         private List<PaymentRequest> pendingPayments;
+        private List<PaymentRequest> paymentHistory;
         private boolean doubleRentActive;
 
         public TurnContext() {
             this.pendingPayments = new ArrayList<>();
+            this.paymentHistory = new ArrayList<>();
             this.doubleRentActive = false;
         }
 
@@ -65,6 +86,20 @@ public class GameState {
         public void setPaused(boolean paused) { this.paused = paused; }
         public List<PaymentRequest> getPendingPayments() { return pendingPayments; }
         public void setPendingPayments(List<PaymentRequest> pendingPayments) { this.pendingPayments = pendingPayments; }
+        public List<PaymentRequest> getPaymentHistory() { return paymentHistory; }
+        public void setPaymentHistory(List<PaymentRequest> paymentHistory) { this.paymentHistory = paymentHistory; }
+
+        /**
+         * Move settled requests off the pending queue into a history of at most capacity entries
+         */
+        public void retirePayments(List<PaymentRequest> settled, int capacity) {
+            pendingPayments.removeAll(settled);
+            paymentHistory.addAll(settled);
+            int overflow = paymentHistory.size() - capacity;
+            if (overflow > 0) {
+                paymentHistory.subList(0, overflow).clear();
+            }
+        }
         public boolean isDoubleRentActive() { return doubleRentActive; }
         public void setDoubleRentActive(boolean doubleRentActive) { this.doubleRentActive = doubleRentActive; }
     }
@@ -72,8 +107,11 @@ public class GameState {
     public static class GameLog {
         private String text;
         private String type;
+        private long seq;
         public GameLog() {}
         public GameLog(String text, String type) { this.text = text; this.type = type; }
+        public long getSeq() { return seq; }
+        public void setSeq(long seq) { this.seq = seq; }
         public String getText() { return text; }
         public void setText(String text) { this.text = text; }
         public String getType() { return type; }
@@ -98,6 +136,8 @@ public class GameState {
     public static class GameStateBuilder {
         private GameState gs = new GameState();
         public GameStateBuilder gameId(String id) { gs.gameId = id; return this; }
+        public GameStateBuilder seed(long seed) { gs.seed = seed; return this; }
+        public GameStateBuilder random(GameRandom random) { gs.random = random; return this; }
         public GameStateBuilder status(String s) { gs.status = s; return this; }
         public GameStateBuilder players(List<Player> p) { gs.players = p; return this; }
         public GameStateBuilder deck(Stack<Card> d) { gs.deck = d; return this; }
@@ -0,0 +1,27 @@
+package com.game.model;
+
+/**
+ * One change to the lobby list, as pushed on /topic/lobby
+ * lobby is the lobby after the change, or null once it is no longer
+ * joinable (full, started or removed) and should drop off the list
+ */
+public record LobbyEvent(Type type, String roomId, LobbyGame lobby) {
+
+    public enum Type {
+        CREATED,
+        PLAYERS_CHANGED,
+        STARTED,
+        REMOVED
+    }
+
+    /**
+     * Fold a later event for the same lobby into this one; the latest lobby
+     * wins, and a lobby clients have not been told about yet stays CREATED
+     */
+    public LobbyEvent then(LobbyEvent next) {
+        if (type == Type.CREATED && next.lobby != null) {
+            return new LobbyEvent(Type.CREATED, roomId, next.lobby);
+        }
+        return next;
+    }
+}
@@ -1,66 +1,59 @@
 package com.game.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Lobby information for a game room
  * Used for listing available games
+ * Immutable: a join, leave or start makes a new LobbyGame, so one can be
+ * handed out or serialized while the lobby keeps changing
  */
-public class LobbyGame {
-    private String roomId;
-    private String gameName;
-    private int currentPlayers;
-    private int maxPlayers;
-    private String status; // "WAITING", "PLAYING", "FINISHED"
-    private List<String> playerNames;
-    private String createdBy;
-    private long createdAt;
+public final class LobbyGame {
+    private final String roomId;
+    private final String gameName;
+    private final int maxPlayers;
+    private final String status; // "WAITING", "PLAYING", "FINISHED"
+    private final List<String> playerNames;
+    private final String createdBy;
+    private final long createdAt;
 
-    public LobbyGame() {
-        this.playerNames = new ArrayList<>();
-        this.createdAt = System.currentTimeMillis();
-        this.status = "WAITING";
+    public LobbyGame(String roomId, String gameName, int maxPlayers, String createdBy) {
+        this(roomId, gameName, maxPlayers, "WAITING", List.of(), createdBy, System.currentTimeMillis());
     }
 
-    public LobbyGame(String roomId, String gameName, int maxPlayers, String createdBy) {
-        this();
+    private LobbyGame(String roomId, String gameName, int maxPlayers, String status,
+                      List<String> playerNames, String createdBy, long createdAt) {
         this.roomId = roomId;
         this.gameName = gameName;
         this.maxPlayers = maxPlayers;
+        this.status = status;
+        this.playerNames = List.copyOf(playerNames);
         this.createdBy = createdBy;
+        this.createdAt = createdAt;
+    }
+
+    public LobbyGame withPlayers(List<String> playerNames) {
+        return new LobbyGame(roomId, gameName, maxPlayers, status, playerNames, createdBy, createdAt);
+    }
+
+    public LobbyGame withStatus(String status) {
+        return new LobbyGame(roomId, gameName, maxPlayers, status, playerNames, createdBy, createdAt);
     }
 
     public boolean isFull() {
-        return currentPlayers >= maxPlayers;
+        return getCurrentPlayers() >= maxPlayers;
     }
 
     public boolean canJoin() {
         return !isFull() && "WAITING".equals(status);
     }
 
-    // Getters and setters
     public String getRoomId() { return roomId; }
-    public void setRoomId(String roomId) { this.roomId = roomId; }
-    
     public String getGameName() { return gameName; }
-    public void setGameName(String gameName) { this.gameName = gameName; }
-    
-    public int getCurrentPlayers() { return currentPlayers; }
-    public void setCurrentPlayers(int currentPlayers) { this.currentPlayers = currentPlayers; }
-    
+    public int getCurrentPlayers() { return playerNames.size(); }
     public int getMaxPlayers() { return maxPlayers; }
-    public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
-    
     public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
-    
     public List<String> getPlayerNames() { return playerNames; }
-    public void setPlayerNames(List<String> playerNames) { this.playerNames = playerNames; }
-    
     public String getCreatedBy() { return createdBy; }
-    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
-    
     public long getCreatedAt() { return createdAt; }
-    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,11 @@
+package com.game.model;
+
+import java.util.List;
+
+/**
+ * One page of joinable lobbies, newest first
+ * Lobbies are as they were when the page was built; nextCursor resumes after
+ * the last of them and is null on the last page
+ */
+public record LobbyPage(List<LobbyGame> lobbies, String nextCursor) {
+}
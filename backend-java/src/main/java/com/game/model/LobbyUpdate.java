@@ -0,0 +1,46 @@
+package com.game.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Envelope for the lobby feed
+ * A SNAPSHOT carries the first page of joinable lobbies as of batch seq and
+ * answers a subscription, with the cursor clients pass to the REST listing
+ * for further pages; a BATCH on /topic/lobby carries the coalesced changes
+ * since batch seq - 1. Clients apply only batches newer than their snapshot
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LobbyUpdate {
+    public static final String SNAPSHOT = "SNAPSHOT";
+    public static final String BATCH = "BATCH";
+
+    private final String type;
+    private final long seq;
+    private final List<LobbyGame> lobbies;
+    private final String nextCursor;
+    private final List<LobbyEvent> events;
+
+    private LobbyUpdate(String type, long seq, List<LobbyGame> lobbies, String nextCursor, List<LobbyEvent> events) {
+        this.type = type;
+        this.seq = seq;
+        this.lobbies = lobbies;
+        this.nextCursor = nextCursor;
+        this.events = events;
+    }
+
+    public static LobbyUpdate snapshot(long seq, LobbyPage firstPage) {
+        return new LobbyUpdate(SNAPSHOT, seq, firstPage.lobbies(), firstPage.nextCursor(), null);
+    }
+
+    public static LobbyUpdate batch(long seq, List<LobbyEvent> events) {
+        return new LobbyUpdate(BATCH, seq, null, null, events);
+    }
+
+    public String getType() { return type; }
+    public long getSeq() { return seq; }
+    public List<LobbyGame> getLobbies() { return lobbies; }
+    public String getNextCursor() { return nextCursor; }
+    public List<LobbyEvent> getEvents() { return events; }
+}
@@ -0,0 +1,60 @@
+package com.game.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What a move resolved to beyond the move itself: the cards drawn and the
+ * cards handed over for each payment
+ * Filled in by the engine while a move is applied so it can be journaled;
+ * replay compares the outcome it gets against the recorded one
+ */
+public class MoveOutcome {
+
+    private final List<Payment> payments = new ArrayList<>(0);
+    private int[] drawn = new int[8];
+    private int drawnCount;
+
+    public void drew(int cardId) {
+        if (drawnCount == drawn.length) {
+            drawn = Arrays.copyOf(drawn, drawnCount * 2);
+        }
+        drawn[drawnCount++] = cardId;
+    }
+
+    public void paid(int fromPlayerId, int toPlayerId, int[] cardIds) {
+        payments.add(new Payment(fromPlayerId, toPlayerId, cardIds));
+    }
+
+    public int[] getDrawn() {
+        return Arrays.copyOf(drawn, drawnCount);
+    }
+
+    public List<Payment> getPayments() {
+        return Collections.unmodifiableList(payments);
+    }
+
+    /**
+     * True if both outcomes drew and paid exactly the same cards
+     */
+    public boolean sameAs(MoveOutcome other) {
+        if (payments.size() != other.payments.size()
+                || !Arrays.equals(drawn, 0, drawnCount, other.drawn, 0, other.drawnCount)) {
+            return false;
+        }
+        for (int i = 0; i < payments.size(); i++) {
+            Payment a = payments.get(i);
+            Payment b = other.payments.get(i);
+            if (a.fromPlayerId() != b.fromPlayerId() || a.toPlayerId() != b.toPlayerId()
+                    || !Arrays.equals(a.cardIds(), b.cardIds())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record Payment(int fromPlayerId, int toPlayerId, int[] cardIds) {
+    }
+}
@@ -7,14 +7,12 @@ public class Player {
     private int id;
     private String name;
     private boolean isHuman;
-    private List<Card> hand;
-    private List<Card> properties;
-    private List<Card> bank;
+    private BotDifficulty difficulty = BotDifficulty.STANDARD;
+    private final CardZone hand = new CardZone();
+    private final PropertyZone properties = new PropertyZone();
+    private final CardZone bank = new CardZone();
 
     public Player() {
-        this.hand = new ArrayList<>();
-        this.properties = new ArrayList<>();
-        this.bank = new ArrayList<>();
     }
 
     public Player(int id, String name, boolean isHuman) {
@@ -30,10 +28,73 @@ public class Player {
     public void setName(String name) { this.name = name; }
     public boolean isHuman() { return isHuman; }
     public void setHuman(boolean human) { isHuman = human; }
-    public List<Card> getHand() { return hand; }
-    public void setHand(List<Card> hand) { this.hand = hand; }
-    public List<Card> getProperties() { return properties; }
-    public void setProperties(List<Card> properties) { this.properties = properties; }
-    public List<Card> getBank() { return bank; }
-    public void setBank(List<Card> bank) { this.bank = bank; }
+    public BotDifficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(BotDifficulty difficulty) { this.difficulty = difficulty; }
+    public CardZone getHand() { return hand; }
+    public void setHand(List<Card> hand) { replace(this.hand, hand); }
+    public PropertyZone getProperties() { return properties; }
+    public void setProperties(List<Card> properties) { replace(this.properties, properties); }
+    public CardZone getBank() { return bank; }
+    public void setBank(List<Card> bank) { replace(this.bank, bank); }
+
+    // Zones are indexed, so setters copy into them rather than swapping the list
+    private static void replace(CardZone zone, List<Card> cards) {
+        if (cards != zone) {
+            List<Card> copy = new ArrayList<>(cards);
+            zone.clear();
+            zone.addAll(copy);
+        }
+    }
+
+    /**
+     * Properties on the table per PropertyColor ordinal
+     */
+    public int[] countByColor() {
+        return properties.counts();
+    }
+
+    public int countOf(PropertyColor color) {
+        return properties.countOf(color);
+    }
+
+    public boolean hasCompleteSet(PropertyColor color) {
+        return properties.isComplete(color);
+    }
+
+    /**
+     * Number of complete property sets on the table
+     */
+    public int countCompletedSets() {
+        return properties.completedSets();
+    }
+
+    /**
+     * First complete set in PropertyColor order, or null
+     */
+    public PropertyColor firstCompleteSet() {
+        int mask = properties.completeMask();
+        return mask == 0 ? null : PropertyColor.ofOrdinal(Integer.numberOfTrailingZeros(mask));
+    }
+
+    public int housesOf(PropertyColor color) {
+        return properties.housesOf(color);
+    }
+
+    public int hotelsOf(PropertyColor color) {
+        return properties.hotelsOf(color);
+    }
+
+    /**
+     * Properties counted towards a color
+     */
+    public List<Card> propertiesOf(PropertyColor color) {
+        return properties.cardsOf(color);
+    }
+
+    /**
+     * Combined face value of the properties on the table
+     */
+    public int propertyValue() {
+        return properties.totalValue();
+    }
 }
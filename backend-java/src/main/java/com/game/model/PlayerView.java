@@ -0,0 +1,84 @@
+package com.game.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What one seat is allowed to see of a game
+ * The viewer's own hand is included; opponents' hands are reduced to a count
+ * and the draw deck to its size. Spectators use viewerId -1 and see no hands
+ */
+public class PlayerView {
+    public static final int SPECTATOR = -1;
+
+    private String gameId;
+    private String status;
+    private int viewerId;
+    private List<SeatView> players;
+    private int deckSize;
+    private List<Card> discardPile;
+    private GameState.TurnContext turnContext;
+    private List<GameState.GameLog> logs;
+
+    public PlayerView() {}
+
+    public static PlayerView project(GameState state, int viewerId) {
+        PlayerView view = new PlayerView();
+        view.gameId = state.getGameId();
+        view.status = state.getStatus();
+        view.viewerId = viewerId;
+        view.deckSize = state.getDeck().size();
+        view.discardPile = state.getDiscardPile();
+        view.turnContext = state.getTurnContext();
+        view.logs = state.getLogs();
+        view.players = new ArrayList<>(state.getPlayers().size());
+        for (Player p : state.getPlayers()) {
+            view.players.add(SeatView.of(p, p.getId() == viewerId));
+        }
+        return view;
+    }
+
+    public String getGameId() { return gameId; }
+    public String getStatus() { return status; }
+    public int getViewerId() { return viewerId; }
+    public List<SeatView> getPlayers() { return players; }
+    public int getDeckSize() { return deckSize; }
+    public List<Card> getDiscardPile() { return discardPile; }
+    public GameState.TurnContext getTurnContext() { return turnContext; }
+    public List<GameState.GameLog> getLogs() { return logs; }
+
+    /**
+     * One player as seen by the viewer
+     */
+    public static class SeatView {
+        private int id;
+        private String name;
+        private boolean human;
+        private List<Card> hand;
+        private int handCount;
+        private List<Card> bank;
+        private List<Card> properties;
+
+        public SeatView() {}
+
+        static SeatView of(Player p, boolean own) {
+            SeatView seat = new SeatView();
+            seat.id = p.getId();
+            seat.name = p.getName();
+            seat.human = p.isHuman();
+            seat.hand = own ? p.getHand() : null;
+            seat.handCount = p.getHand().size();
+            seat.bank = p.getBank();
+            seat.properties = p.getProperties();
+            return seat;
+        }
+
+        public int getId() { return id; }
+        public String getName() { return name; }
+        public boolean isHuman() { return human; }
+        public List<Card> getHand() { return hand; }
+        public int getHandCount() { return handCount; }
+        public List<Card> getBank() { return bank; }
+        public List<Card> getProperties() { return properties; }
+    }
+}
@@ -0,0 +1,116 @@
+package com.game.model;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * The ten property colors with their set size and rent table
+ * Cards and the client still carry colors as their lowercase key
+ * ("dark_blue"); rules code converts once with fromKey and then works on
+ * ordinals, so set and rent checks are array reads
+ */
+public enum PropertyColor {
+    BROWN("brown", 1, 2),
+    LIGHT_BLUE("light_blue", 1, 2, 3),
+    PINK("pink", 1, 2, 4),
+    ORANGE("orange", 1, 3, 5),
+    RED("red", 2, 3, 6),
+    YELLOW("yellow", 2, 4, 6),
+    GREEN("green", 2, 4, 7),
+    DARK_BLUE("dark_blue", 3, 8),
+    RAILROAD("railroad", 1, 2, 4, 8),
+    UTILITY("utility", 1, 2);
+
+    public static final int COUNT = values().length;
+    public static final int ALL_MASK = (1 << COUNT) - 1;
+    private static final PropertyColor[] BY_ORDINAL = values();
+
+    private final String key;
+    private final int[] rent;
+
+    PropertyColor(String key, int... rent) {
+        this.key = key;
+        this.rent = rent;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Properties needed for a complete set; the rent table has one entry per property
+     */
+    public int setSize() {
+        return rent.length;
+    }
+
+    public boolean isComplete(int count) {
+        return count >= rent.length;
+    }
+
+    /**
+     * Base rent for owning count properties of this color, 0 for none
+     */
+    public int rentFor(int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        return rent[Math.min(count, rent.length) - 1];
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static PropertyColor ofOrdinal(int ordinal) {
+        return BY_ORDINAL[ordinal];
+    }
+
+    /**
+     * Color for a key, or null for null/unknown keys
+     */
+    public static PropertyColor fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        return switch (key) {
+            case "brown" -> BROWN;
+            case "light_blue" -> LIGHT_BLUE;
+            case "pink" -> PINK;
+            case "orange" -> ORANGE;
+            case "red" -> RED;
+            case "yellow" -> YELLOW;
+            case "green" -> GREEN;
+            case "dark_blue" -> DARK_BLUE;
+            case "railroad" -> RAILROAD;
+            case "utility" -> UTILITY;
+            default -> null;
+        };
+    }
+
+    /**
+     * Bitmask of the known colors among keys
+     */
+    public static int maskOf(List<String> keys) {
+        int mask = 0;
+        if (keys != null) {
+            for (String key : keys) {
+                PropertyColor color = fromKey(key);
+                if (color != null) {
+                    mask |= color.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<PropertyColor> setOf(int mask) {
+        EnumSet<PropertyColor> colors = EnumSet.noneOf(PropertyColor.class);
+        for (PropertyColor color : BY_ORDINAL) {
+            if ((mask & color.bit()) != 0) {
+                colors.add(color);
+            }
+        }
+        return colors;
+    }
+}
@@ -0,0 +1,144 @@
+package com.game.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A player's properties on the table, indexed by color
+ * On top of the uid slots of a CardZone, every add/remove/set keeps per-color
+ * card lists, counts, building counts and the complete-set mask up to date.
+ * Cards in the zone point back at it, so recoloring a wild or adding a
+ * building re-indexes that one card instead of the next reader rescanning
+ * the table
+ */
+public class PropertyZone extends CardZone {
+
+    private final List<List<Card>> byColor = new ArrayList<>(PropertyColor.COUNT);
+    private final int[] counts = new int[PropertyColor.COUNT];
+    private final int[] houses = new int[PropertyColor.COUNT];
+    private final int[] hotels = new int[PropertyColor.COUNT];
+    private int completeMask;
+    private int totalValue;
+
+    public PropertyZone() {
+        for (int i = 0; i < PropertyColor.COUNT; i++) {
+            byColor.add(new ArrayList<>(4));
+        }
+    }
+
+    public int countOf(PropertyColor color) {
+        return counts[color.ordinal()];
+    }
+
+    /**
+     * Copy of the per-color counts, indexed by PropertyColor ordinal
+     */
+    public int[] counts() {
+        return counts.clone();
+    }
+
+    public boolean isComplete(PropertyColor color) {
+        return (completeMask & color.bit()) != 0;
+    }
+
+    /**
+     * Bit per PropertyColor that currently forms a complete set
+     */
+    public int completeMask() {
+        return completeMask;
+    }
+
+    public int completedSets() {
+        return Integer.bitCount(completeMask);
+    }
+
+    public int housesOf(PropertyColor color) {
+        return houses[color.ordinal()];
+    }
+
+    public int hotelsOf(PropertyColor color) {
+        return hotels[color.ordinal()];
+    }
+
+    /**
+     * Read-only view of the cards counted towards a color, in the order they joined it
+     */
+    public List<Card> cardsOf(PropertyColor color) {
+        return Collections.unmodifiableList(byColor.get(color.ordinal()));
+    }
+
+    public int totalValue() {
+        return totalValue;
+    }
+
+    @Override
+    protected void attach(Card card) {
+        card.setZone(this);
+        index(card);
+    }
+
+    @Override
+    protected void detach(Card card) {
+        unindex(card);
+        if (card.getZone() == this) {
+            card.setZone(null);
+        }
+    }
+
+    /**
+     * Called by a card in this zone before one of its indexed attributes changes
+     */
+    void beforeChange(Card card) {
+        unindex(card);
+    }
+
+    /**
+     * Called by a card in this zone after one of its indexed attributes changed
+     */
+    void afterChange(Card card) {
+        index(card);
+    }
+
+    private void index(Card card) {
+        totalValue += card.getValue();
+        PropertyColor color = card.getPropertyColor();
+        if (color == null) {
+            return;
+        }
+        int i = color.ordinal();
+        byColor.get(i).add(card);
+        counts[i]++;
+        if (card.hasHouse()) houses[i]++;
+        if (card.hasHotel()) hotels[i]++;
+        updateComplete(color);
+    }
+
+    private void unindex(Card card) {
+        totalValue -= card.getValue();
+        PropertyColor color = card.getPropertyColor();
+        if (color == null) {
+            return;
+        }
+        int i = color.ordinal();
+        List<Card> list = byColor.get(i);
+        for (int j = list.size() - 1; j >= 0; j--) {
+            if (list.get(j) == card) {
+                list.remove(j);
+                break;
+            }
+        }
+        counts[i]--;
+        if (card.hasHouse()) houses[i]--;
+        if (card.hasHotel()) hotels[i]--;
+        updateComplete(color);
+    }
+
+    private void updateComplete(PropertyColor color) {
+        if (color.isComplete(counts[color.ordinal()])) {
+            completeMask |= color.bit();
+        } else {
+            completeMask &= ~color.bit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.game.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes between two consecutive published versions of a GameState
+ * Zones are keyed "discard", "p{id}.hand", "p{id}.bank" and "p{id}.properties"
+ * and carry the full ordered uid list of every zone that changed
+ * In a seat's view, opponents' hand zones are replaced by handCounts
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class StatePatch {
+    private String status;
+    private GameState.TurnContext turnContext;
+    private Map<String, List<String>> zones = new LinkedHashMap<>();
+    private List<Card> cards = new ArrayList<>();
+    private Map<Integer, Integer> handCounts = new LinkedHashMap<>();
+    private Integer deckSize;
+    private List<GameState.GameLog> logs = new ArrayList<>();
+
+    public StatePatch() {}
+
+    public boolean isEmpty() {
+        return status == null && turnContext == null && zones.isEmpty()
+            && cards.isEmpty() && handCounts.isEmpty() && deckSize == null && logs.isEmpty();
+    }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public GameState.TurnContext getTurnContext() { return turnContext; }
+    public void setTurnContext(GameState.TurnContext turnContext) { this.turnContext = turnContext; }
+    public Map<String, List<String>> getZones() { return zones; }
+    public void setZones(Map<String, List<String>> zones) { this.zones = zones; }
+    public List<Card> getCards() { return cards; }
+    public void setCards(List<Card> cards) { this.cards = cards; }
+    public Map<Integer, Integer> getHandCounts() { return handCounts; }
+    public void setHandCounts(Map<Integer, Integer> handCounts) { this.handCounts = handCounts; }
+    public Integer getDeckSize() { return deckSize; }
+    public void setDeckSize(Integer deckSize) { this.deckSize = deckSize; }
+    public List<GameState.GameLog> getLogs() { return logs; }
+    public void setLogs(List<GameState.GameLog> logs) { this.logs = logs; }
+}
@@ -0,0 +1,41 @@
+package com.game.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Envelope for everything published to a room's viewers
+ * A KEYFRAME carries the viewer's full PlayerView; a PATCH applies on top of version baseSeq
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StateUpdate {
+    public static final String KEYFRAME = "KEYFRAME";
+    public static final String PATCH = "PATCH";
+
+    private final String type;
+    private final long seq;
+    private final Long baseSeq;
+    private final PlayerView state;
+    private final StatePatch patch;
+
+    private StateUpdate(String type, long seq, Long baseSeq, PlayerView state, StatePatch patch) {
+        this.type = type;
+        this.seq = seq;
+        this.baseSeq = baseSeq;
+        this.state = state;
+        this.patch = patch;
+    }
+
+    public static StateUpdate keyframe(long seq, PlayerView state) {
+        return new StateUpdate(KEYFRAME, seq, null, state, null);
+    }
+
+    public static StateUpdate patch(long baseSeq, long seq, StatePatch patch) {
+        return new StateUpdate(PATCH, seq, baseSeq, null, patch);
+    }
+
+    public String getType() { return type; }
+    public long getSeq() { return seq; }
+    public Long getBaseSeq() { return baseSeq; }
+    public PlayerView getState() { return state; }
+    public StatePatch getPatch() { return patch; }
+}
@@ -8,7 +8,7 @@ public class UserSession {
     private String sessionId;
     private String username;
     private String currentGameId;
-    private long lastActivity;
+    private volatile long lastActivity; // Written by requests, read by the expiry sweep
     private boolean isGuest;
 
     public UserSession() {
@@ -0,0 +1,27 @@
+package com.game.service;
+
+import com.game.model.Player;
+
+/**
+ * Rules for one kind of card play, registered with GameEngine per ActionType
+ * (or per CardType for money, property and rent cards). The engine calls the
+ * methods in pipeline order and skips the rest once a play is cancelled
+ */
+public interface ActionHandler {
+
+    /**
+     * Pick the opponents the play is aimed at; may cancel the play instead
+     */
+    default void resolveTargets(PlayContext play) {
+    }
+
+    /**
+     * Whether a target answers the play with Just Say No; blocked targets are
+     * dropped before apply, and a play left with no targets is cancelled
+     */
+    default boolean blocks(PlayContext play, Player target) {
+        return false;
+    }
+
+    void apply(PlayContext play);
+}
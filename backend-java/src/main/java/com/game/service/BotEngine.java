@@ -7,6 +7,9 @@ import java.util.*;
 @Service
 public class BotEngine {
 
+    // Above the card count, so card count only ever breaks ties in payment cost
+    private static final int PAYMENT_COST_SCALE = 128;
+
     public Move calculateBestMove(GameState state, int botId) {
         Player bot = state.getPlayers().get(botId);
         
@@ -167,36 +170,71 @@ public class BotEngine {
         return optimizePayment(availableCards, amount, bot);
     }
 
-    private int getSpendPriority(Card card) {
-        // Lower number = Spend First (used for tie-breaking equal values)
-        if (card.getType() == CardType.MONEY) return 1;
-        // Action/Rent cards in Bank are treated as Money
-        if (card.getType() == CardType.ACTION || card.getType() == CardType.RENT || card.getType() == CardType.RENT_WILD) return 1; 
-        return 2; // Property (Spend last)
-    }
+    /**
+     * Cheapest subset of the cards that covers amount, by 0/1 knapsack over paid value
+     * A card costs its keep priority, each $1M paid over the amount costs one
+     * priority point, and fewer cards break ties. Keep priorities are worked
+     * out once per call; if the cards cannot cover the amount, all are paid
+     */
+    private List<Card> optimizePayment(List<Card> cards, int amount, Player bot) {
+        int n = cards.size();
+        int[] values = new int[n];
+        int[] costs = new int[n];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            Card card = cards.get(i);
+            values[i] = Math.max(0, card.getValue());
+            costs[i] = getKeepPriority(card, bot) * PAYMENT_COST_SCALE + 1;
+            total += values[i];
+        }
+        if (total < amount) {
+            return cards;
+        }
+        if (amount <= 0) {
+            return new ArrayList<>();
+        }
 
-    private List<Card> optimizePayment(List<Card> selectedCards, int amount, Player bot) {
-        int totalValue = selectedCards.stream().mapToInt(Card::getValue).sum();
-        
-        // Sort by "Keep Priority" (High to Low) so we try to remove valuable cards first
-        selectedCards.sort((c1, c2) -> {
-            int p1 = getKeepPriority(c1, bot);
-            int p2 = getKeepPriority(c2, bot);
-            if (p1 != p2) return Integer.compare(p2, p1); // Higher priority first
-            return Integer.compare(c2.getValue(), c1.getValue()); // Higher value first
-        });
+        // best[t]: cheapest cost of a subset worth exactly t
+        int[] best = new int[total + 1];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        best[0] = 0;
+        boolean[][] taken = new boolean[n][total + 1];
+        for (int i = 0; i < n; i++) {
+            for (int t = total; t >= values[i]; t--) {
+                int without = best[t - values[i]];
+                if (without != Integer.MAX_VALUE && without + costs[i] < best[t]) {
+                    best[t] = without + costs[i];
+                    taken[i][t] = true;
+                }
+            }
+        }
 
-        // Try to remove cards while still satisfying the debt
-        Iterator<Card> it = selectedCards.iterator();
-        while (it.hasNext()) {
-            Card card = it.next();
-            if (totalValue - card.getValue() >= amount) {
-                totalValue -= card.getValue();
-                it.remove();
+        int target = -1;
+        long targetCost = Long.MAX_VALUE;
+        for (int t = amount; t <= total; t++) {
+            if (best[t] != Integer.MAX_VALUE) {
+                long cost = best[t] + (long) (t - amount) * PAYMENT_COST_SCALE;
+                if (cost < targetCost) {
+                    targetCost = cost;
+                    target = t;
+                }
             }
         }
-        
-        return selectedCards;
+
+        boolean[] pay = new boolean[n];
+        for (int i = n - 1, t = target; i >= 0; i--) {
+            if (taken[i][t]) {
+                pay[i] = true;
+                t -= values[i];
+            }
+        }
+        List<Card> payment = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (pay[i]) {
+                payment.add(cards.get(i));
+            }
+        }
+        return payment;
     }
 
     private int getKeepPriority(Card card, Player bot) {
@@ -250,29 +288,10 @@ public class BotEngine {
     private int checkSetStatus(Card card, Player bot) {
         if (card.getType() != CardType.PROPERTY && card.getType() != CardType.PROPERTY_WILD) return -1;
         
-        String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
+        PropertyColor color = card.getPropertyColor();
         if (color == null) return -1;
         
-        long count = bot.getProperties().stream()
-                .filter(c -> {
-                    String C = c.getCurrentColor() != null ? c.getCurrentColor() : c.getColor();
-                    return C != null && C.equals(color);
-                })
-                .count();
-                
-        int required = getRequiredCountForColor(color);
-        if (required == 0) return -1;
-        
-        return Math.max(0, required - (int)count);
-    }
-    
-    private int getRequiredCountForColor(String color) {
-         Map<String, Integer> requiredCounts = Map.of(
-            "brown", 2, "light_blue", 3, "pink", 3, "orange", 3,
-            "red", 3, "yellow", 3, "green", 3, "dark_blue", 2, 
-            "railroad", 4, "utility", 2
-        );
-        return requiredCounts.getOrDefault(color, 0);
+        return Math.max(0, color.setSize() - bot.countOf(color));
     }
 
     private int calculateBotWealth(Player bot) {
@@ -295,31 +314,7 @@ public class BotEngine {
     }
 
     private int countBotCompletedSets(Player bot) {
-        // Simple count of properties by color
-        Map<String, Integer> colorCounts = new HashMap<>();
-        for (Card card : bot.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null) {
-                colorCounts.put(color, colorCounts.getOrDefault(color, 0) + 1);
-            }
-        }
-        
-        // Count complete sets (simplified)
-        int completed = 0;
-        Map<String, Integer> requiredCounts = Map.of(
-            "brown", 2, "light_blue", 3, "pink", 3, "orange", 3,
-            "red", 3, "yellow", 3, "green", 3, "dark_blue", 2, 
-            "railroad", 4, "utility", 2
-        );
-        
-        for (Map.Entry<String, Integer> entry : colorCounts.entrySet()) {
-            Integer required = requiredCounts.get(entry.getKey());
-            if (required != null && entry.getValue() >= required) {
-                completed++;
-            }
-        }
-        
-        return completed;
+        return bot.countCompletedSets();
     }
 
     private boolean opponentsHaveProperties(GameState state, int botId) {
@@ -0,0 +1,194 @@
+package com.game.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared scheduler for delayed bot steps across all rooms
+ * A single timer thread holds every pending step; when a step is due it is
+ * handed to a virtual thread, so no OS thread is parked per bot turn
+ */
+@Service
+public class BotTurnScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BotTurnScheduler.class);
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService workers;
+    private final Map<String, Set<BotStep>> pendingByRoom = new ConcurrentHashMap<>();
+
+    // Metrics
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong lastLagMs = new AtomicLong();
+    private final AtomicLong maxLagMs = new AtomicLong();
+    private final LongAdder totalLagMs = new LongAdder();
+    private final LongAdder firedSteps = new LongAdder();
+
+    public BotTurnScheduler() {
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "bot-turn-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bot-step-", 0).factory());
+    }
+
+    /**
+     * Run a bot step for a room after the given delay
+     */
+    public void schedule(String roomId, long delayMs, Runnable action) {
+        BotStep step = new BotStep(roomId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs), action);
+        pendingByRoom.compute(roomId, (id, steps) -> {
+            Set<BotStep> result = steps != null ? steps : new HashSet<>();
+            result.add(step);
+            return result;
+        });
+        queueDepth.incrementAndGet();
+
+        try {
+            step.future = timer.schedule(step, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Bot scheduler is shut down, dropping step for room {}", roomId);
+            untrack(step);
+            step.cancel();
+        }
+    }
+
+    /**
+     * Cancel every pending bot step for a room (game over or room torn down)
+     */
+    public void cancelRoom(String roomId) {
+        Set<BotStep> steps = pendingByRoom.remove(roomId);
+        if (steps == null) {
+            return;
+        }
+        for (BotStep step : steps) {
+            step.cancel();
+        }
+        log.info("Cancelled {} pending bot steps for room {}", steps.size(), roomId);
+    }
+
+    private void untrack(BotStep step) {
+        pendingByRoom.computeIfPresent(step.roomId, (id, steps) -> {
+            steps.remove(step);
+            return steps.isEmpty() ? null : steps;
+        });
+    }
+
+    private void recordLag(long lagNanos) {
+        long lag = Math.max(0, TimeUnit.NANOSECONDS.toMillis(lagNanos));
+        lastLagMs.set(lag);
+        maxLagMs.accumulateAndGet(lag, Math::max);
+        totalLagMs.add(lag);
+        firedSteps.increment();
+    }
+
+    /**
+     * Number of bot steps waiting to fire
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Number of rooms with at least one pending bot step
+     */
+    public int getPendingRoomCount() {
+        return pendingByRoom.size();
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMs.get();
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMs.get();
+    }
+
+    public double getAverageLagMillis() {
+        long fired = firedSteps.sum();
+        return fired == 0 ? 0.0 : (double) totalLagMs.sum() / fired;
+    }
+
+    public long getTotalLagMillis() {
+        return totalLagMs.sum();
+    }
+
+    public long getFiredStepCount() {
+        return firedSteps.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+
+    /**
+     * A single pending bot step; runs or cancels exactly once
+     */
+    private final class BotStep implements Runnable {
+        private final String roomId;
+        private final long dueAtNanos;
+        private final Runnable action;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile ScheduledFuture<?> future;
+
+        private BotStep(String roomId, long dueAtNanos, Runnable action) {
+            this.roomId = roomId;
+            this.dueAtNanos = dueAtNanos;
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            queueDepth.decrementAndGet();
+            untrack(this);
+            recordLag(System.nanoTime() - dueAtNanos);
+
+            try {
+                workers.execute(() -> {
+                    try {
+                        action.run();
+                    } catch (RuntimeException e) {
+                        log.error("Bot step failed in room {}", roomId, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("Bot workers are shut down, dropping step for room {}", roomId);
+            }
+        }
+
+        private void cancel() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            queueDepth.decrementAndGet();
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package com.game.service;
+
+import com.game.constants.GameConstants;
+import com.game.model.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Stack;
+
+/**
+ * Struct-of-arrays copy of a game, for code that clones positions by the
+ * thousand (bot search, simulation)
+ * Every zone is a run of card ids in one byte[], per-player per-color counts
+ * and complete-set masks are kept as the properties zones change, and the
+ * turn context is packed into a long. Strings (game id, names, status,
+ * payment reasons) are immutable and shared, so copyInto is a handful of
+ * array copies with no allocation. Only what affects play is kept: the
+ * log, resolved payment history and reaction effect are not
+ */
+public final class CompactGameState {
+
+    public static final int CARDS = DeckGenerator.templates().size();
+    public static final int HAND = 0;
+    public static final int BANK = 1;
+    public static final int PROPERTIES = 2;
+    private static final int ZONES_PER_PLAYER = 3;
+    private static final int MAX_PAYMENTS = 8;
+    private static final int PAYMENT_INTS = 4; // from, to, amount, card id
+    private static final byte NO_COLOR = -1;
+    private static final byte HOUSE = 1;
+    private static final byte HOTEL = 2;
+
+    // Turn context bits
+    private static final int ACTIVE_SHIFT = 0;
+    private static final int ACTIONS_SHIFT = 4;
+    private static final int TARGET_SHIFT = 8; // Player id + 1, 0 for none
+    private static final int PENDING_CARD_SHIFT = 16; // Card id + 1, 0 for none
+    private static final long WAITING = 1L << 24;
+    private static final long PAUSED = 1L << 25;
+    private static final long DOUBLE_RENT = 1L << 26;
+    private static final int TIMER_SHIFT = 32;
+
+    private final int players;
+    private final String[] names;
+    private final boolean[] human;
+    private final byte[] difficulty;
+    private final byte[] cards; // CARDS slots per zone
+    private final int[] sizes;
+    private final byte[] cardColor; // PropertyColor ordinal per card id, NO_COLOR for none
+    private final byte[] buildings; // HOUSE | HOTEL per card id
+    private final int[] colorCounts; // PropertyColor.COUNT per player
+    private final int[] completeMasks;
+    private final int[] payments = new int[MAX_PAYMENTS * PAYMENT_INTS];
+    private final String[] paymentReasons = new String[MAX_PAYMENTS];
+    private int paymentCount;
+    private String gameId;
+    private long seed;
+    private long randomState;
+    private String status;
+    private long turn;
+
+    public CompactGameState(int players) {
+        this.players = players;
+        this.names = new String[players];
+        this.human = new boolean[players];
+        this.difficulty = new byte[players];
+        int zones = players * ZONES_PER_PLAYER + 2;
+        this.cards = new byte[zones * CARDS];
+        this.sizes = new int[zones];
+        this.cardColor = new byte[CARDS];
+        this.buildings = new byte[CARDS];
+        this.colorCounts = new int[players * PropertyColor.COUNT];
+        this.completeMasks = new int[players];
+    }
+
+    public static CompactGameState of(GameState state) {
+        CompactGameState compact = new CompactGameState(state.getPlayers().size());
+        compact.load(state);
+        return compact;
+    }
+
+    /**
+     * Overwrite target with this state; both must seat the same number of players
+     */
+    public void copyInto(CompactGameState target) {
+        if (target.players != players) {
+            throw new IllegalArgumentException("Cannot copy " + players + " seats into " + target.players);
+        }
+        System.arraycopy(names, 0, target.names, 0, players);
+        System.arraycopy(human, 0, target.human, 0, players);
+        System.arraycopy(difficulty, 0, target.difficulty, 0, players);
+        System.arraycopy(cards, 0, target.cards, 0, cards.length);
+        System.arraycopy(sizes, 0, target.sizes, 0, sizes.length);
+        System.arraycopy(cardColor, 0, target.cardColor, 0, CARDS);
+        System.arraycopy(buildings, 0, target.buildings, 0, CARDS);
+        System.arraycopy(colorCounts, 0, target.colorCounts, 0, colorCounts.length);
+        System.arraycopy(completeMasks, 0, target.completeMasks, 0, players);
+        System.arraycopy(payments, 0, target.payments, 0, paymentCount * PAYMENT_INTS);
+        System.arraycopy(paymentReasons, 0, target.paymentReasons, 0, paymentCount);
+        target.paymentCount = paymentCount;
+        target.gameId = gameId;
+        target.seed = seed;
+        target.randomState = randomState;
+        target.status = status;
+        target.turn = turn;
+    }
+
+    /**
+     * Overwrite this state with a game; every card must come from the standard deck
+     */
+    public void load(GameState state) {
+        List<Player> seats = state.getPlayers();
+        if (seats.size() != players) {
+            throw new IllegalArgumentException("Cannot load " + seats.size() + " seats into " + players);
+        }
+        gameId = state.getGameId();
+        seed = state.getSeed();
+        randomState = state.getRandom().getState();
+        status = state.getStatus();
+        Arrays.fill(sizes, 0);
+        Arrays.fill(cardColor, NO_COLOR);
+        Arrays.fill(buildings, (byte) 0);
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(completeMasks, 0);
+        for (int p = 0; p < players; p++) {
+            Player player = seats.get(p);
+            names[p] = player.getName();
+            human[p] = player.isHuman();
+            difficulty[p] = (byte) player.getDifficulty().ordinal();
+            loadZone(hand(p), player.getHand());
+            loadZone(bank(p), player.getBank());
+            loadZone(properties(p), player.getProperties());
+        }
+        loadZone(deck(), state.getDeck());
+        loadZone(discard(), state.getDiscardPile());
+
+        GameState.TurnContext context = state.getTurnContext();
+        Integer target = context.getTargetPlayerId();
+        Card pending = context.getPendingActionCard();
+        turn = (long) context.getActivePlayerId() << ACTIVE_SHIFT
+            | (long) context.getActionsRemaining() << ACTIONS_SHIFT
+            | (long) (target != null ? target + 1 : 0) << TARGET_SHIFT
+            | (long) (pending != null ? idOf(pending) + 1 : 0) << PENDING_CARD_SHIFT
+            | (context.isWaitingForResponse() ? WAITING : 0)
+            | (context.isPaused() ? PAUSED : 0)
+            | (context.isDoubleRentActive() ? DOUBLE_RENT : 0)
+            | (long) context.getTurnTimer() << TIMER_SHIFT;
+
+        paymentCount = 0;
+        for (PaymentRequest request : context.getPendingPayments()) {
+            if (!request.isResolved()) {
+                addPayment(request.getFromPlayerId(), request.getToPlayerId(), request.getAmount(),
+                    request.getReason(), DeckGenerator.idOf(request.getCardUid()));
+            }
+        }
+    }
+
+    private void loadZone(int zone, List<Card> zoneCards) {
+        for (Card card : zoneCards) {
+            int id = idOf(card);
+            PropertyColor color = PropertyColor.fromKey(card.getCurrentColor());
+            cardColor[id] = color != null ? (byte) color.ordinal() : NO_COLOR;
+            buildings[id] = (byte) ((card.hasHouse() ? HOUSE : 0) | (card.hasHotel() ? HOTEL : 0));
+            push(zone, id);
+        }
+    }
+
+    private static int idOf(Card card) {
+        if (card.getId() < 0 || card.getId() >= CARDS) {
+            throw new IllegalArgumentException("Card is not from the standard deck: " + card.getUid());
+        }
+        return card.getId();
+    }
+
+    /**
+     * A full GameState for this position, dealt from a fresh copy of the deck
+     * The log starts empty
+     */
+    public GameState toGameState() {
+        Stack<Card> all = DeckGenerator.generateDeck(gameId);
+        for (int id = 0; id < CARDS; id++) {
+            Card card = all.get(id);
+            String color = cardColor[id] != NO_COLOR ? PropertyColor.ofOrdinal(cardColor[id]).key() : null;
+            if (!Objects.equals(color, card.getCurrentColor())) {
+                card.setCurrentColor(color);
+            }
+            card.setHasHouse((buildings[id] & HOUSE) != 0);
+            card.setHasHotel((buildings[id] & HOTEL) != 0);
+        }
+
+        List<Player> seats = new ArrayList<>(players);
+        for (int p = 0; p < players; p++) {
+            Player player = new Player(p, names[p], human[p]);
+            player.setDifficulty(BotDifficulty.values()[difficulty[p]]);
+            unloadZone(hand(p), all, player.getHand());
+            unloadZone(bank(p), all, player.getBank());
+            unloadZone(properties(p), all, player.getProperties());
+            seats.add(player);
+        }
+        Stack<Card> deck = new Stack<>();
+        unloadZone(deck(), all, deck);
+        List<Card> discardPile = new ArrayList<>(size(discard()));
+        unloadZone(discard(), all, discardPile);
+
+        GameState.TurnContext context = new GameState.TurnContext();
+        context.setActivePlayerId(getActivePlayerId());
+        context.setActionsRemaining(getActionsRemaining());
+        int target = (int) (turn >>> TARGET_SHIFT & 0xff);
+        context.setTargetPlayerId(target > 0 ? target - 1 : null);
+        int pending = (int) (turn >>> PENDING_CARD_SHIFT & 0xff);
+        context.setPendingActionCard(pending > 0 ? all.get(pending - 1) : null);
+        context.setWaitingForResponse((turn & WAITING) != 0);
+        context.setPaused((turn & PAUSED) != 0);
+        context.setDoubleRentActive(isDoubleRentActive());
+        context.setTurnTimer((int) (turn >>> TIMER_SHIFT));
+        for (int i = 0; i < paymentCount; i++) {
+            int at = i * PAYMENT_INTS;
+            int card = payments[at + 3];
+            context.getPendingPayments().add(new PaymentRequest(payments[at], payments[at + 1], payments[at + 2],
+                paymentReasons[i], card >= 0 ? DeckGenerator.uidOf(gameId, card) : null));
+        }
+
+        return GameState.builder()
+            .gameId(gameId)
+            .seed(seed)
+            .random(new GameRandom(randomState))
+            .status(status)
+            .players(seats)
+            .deck(deck)
+            .discardPile(discardPile)
+            .turnContext(context)
+            .logs(new GameLogBuffer(GameConstants.LIVE_LOG_CAPACITY))
+            .build();
+    }
+
+    private void unloadZone(int zone, List<Card> all, List<Card> into) {
+        int base = zone * CARDS;
+        for (int i = 0; i < sizes[zone]; i++) {
+            into.add(all.get(cards[base + i]));
+        }
+    }
+
+    // Zones
+
+    public int hand(int player) {
+        return player * ZONES_PER_PLAYER + HAND;
+    }
+
+    public int bank(int player) {
+        return player * ZONES_PER_PLAYER + BANK;
+    }
+
+    public int properties(int player) {
+        return player * ZONES_PER_PLAYER + PROPERTIES;
+    }
+
+    public int deck() {
+        return players * ZONES_PER_PLAYER;
+    }
+
+    public int discard() {
+        return players * ZONES_PER_PLAYER + 1;
+    }
+
+    public int size(int zone) {
+        return sizes[zone];
+    }
+
+    /**
+     * Card id at a position in a zone; the deck's top is its last position
+     */
+    public int card(int zone, int index) {
+        return cards[zone * CARDS + index];
+    }
+
+    public void push(int zone, int cardId) {
+        cards[zone * CARDS + sizes[zone]++] = (byte) cardId;
+        if (isProperties(zone)) {
+            count(zone / ZONES_PER_PLAYER, cardId, 1);
+        }
+    }
+
+    /**
+     * Take the top (last) card of a zone, or -1 if it is empty
+     */
+    public int pop(int zone) {
+        return sizes[zone] == 0 ? -1 : removeAt(zone, sizes[zone] - 1);
+    }
+
+    /**
+     * Remove the card at index by moving the zone's last card into its slot
+     */
+    public int removeAt(int zone, int index) {
+        int base = zone * CARDS;
+        int cardId = cards[base + index];
+        cards[base + index] = cards[base + --sizes[zone]];
+        if (isProperties(zone)) {
+            count(zone / ZONES_PER_PLAYER, cardId, -1);
+        }
+        return cardId;
+    }
+
+    /**
+     * Append a zone's cards to buffer from offset and empty the zone; returns the new offset
+     */
+    public int drain(int zone, byte[] buffer, int offset) {
+        int n = sizes[zone];
+        for (int i = n - 1; i >= 0; i--) {
+            buffer[offset + i] = (byte) removeAt(zone, i);
+        }
+        return offset + n;
+    }
+
+    /**
+     * Push count cards from buffer, starting at offset; returns the new offset
+     */
+    public int fill(int zone, byte[] buffer, int offset, int count) {
+        for (int i = 0; i < count; i++) {
+            push(zone, buffer[offset + i]);
+        }
+        return offset + count;
+    }
+
+    private boolean isProperties(int zone) {
+        return zone < players * ZONES_PER_PLAYER && zone % ZONES_PER_PLAYER == PROPERTIES;
+    }
+
+    private void count(int player, int cardId, int delta) {
+        PropertyColor color = colorOf(cardId);
+        if (color == null) {
+            return;
+        }
+        int i = player * PropertyColor.COUNT + color.ordinal();
+        colorCounts[i] += delta;
+        if (color.isComplete(colorCounts[i])) {
+            completeMasks[player] |= color.bit();
+        } else {
+            completeMasks[player] &= ~color.bit();
+        }
+    }
+
+    /**
+     * Color a card counts as: its chosen color, else its printed one
+     */
+    public PropertyColor colorOf(int cardId) {
+        return cardColor[cardId] != NO_COLOR
+            ? PropertyColor.ofOrdinal(cardColor[cardId])
+            : DeckGenerator.templates().get(cardId).propertyColor();
+    }
+
+    public int countOf(int player, PropertyColor color) {
+        return colorCounts[player * PropertyColor.COUNT + color.ordinal()];
+    }
+
+    public int completedSets(int player) {
+        return Integer.bitCount(completeMasks[player]);
+    }
+
+    public boolean hasHouse(int cardId) {
+        return (buildings[cardId] & HOUSE) != 0;
+    }
+
+    public boolean hasHotel(int cardId) {
+        return (buildings[cardId] & HOTEL) != 0;
+    }
+
+    // Payments
+
+    public void addPayment(int fromPlayerId, int toPlayerId, int amount, String reason, int cardId) {
+        if (paymentCount == MAX_PAYMENTS) {
+            throw new IllegalStateException("More than " + MAX_PAYMENTS + " payments outstanding");
+        }
+        int at = paymentCount * PAYMENT_INTS;
+        payments[at] = fromPlayerId;
+        payments[at + 1] = toPlayerId;
+        payments[at + 2] = amount;
+        payments[at + 3] = cardId;
+        paymentReasons[paymentCount++] = reason;
+    }
+
+    public int getPaymentCount() {
+        return paymentCount;
+    }
+
+    // Game and turn
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getRandomState() {
+        return randomState;
+    }
+
+    public void setRandomState(long randomState) {
+        this.randomState = randomState;
+    }
+
+    public boolean isHuman(int player) {
+        return human[player];
+    }
+
+    public int getActivePlayerId() {
+        return (int) (turn >>> ACTIVE_SHIFT & 0xf);
+    }
+
+    public void setActivePlayerId(int player) {
+        turn = turn & ~(0xfL << ACTIVE_SHIFT) | (long) player << ACTIVE_SHIFT;
+    }
+
+    public int getActionsRemaining() {
+        return (int) (turn >>> ACTIONS_SHIFT & 0xf);
+    }
+
+    public void setActionsRemaining(int actions) {
+        turn = turn & ~(0xfL << ACTIONS_SHIFT) | (long) actions << ACTIONS_SHIFT;
+    }
+
+    public boolean isDoubleRentActive() {
+        return (turn & DOUBLE_RENT) != 0;
+    }
+
+    public void setDoubleRentActive(boolean active) {
+        turn = active ? turn | DOUBLE_RENT : turn & ~DOUBLE_RENT;
+    }
+}
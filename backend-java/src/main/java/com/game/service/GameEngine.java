@@ -4,17 +4,37 @@ import com.game.constants.GameConstants;
 import com.game.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
+/**
+ * The game engine: one mailbox-driven room per game, with moves run through
+ * a staged pipeline (validate -> resolve targets -> reaction window -> apply
+ * -> win check -> publish). Card rules are ActionHandlers registered per
+ * ActionType / CardType, and every stage is timed in StageTimings
+ */
 @Service
 public class GameEngine {
-    private static final Logger log = LoggerFactory.getLogger(GameEngine.class);
+    private Logger log = LoggerFactory.getLogger(GameEngine.class); // Silenced for search playouts
+    private static final String START_MESSAGE = "Property Hustle Started! Draw 2 cards to begin.";
+    private static final String RESTORED_MESSAGE = "Game restored after a server restart.";
+    private static final String RELOADED_MESSAGE = "Game resumed.";
     private final Map<String, GameRoom> activeGames = new ConcurrentHashMap<>();
+    // Rooms evicted to their snapshot, by when they were spilled; reloaded on the next move or viewer
+    private final Map<String, Long> spilledRooms = new ConcurrentHashMap<>();
+    private volatile Predicate<String> roomAdmission = roomId -> true;
+    private final Map<ActionType, ActionHandler> actionHandlers = new EnumMap<>(ActionType.class);
+    private final Map<CardType, ActionHandler> cardHandlers = new EnumMap<>(CardType.class);
+    private final StageTimings stageTimings = new StageTimings();
     
     @Autowired
     private BotEngine botEngine;
@@ -23,24 +43,335 @@ public class GameEngine {
     private RentCalculator rentCalculator;
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private GameStateBroadcaster stateBroadcaster;
+    
+    @Autowired
+    private BotTurnScheduler botTurnScheduler;
+    
+    @Autowired
+    private RoomExecutor roomExecutor;
+    
+    @Autowired
+    private GameLogStore logStore;
+    
+    @Autowired
+    private GameJournal journal;
+    
+    @Autowired
+    private GameSnapshotStore snapshotStore;
+    
+    @Autowired
+    private SearchBotEngine searchBotEngine;
+    
+    @Autowired
+    private GameMetrics metrics;
+
+    public GameEngine() {
+        registerHandlers();
+    }
+
+    /**
+     * Rules-only engine for use outside Spring (simulation, benchmarks)
+     * Rooms created this way have no scheduler or broadcaster; drive them with applyMove
+     */
+    public GameEngine(BotEngine botEngine, RentCalculator rentCalculator) {
+        this();
+        this.botEngine = botEngine;
+        this.rentCalculator = rentCalculator;
+    }
+
+    /**
+     * Rules-only engine that logs nothing, for throwaway playouts by the thousand
+     */
+    static GameEngine quiet(BotEngine botEngine, RentCalculator rentCalculator) {
+        GameEngine engine = new GameEngine(botEngine, rentCalculator);
+        engine.log = NOPLogger.NOP_LOGGER;
+        return engine;
+    }
+
+    /**
+     * Rules-only engine that journals its rooms and can spill them to snapshots
+     */
+    static GameEngine persistent(BotEngine botEngine, RentCalculator rentCalculator,
+                                 GameJournal journal, GameSnapshotStore snapshotStore) {
+        return persistent(botEngine, rentCalculator, journal, snapshotStore, null);
+    }
+
+    /**
+     * As above, also keeping each room's full log history in logStore
+     */
+    static GameEngine persistent(BotEngine botEngine, RentCalculator rentCalculator,
+                                 GameJournal journal, GameSnapshotStore snapshotStore, GameLogStore logStore) {
+        GameEngine engine = new GameEngine(botEngine, rentCalculator);
+        engine.journal = journal;
+        engine.snapshotStore = snapshotStore;
+        engine.logStore = logStore;
+        return engine;
+    }
 
     public GameState createGame(String roomId) {
-        GameState state = initializeNewGame(roomId);
-        GameRoom room = new GameRoom(roomId, state);
+        return createGame(roomId, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create a room whose shuffles all follow from seed
+     */
+    public GameState createGame(String roomId, long seed) {
+        return createGame(roomId, seed, Map.of());
+    }
+
+    /**
+     * Create a room with a difficulty per bot seat; seats not in bots play STANDARD
+     * Refused while the room id is still held, in memory or spilled, even by a
+     * finished game; the lifecycle manager frees it once that game is evicted
+     */
+    public GameState createGame(String roomId, long seed, Map<Integer, BotDifficulty> bots) {
+        // Same lock as the reload, so a spilled game can't come back under the new one
+        synchronized (spilledRooms) {
+            if (activeGames.containsKey(roomId) || spilledRooms.containsKey(roomId)) {
+                throw new IllegalStateException("A game is already running in room " + roomId);
+            }
+            if (!roomAdmission.test(roomId)) {
+                throw new IllegalStateException("Room limit reached, cannot create room " + roomId);
+            }
+            GameState state = newGame(roomId, seed, bots, newLiveLog(roomId, START_MESSAGE, false));
+            if (journal != null) {
+                journal.created(roomId, seed, bots);
+            }
+            openRoom(roomId, state);
+            return state;
+        }
+    }
+
+    /**
+     * Bring back a room rebuilt from its snapshot and journal after a restart
+     * moveCount is the number of the room's moves already in the journal.
+     * Restored rooms pass the same admission as new ones; a refused room is
+     * spilled to an up to date snapshot and reloads on its next move or viewer.
+     * Returns whether the room is held in memory
+     */
+    public boolean restoreGame(String roomId, GameState state, long moveCount) {
+        if (snapshotStore != null && !roomAdmission.test(roomId)) {
+            snapshotStore.save(roomId, GameSnapshot.encode(state, moveCount));
+            spilledRooms.put(roomId, System.nanoTime());
+            return false;
+        }
+        reopenRoom(roomId, state, moveCount, RESTORED_MESSAGE);
+        return true;
+    }
+
+    private GameRoom reopenRoom(String roomId, GameState state, long moveCount, String message) {
+        state.setLogs(newLiveLog(roomId, message, true));
+        GameRoom room = openRoom(roomId, state);
+        room.resumeAt(moveCount);
+        triggerBotTurnIfNeeded(roomId, state);
+        return room;
+    }
+
+    private GameRoom openRoom(String roomId, GameState state) {
+        // Outside Spring there is no room executor and the mailbox drains on the caller
+        GameRoom room = roomExecutor != null ? new GameRoom(roomId, state, roomExecutor) : new GameRoom(roomId, state);
+        if (metrics != null) {
+            room.setWaitRecorder(metrics::recordMailboxWait);
+        }
         activeGames.put(roomId, room);
-        return state;
+        return room;
+    }
+
+    /**
+     * Drop a room from memory on its own mailbox, unless a player touched it
+     * after idleSinceNanos. With spill the room stays open in the journal and
+     * its snapshot is brought up to date, so the next move or viewer reloads
+     * it; otherwise it is closed for good. Completes with whether it was evicted
+     */
+    public CompletableFuture<Boolean> evictGame(String roomId, long idleSinceNanos, boolean spill) {
+        CompletableFuture<Boolean> evicted = new CompletableFuture<>();
+        GameRoom room = activeGames.get(roomId);
+        if (room == null) {
+            evicted.complete(false);
+            return evicted;
+        }
+        boolean queued = room.submit(() -> {
+            if (room.getLastActivityNanos() != idleSinceNanos || activeGames.get(roomId) != room) {
+                evicted.complete(false);
+                return;
+            }
+            room.retire();
+            boolean keep = spill && snapshotStore != null && !"GAME_OVER".equals(room.getGameState().getStatus());
+            if (keep) {
+                snapshotStore.save(roomId, GameSnapshot.encode(room.getGameState(), room.getMoveCount()));
+                spilledRooms.put(roomId, System.nanoTime());
+                detachRoom(roomId);
+            } else {
+                closeRoom(roomId);
+            }
+            // Only now unpublished, so whoever finds the room retired and looks again sees it spilled or gone
+            activeGames.remove(roomId, room);
+            log.info("Evicted room {}{}", roomId, keep ? " to its snapshot" : "");
+            evicted.complete(true);
+        }, () -> evicted.complete(false)); // Another eviction got there first
+        if (!queued) {
+            evicted.complete(false);
+        }
+        return evicted;
+    }
+
+    /**
+     * Close rooms spilled before spilledBeforeNanos for good: the journal
+     * records them closed and their snapshot is deleted. Returns how many
+     */
+    public int closeSpilledRooms(long spilledBeforeNanos) {
+        int closed = 0;
+        // Same lock as the reload, so a room is either reloaded or closed
+        synchronized (spilledRooms) {
+            Iterator<Map.Entry<String, Long>> spilled = spilledRooms.entrySet().iterator();
+            while (spilled.hasNext()) {
+                Map.Entry<String, Long> room = spilled.next();
+                if (room.getValue() - spilledBeforeNanos <= 0) {
+                    spilled.remove();
+                    closeRoom(room.getKey());
+                    closed++;
+                }
+            }
+        }
+        if (closed > 0) {
+            log.info("Closed {} rooms left spilled too long", closed);
+        }
+        return closed;
+    }
+
+    public int getSpilledRoomCount() {
+        return spilledRooms.size();
+    }
+
+    /**
+     * Ask before every new or restored room; the lifecycle manager refuses when the node
+     * is at its room or heap budget and nothing can be evicted
+     */
+    public void setRoomAdmission(Predicate<String> roomAdmission) {
+        this.roomAdmission = roomAdmission;
+    }
+
+    /**
+     * Rooms held in memory
+     */
+    public Collection<GameRoom> getRooms() {
+        return Collections.unmodifiableCollection(activeGames.values());
+    }
+
+    private void detachRoom(String roomId) {
+        if (botTurnScheduler != null) {
+            botTurnScheduler.cancelRoom(roomId);
+        }
+        if (stateBroadcaster != null) {
+            stateBroadcaster.forget(roomId);
+        }
+    }
+
+    /**
+     * Finish a room for good; a spilled room is only detached and keeps its
+     * log history for when it reloads
+     */
+    private void closeRoom(String roomId) {
+        detachRoom(roomId);
+        if (logStore != null) {
+            logStore.remove(roomId);
+        }
+        if (journal != null) {
+            journal.closed(roomId);
+        }
+        if (snapshotStore != null) {
+            snapshotStore.delete(roomId);
+        }
+    }
+
+    /**
+     * The room in memory, reloading it from its snapshot if it was spilled
+     */
+    private GameRoom roomOf(String roomId) {
+        GameRoom room = activeGames.get(roomId);
+        if (room != null || !spilledRooms.containsKey(roomId)) {
+            return room;
+        }
+        synchronized (spilledRooms) {
+            room = activeGames.get(roomId);
+            if (room != null || !spilledRooms.containsKey(roomId)) {
+                return room;
+            }
+            GameSnapshot.Restored snapshot = snapshotStore.load(roomId);
+            spilledRooms.remove(roomId);
+            if (snapshot == null) {
+                log.warn("Spilled room {} has no snapshot to reload", roomId);
+                return null;
+            }
+            log.info("Reloading spilled room {}", roomId);
+            return reopenRoom(roomId, snapshot.state(), snapshot.moveCount(), RELOADED_MESSAGE);
+        }
+    }
+
+    /**
+     * Attach a connection to a seat's view and send it a keyframe
+     * Also used by clients to resync after a gap in seq
+     */
+    public void addViewer(String roomId, String user, int seat) {
+        if (stateBroadcaster == null) {
+            return; // Outside Spring nobody is listening
+        }
+        submitToRoom(roomId, room -> () -> stateBroadcaster.addViewer(roomId, room.getGameState(), user, seat));
+    }
+
+    /**
+     * Touch the room and queue an action on its mailbox
+     * A room retired by an eviction refuses the action, or hands it back if it
+     * was already queued; the room is then looked up again, reloading it if it
+     * was spilled, and the action goes to the room found
+     */
+    private void submitToRoom(String roomId, Function<GameRoom, Runnable> action) {
+        while (true) {
+            GameRoom room = roomOf(roomId);
+            if (room == null) {
+                log.warn("Room not found: {}", roomId);
+                return;
+            }
+            room.touch();
+            // Dropped actions come back after the eviction has unpublished the room
+            if (room.submit(action.apply(room), () -> submitToRoom(roomId, action))) {
+                return;
+            }
+            // The eviction that retired it unpublishes it right after saving its snapshot
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * A new game, not attached to a room, dealt from seed; the same seed and
+     * moves always play out the same game. Its log is not kept in the log store
+     */
+    public GameState newGame(String roomId, long seed) {
+        return newGame(roomId, seed, Map.of());
+    }
+
+    public GameState newGame(String roomId, long seed, Map<Integer, BotDifficulty> bots) {
+        GameLogBuffer logs = new GameLogBuffer(GameConstants.LIVE_LOG_CAPACITY);
+        logs.add(new GameState.GameLog(START_MESSAGE, "system"));
+        return newGame(roomId, seed, bots, logs);
     }
 
-    private GameState initializeNewGame(String roomId) {
+    private GameState newGame(String roomId, long seed, Map<Integer, BotDifficulty> bots, GameLogBuffer logs) {
         List<Player> players = new ArrayList<>();
         players.add(new Player(0, "You", true));
         players.add(new Player(1, "Bot Alpha", false));
         players.add(new Player(2, "Bot Beta", false));
         players.add(new Player(3, "Bot Gamma", false));
+        bots.forEach((seat, difficulty) -> {
+            if (seat >= 0 && seat < players.size() && !players.get(seat).isHuman()) {
+                players.get(seat).setDifficulty(difficulty);
+            }
+        });
 
-        Stack<Card> deck = DeckGenerator.generateDeck();
-        Collections.shuffle(deck);
+        GameRandom random = new GameRandom(seed);
+        Stack<Card> deck = DeckGenerator.generateDeck(roomId);
+        random.shuffle(deck);
 
         // Deal initial hands
         for (Player p : players) {
@@ -53,6 +384,8 @@ public class GameEngine {
 
         return GameState.builder()
                 .gameId(roomId)
+                .seed(seed)
+                .random(random)
                 .status("PLAYING")
                 .players(players)
                 .deck(deck)
@@ -61,46 +394,41 @@ public class GameEngine {
                         .activePlayerId(0)
                         .actionsRemaining(0) // Start with 0, player must draw first
                         .build())
-                .logs(new ArrayList<>(List.of(new GameState.GameLog("Property Hustle Started! Draw 2 cards to begin.", "system"))))
+                .logs(logs)
                 .build();
     }
 
-    public void processMove(String roomId, Move move) {
-        GameRoom room = activeGames.get(roomId);
-        if (room == null) {
-            log.warn("Room not found: {}", roomId);
-            return;
-        }
+    /**
+     * Bounded live log; full history goes to the log store when running under Spring
+     * A reopened room carries on with the history it already has there
+     */
+    private GameLogBuffer newLiveLog(String roomId, String firstEntry, boolean reopened) {
+        GameLogBuffer logs = logStore != null
+                ? new GameLogBuffer(GameConstants.LIVE_LOG_CAPACITY,
+                        (reopened ? logStore.resume(roomId) : logStore.open(roomId))::append)
+                : new GameLogBuffer(GameConstants.LIVE_LOG_CAPACITY);
+        logs.add(new GameState.GameLog(firstEntry, "system"));
+        return logs;
+    }
 
-        room.executeWithLock(() -> {
+    /**
+     * Enqueue a move on the room's mailbox
+     * Returns immediately; the move is applied in order by the room's single writer
+     */
+    public void processMove(String roomId, Move move) {
+        submitToRoom(roomId, room -> () -> {
             GameState state = room.getGameState();
-            log.info("Processing move: {} for player {} in room: {}", move.getType(), move.getPlayerId(), roomId);
+            log.debug("Processing move: {} for player {} in room: {}", move.getType(), move.getPlayerId(), roomId);
             
-            // Validate it's the player's turn
-            if (state.getTurnContext().getActivePlayerId() != move.getPlayerId()) {
-                log.warn("Not player {}'s turn. Current turn: {}", move.getPlayerId(), state.getTurnContext().getActivePlayerId());
+            int activeBefore = state.getTurnContext().getActivePlayerId();
+            if (!applyJournaled(room, move)) {
                 return;
             }
             
-            switch (move.getType().toUpperCase()) {
-                case "DRAW":
-                    handleDraw(state, move.getPlayerId());
-                    // After draw, check if next player is bot
-                    triggerBotTurnIfNeeded(roomId, state);
-                    break;
-                case "PLAY_CARD":
-                    handlePlayCard(state, move);
-                    // After each move, check if turn should end or bot should play
-                    checkTurnEndAndTriggerBot(roomId, state);
-                    break;
-                case "END_TURN":
-                    handleEndTurn(state, move.getPlayerId());
-                    triggerBotTurnIfNeeded(roomId, state);
-                    break;
-                case "REACT":
-                    handleReaction(state, move);
-                    triggerBotTurnIfNeeded(roomId, state);
-                    break;
+            // A card play only hands over to the next player once it used the last action
+            if (!"PLAY_CARD".equalsIgnoreCase(move.getType())
+                    || state.getTurnContext().getActivePlayerId() != activeBefore) {
+                triggerBotTurnIfNeeded(roomId, state);
             }
             
             // Broadcast updated state
@@ -108,21 +436,218 @@ public class GameEngine {
         });
     }
 
+    /**
+     * Apply one move to a state with no scheduling or publishing
+     * Shared by the live rooms and the headless simulator; a card play that
+     * uses the last action also ends the turn. Returns false if the move was
+     * rejected outright (not the player's turn, unknown move type)
+     */
+    public boolean applyMove(GameState state, Move move) {
+        long start = System.nanoTime();
+        MoveResult validation = validate(state, move);
+        boolean cardPlay = "PLAY_CARD".equalsIgnoreCase(move.getType());
+        if (!validation.isSuccess() || !cardPlay) {
+            // A card play goes on to check the card and records validation once that is done
+            stageTimings.record(MoveStage.VALIDATE, start);
+        }
+        if (!validation.isSuccess()) {
+            log.warn("Move rejected ({}): {}", validation.getErrorCode(), validation.getErrorMessage());
+            return false;
+        }
+        
+        switch (move.getType().toUpperCase()) {
+            case "DRAW":
+                start = System.nanoTime();
+                handleDraw(state, move.getPlayerId());
+                stageTimings.record(MoveStage.APPLY, start);
+                break;
+            case "PLAY_CARD":
+                playCard(state, move, start);
+                // If actions remaining is 0, automatically end turn
+                if (state.getTurnContext().getActionsRemaining() <= 0) {
+                    handleEndTurn(state, state.getTurnContext().getActivePlayerId());
+                }
+                break;
+            case "END_TURN":
+                start = System.nanoTime();
+                handleEndTurn(state, move.getPlayerId());
+                stageTimings.record(MoveStage.APPLY, start);
+                break;
+            case "REACT":
+                handleReaction(state, move);
+                break;
+        }
+        return true;
+    }
+
+    /**
+     * Apply a move while recording what it resolved to into outcome
+     */
+    public boolean applyMove(GameState state, Move move, MoveOutcome outcome) {
+        state.setOutcome(outcome);
+        try {
+            return applyMove(state, move);
+        } finally {
+            state.setOutcome(null);
+        }
+    }
+
+    /**
+     * Apply a live move and append it to the journal once accepted, then
+     * snapshot the room if it is due one
+     * A move that fails half way has still changed the state, so it is
+     * journaled too and replays the same way
+     */
+    private boolean applyJournaled(GameRoom room, Move move) {
+        long start = System.nanoTime();
+        MoveOutcome outcome = new MoveOutcome();
+        boolean accepted = false;
+        try {
+            accepted = applyMove(room.getGameState(), move, outcome);
+        } catch (RuntimeException e) {
+            accepted = true;
+            throw e;
+        } finally {
+            if (accepted && journal != null) {
+                journal.moved(room.getRoomId(), room.getMoveCount() + 1, move, outcome);
+                room.moveJournaled();
+                if (snapshotStore != null) {
+                    snapshotStore.onMoveJournaled(room);
+                }
+            }
+            if (metrics != null) {
+                metrics.recordMove(move.getType(), accepted, start);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Turn and move-type checks that reject a move before anything changes
+     */
+    private MoveResult validate(GameState state, Move move) {
+        if (state.getTurnContext().getActivePlayerId() != move.getPlayerId()) {
+            return MoveResult.failure(ErrorCodes.NOT_PLAYERS_TURN,
+                "Not player " + move.getPlayerId() + "'s turn. Current turn: " + state.getTurnContext().getActivePlayerId());
+        }
+        if (move.getType() == null) {
+            return MoveResult.failure(ErrorCodes.INVALID_MOVE_TYPE, "Missing move type");
+        }
+        switch (move.getType().toUpperCase()) {
+            case "DRAW", "PLAY_CARD", "END_TURN", "REACT":
+                return MoveResult.success(state);
+            default:
+                return MoveResult.failure(ErrorCodes.INVALID_MOVE_TYPE, "Invalid move type: " + move.getType());
+        }
+    }
+
+    /**
+     * Replace the rules for an action card
+     */
+    public void registerHandler(ActionType actionType, ActionHandler handler) {
+        actionHandlers.put(actionType, handler);
+    }
+
+    /**
+     * Replace the rules for a non-action card type
+     */
+    public void registerHandler(CardType cardType, ActionHandler handler) {
+        cardHandlers.put(cardType, handler);
+    }
+
+    /**
+     * Time spent per pipeline stage since this engine started
+     */
+    public Map<MoveStage, StageTimings.Stat> getStageTimings() {
+        return stageTimings.snapshot();
+    }
+
+    private void registerHandlers() {
+        cardHandlers.put(CardType.MONEY, this::bankCard);
+        cardHandlers.put(CardType.PROPERTY, this::playProperty);
+        cardHandlers.put(CardType.PROPERTY_WILD, this::playProperty);
+        ActionHandler rent = new ActionHandler() {
+            @Override
+            public void resolveTargets(PlayContext play) {
+                resolveRent(play);
+            }
+
+            @Override
+            public boolean blocks(PlayContext play, Player target) {
+                return rentJustSayNo(play, target);
+            }
+
+            @Override
+            public void apply(PlayContext play) {
+                chargeRent(play);
+            }
+        };
+        cardHandlers.put(CardType.RENT, rent);
+        cardHandlers.put(CardType.RENT_WILD, rent);
+
+        actionHandlers.put(ActionType.PASS_GO, play -> handleDraw(play.getState(), play.getPlayer().getId()));
+        actionHandlers.put(ActionType.BIRTHDAY, this::handleBirthday);
+        actionHandlers.put(ActionType.HOUSE, this::handleHouse);
+        actionHandlers.put(ActionType.HOTEL, this::handleHotel);
+        actionHandlers.put(ActionType.DOUBLE_RENT, this::handleDoubleRent);
+        actionHandlers.put(ActionType.JUST_SAY_NO, play -> play.getState().getLogs().add(new GameState.GameLog(
+            play.getPlayer().getName() + " said NO! The action was cancelled.",
+            "event")));
+        actionHandlers.put(ActionType.DEBT_COLLECTOR, targeted(
+            play -> play.getMove().getTargetPlayerId() != null
+                ? play.getMove().getTargetPlayerId()
+                : selectRichestOpponent(play.getState(), play.getPlayer().getId()),
+            this::handleDebtCollector));
+        actionHandlers.put(ActionType.SLY_DEAL, targeted(
+            play -> play.getMove().getTargetPlayerId() != null
+                ? play.getMove().getTargetPlayerId()
+                : selectBestSlyDealTarget(play.getState(), play.getPlayer().getId()),
+            this::handleSlyDeal));
+        actionHandlers.put(ActionType.FORCED_DEAL, targeted(
+            play -> play.getMove().getTargetPlayerId() != null
+                ? play.getMove().getTargetPlayerId()
+                : selectBestForcedDealTarget(play.getState(), play.getPlayer().getId()),
+            this::handleForcedDeal));
+        actionHandlers.put(ActionType.DEAL_BREAKER, targeted(
+            play -> selectPlayerWithCompleteSet(play.getState(), play.getPlayer().getId()),
+            this::handleDealBreaker));
+    }
+
+    /**
+     * One-target action that the target may block with Just Say No
+     */
+    private ActionHandler targeted(ToIntFunction<PlayContext> targetSelector, ActionHandler effect) {
+        return new ActionHandler() {
+            @Override
+            public void resolveTargets(PlayContext play) {
+                play.target(targetSelector.applyAsInt(play));
+            }
+
+            @Override
+            public boolean blocks(PlayContext play, Player target) {
+                return actionJustSayNo(play, target);
+            }
+
+            @Override
+            public void apply(PlayContext play) {
+                effect.apply(play);
+            }
+        };
+    }
+
     private void handleDraw(GameState state, int playerId) {
         Player p = state.getPlayers().get(playerId);
         int drawCount = p.getHand().isEmpty() ? GameConstants.EMPTY_HAND_DRAW_COUNT : GameConstants.NORMAL_DRAW_COUNT;
         
         for (int i = 0; i < drawCount; i++) {
             if (!state.getDeck().isEmpty()) {
-                p.getHand().add(state.getDeck().pop());
+                drawCard(state, p);
             } else {
                 // Reshuffle discard pile if deck is empty
                 if (!state.getDiscardPile().isEmpty()) {
-                    state.getDeck().addAll(state.getDiscardPile());
-                    state.getDiscardPile().clear();
-                    Collections.shuffle(state.getDeck());
+                    reshuffle(state);
                     if (!state.getDeck().isEmpty()) {
-                        p.getHand().add(state.getDeck().pop());
+                        drawCard(state, p);
                     }
                 }
             }
@@ -134,12 +659,39 @@ public class GameEngine {
         state.getTurnContext().setActionsRemaining(GameConstants.MAX_ACTIONS_PER_TURN);
     }
 
-    private void handlePlayCard(GameState state, Move move) {
+    private void drawCard(GameState state, Player player) {
+        Card card = state.getDeck().pop();
+        player.getHand().add(card);
+        if (state.getOutcome() != null) {
+            state.getOutcome().drew(card.getId());
+        }
+    }
+
+    /**
+     * Shuffle the discard pile back into the deck with the game's own random source
+     */
+    private void reshuffle(GameState state) {
+        state.getDeck().addAll(state.getDiscardPile());
+        state.getDiscardPile().clear();
+        state.getRandom().shuffle(state.getDeck());
+    }
+
+    private static int[] idsOf(List<Card> cards) {
+        int[] ids = new int[cards.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = cards.get(i).getId();
+        }
+        return ids;
+    }
+
+    /**
+     * Run a card play through resolve targets -> reaction window -> apply -> win check
+     * Validation started at validateStart, with the turn checks in applyMove
+     */
+    private void playCard(GameState state, Move move, long validateStart) {
         Player p = state.getPlayers().get(move.getPlayerId());
-        Card card = p.getHand().stream()
-                .filter(c -> c.getUid().equals(move.getCardUid()))
-                .findFirst()
-                .orElse(null);
+        Card card = p.getHand().find(move.getCardUid());
+        stageTimings.record(MoveStage.VALIDATE, validateStart);
 
         if (card == null) {
             log.warn("Card not found in player's hand: {}", move.getCardUid());
@@ -155,119 +707,105 @@ public class GameEngine {
         p.getHand().remove(card);
         state.getTurnContext().setActionsRemaining(state.getTurnContext().getActionsRemaining() - 1);
 
-        switch (card.getType()) {
-            case MONEY:
-                p.getBank().add(card);
-                state.getLogs().add(new GameState.GameLog(p.getName() + " banked $" + card.getValue() + "M.", "info"));
-                break;
-            case PROPERTY:
-            case PROPERTY_WILD:
-                // Smart wild card color selection
-                if (card.getType() == CardType.PROPERTY_WILD) {
-                    String bestColor = selectBestWildCardColor(p, card);
-                    if (bestColor != null) {
-                        card.setCurrentColor(bestColor);
-                    }
-                }
-                
-                p.getProperties().add(card);
-                state.getLogs().add(new GameState.GameLog(p.getName() + " played property: " + card.getName(), "event"));
-                checkWinCondition(state, p);
-                break;
-            case RENT:
-            case RENT_WILD:
-                handleRentCard(state, p, card, move);
-                break;
-            case ACTION:
-                // Check if the action card should be banked instead of played
-                // Houses and Hotels can be banked as money cards
-                if (move.getDestination() != null && move.getDestination().equals("BANK")) {
-                    p.getBank().add(card);
-                    state.getLogs().add(new GameState.GameLog(
-                        p.getName() + " banked " + card.getName() + " as $" + card.getValue() + "M.", 
-                        "info"));
-                } else {
-                    handleActionCard(state, p, card, move);
-                }
-                break;
-            default:
-                break;
+        PlayContext play = new PlayContext(state, p, card, move);
+        ActionHandler handler = handlerFor(play);
+        if (handler == null) {
+            log.warn("Unimplemented card: {} {}", card.getType(), card.getActionType());
+            return;
+        }
+
+        long start = System.nanoTime();
+        handler.resolveTargets(play);
+        stageTimings.record(MoveStage.RESOLVE_TARGETS, start);
+
+        if (!play.isCancelled() && !play.getTargets().isEmpty()) {
+            start = System.nanoTime();
+            play.getTargets().removeIf(target -> handler.blocks(play, target));
+            if (play.getTargets().isEmpty()) {
+                play.cancel();
+            }
+            stageTimings.record(MoveStage.REACTION_WINDOW, start);
         }
+
+        if (play.isCancelled()) {
+            return;
+        }
+
+        start = System.nanoTime();
+        handler.apply(play);
+        stageTimings.record(MoveStage.APPLY, start);
+
+        // Steals and trades can complete a set on either side
+        start = System.nanoTime();
+        checkWinCondition(state, p);
+        for (Player target : play.getTargets()) {
+            checkWinCondition(state, target);
+        }
+        stageTimings.record(MoveStage.WIN_CHECK, start);
     }
 
-    private void handleActionCard(GameState state, Player p, Card card, Move move) {
-        state.getDiscardPile().add(card);
-        state.getLogs().add(new GameState.GameLog(p.getName() + " played action: " + card.getName(), "event"));
-        
-        switch (card.getActionType()) {
-            case PASS_GO:
-                handleDraw(state, p.getId());
-                break;
-                
-            case DEBT_COLLECTOR:
-                if (checkForJustSayNo(state, p, move, "DEBT_COLLECTOR")) return;
-                handleDebtCollector(state, p, move);
-                break;
-                
-            case BIRTHDAY:
-                // Birthday affects all players, harder to Just Say No
-                handleBirthday(state, p);
-                break;
-                
-            case SLY_DEAL:
-                if (checkForJustSayNo(state, p, move, "SLY_DEAL")) return;
-                handleSlyDeal(state, p, move);
-                break;
-                
-            case FORCED_DEAL:
-                if (checkForJustSayNo(state, p, move, "FORCED_DEAL")) return;
-                handleForcedDeal(state, p, move);
-                break;
-                
-            case DEAL_BREAKER:
-                if (checkForJustSayNo(state, p, move, "DEAL_BREAKER")) return;
-                handleDealBreaker(state, p, move);
-                break;
-                
-            case JUST_SAY_NO:
-                // Just Say No is handled in checkForJustSayNo
-                state.getLogs().add(new GameState.GameLog(
-                    p.getName() + " said NO! The action was cancelled.",
-                    "event"));
-                break;
-                
-            case HOUSE:
-                handleHouse(state, p, move);
-                break;
-                
-            case HOTEL:
-                handleHotel(state, p, move);
-                break;
-                
-            case DOUBLE_RENT:
-                handleDoubleRent(state, p);
-                break;
-                
-            default:
-                log.warn("Unimplemented action type: {}", card.getActionType());
-                break;
+    /**
+     * Handler for a play; action cards go to the discard pile as they are played
+     */
+    private ActionHandler handlerFor(PlayContext play) {
+        Card card = play.getCard();
+        if (card.getType() != CardType.ACTION) {
+            return cardHandlers.get(card.getType());
+        }
+        // Houses and Hotels (any action, really) can be banked as money
+        if ("BANK".equals(play.getMove().getDestination())) {
+            return this::bankCard;
+        }
+        play.getState().getDiscardPile().add(card);
+        play.getState().getLogs().add(new GameState.GameLog(play.getPlayer().getName() + " played action: " + card.getName(), "event"));
+        return actionHandlers.get(card.getActionType());
+    }
+
+    private void bankCard(PlayContext play) {
+        Player p = play.getPlayer();
+        Card card = play.getCard();
+        p.getBank().add(card);
+        if (card.getType() == CardType.MONEY) {
+            play.getState().getLogs().add(new GameState.GameLog(p.getName() + " banked $" + card.getValue() + "M.", "info"));
+        } else {
+            play.getState().getLogs().add(new GameState.GameLog(
+                p.getName() + " banked " + card.getName() + " as $" + card.getValue() + "M.", 
+                "info"));
         }
     }
 
-    private void handleDoubleRent(GameState state, Player player) {
+    private void playProperty(PlayContext play) {
+        Player p = play.getPlayer();
+        Card card = play.getCard();
+        // Smart wild card color selection
+        if (card.getType() == CardType.PROPERTY_WILD) {
+            String bestColor = selectBestWildCardColor(p, card);
+            if (bestColor != null) {
+                card.setCurrentColor(bestColor);
+            }
+        }
+        
+        p.getProperties().add(card);
+        play.getState().getLogs().add(new GameState.GameLog(p.getName() + " played property: " + card.getName(), "event"));
+    }
+
+    private void handleDoubleRent(PlayContext play) {
+        Player player = play.getPlayer();
         // Set flag to double next rent
-        state.getTurnContext().setDoubleRentActive(true);
+        play.getState().getTurnContext().setDoubleRentActive(true);
         
-        state.getLogs().add(new GameState.GameLog(
+        play.getState().getLogs().add(new GameState.GameLog(
             player.getName() + " played Double Rent! Next rent will be doubled.",
             "event"));
         
         log.info("{} activated Double Rent", player.getName());
     }
 
-    private void handleHouse(GameState state, Player player, Move move) {
+    private void handleHouse(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
         // Find a complete set to place house on
-        String targetColor = findCompleteSetForBuilding(player);
+        PropertyColor targetColor = findCompleteSetForBuilding(player);
         
         if (targetColor == null) {
             state.getLogs().add(new GameState.GameLog(
@@ -277,9 +815,8 @@ public class GameEngine {
         }
         
         // Place house on one property of that color
-        for (Card card : player.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (targetColor.equals(cardColor) && !card.hasHouse() && !card.hasHotel()) {
+        for (Card card : player.propertiesOf(targetColor)) {
+            if (!card.hasHouse() && !card.hasHotel()) {
                 card.setHasHouse(true);
                 state.getLogs().add(new GameState.GameLog(
                     player.getName() + " placed a House on " + card.getName() + "!",
@@ -290,9 +827,11 @@ public class GameEngine {
         }
     }
 
-    private void handleHotel(GameState state, Player player, Move move) {
+    private void handleHotel(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
         // Find a complete set with a house to upgrade to hotel
-        String targetColor = findCompleteSetWithHouse(player);
+        PropertyColor targetColor = findCompleteSetWithHouse(player);
         
         if (targetColor == null) {
             state.getLogs().add(new GameState.GameLog(
@@ -302,9 +841,8 @@ public class GameEngine {
         }
         
         // Upgrade house to hotel on one property
-        for (Card card : player.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (targetColor.equals(cardColor) && card.hasHouse() && !card.hasHotel()) {
+        for (Card card : player.propertiesOf(targetColor)) {
+            if (card.hasHouse() && !card.hasHotel()) {
                 card.setHasHotel(true);
                 state.getLogs().add(new GameState.GameLog(
                     player.getName() + " upgraded to a Hotel on " + card.getName() + "!",
@@ -315,67 +853,29 @@ public class GameEngine {
         }
     }
 
-    private String findCompleteSetForBuilding(Player player) {
-        List<String> availableColors = rentCalculator.getAvailableRentColors(player);
-        
-        for (String color : availableColors) {
-            if (rentCalculator.hasCompleteSet(player, color)) {
-                return color;
-            }
-        }
-        
-        return null;
+    private PropertyColor findCompleteSetForBuilding(Player player) {
+        return player.firstCompleteSet();
     }
 
-    private String findCompleteSetWithHouse(Player player) {
-        List<String> availableColors = rentCalculator.getAvailableRentColors(player);
-        
-        for (String color : availableColors) {
-            if (rentCalculator.hasCompleteSet(player, color)) {
-                // Check if any property in this set has a house
-                for (Card card : player.getProperties()) {
-                    String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-                    if (color.equals(cardColor) && card.hasHouse()) {
-                        return color;
-                    }
-                }
+    private PropertyColor findCompleteSetWithHouse(Player player) {
+        for (PropertyColor color : PropertyColor.values()) {
+            if (player.hasCompleteSet(color) && player.housesOf(color) > 0) {
+                return color;
             }
         }
-        
         return null;
     }
 
     /**
-     * Check if target player wants to use Just Say No
-     * Returns true if action was cancelled
+     * Reaction window for action cards: a bot target with Just Say No decides whether to block
      */
-    private boolean checkForJustSayNo(GameState state, Player attacker, Move move, String actionType) {
-        // Determine target player
-        int targetPlayerId = -1;
-        
-        switch (actionType) {
-            case "DEBT_COLLECTOR":
-            case "SLY_DEAL":
-            case "FORCED_DEAL":
-                targetPlayerId = move.getTargetPlayerId() != null ? 
-                    move.getTargetPlayerId() : selectBestSlyDealTarget(state, attacker.getId());
-                break;
-            case "DEAL_BREAKER":
-                targetPlayerId = selectPlayerWithCompleteSet(state, attacker.getId());
-                break;
-        }
-        
-        if (targetPlayerId == -1 || targetPlayerId == attacker.getId()) {
-            return false;
-        }
-        
-        Player target = state.getPlayers().get(targetPlayerId);
+    private boolean actionJustSayNo(PlayContext play, Player target) {
+        GameState state = play.getState();
+        Player attacker = play.getPlayer();
+        String actionType = play.getCard().getActionType().name();
         
         // Check if target has Just Say No card
-        Card justSayNo = target.getHand().stream()
-            .filter(c -> c.getActionType() == ActionType.JUST_SAY_NO)
-            .findFirst()
-            .orElse(null);
+        Card justSayNo = findJustSayNo(target);
         
         if (justSayNo == null) {
             return false; // No Just Say No available
@@ -407,13 +907,25 @@ public class GameEngine {
         return false; // Action proceeds
     }
 
+    private Card findJustSayNo(Player player) {
+        for (Card card : player.getHand()) {
+            if (card.getActionType() == ActionType.JUST_SAY_NO) {
+                return card;
+            }
+        }
+        return null;
+    }
+
 
-    private void handleSlyDeal(GameState state, Player player, Move move) {
-        // Select target player
-        int targetPlayerId = move.getTargetPlayerId() != null ? 
-            move.getTargetPlayerId() : selectBestSlyDealTarget(state, player.getId());
+    private void handleSlyDeal(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
+        Player target = play.getTarget();
         
-        Player target = state.getPlayers().get(targetPlayerId);
+        if (target == null) {
+            log.warn("{} has no opponent to target", player.getName());
+            return;
+        }
         
         // Select property to steal (cannot be from complete set)
         Card propertyToSteal = selectStealableProperty(state, target, player);
@@ -443,12 +955,15 @@ public class GameEngine {
         log.info("{} stole {}{} from {}", player.getName(), propertyToSteal.getName(), buildingInfo, target.getName());
     }
 
-    private void handleForcedDeal(GameState state, Player player, Move move) {
-        // Select target player
-        int targetPlayerId = move.getTargetPlayerId() != null ? 
-            move.getTargetPlayerId() : selectBestForcedDealTarget(state, player.getId());
+    private void handleForcedDeal(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
+        Player target = play.getTarget();
         
-        Player target = state.getPlayers().get(targetPlayerId);
+        if (target == null) {
+            log.warn("{} has no opponent to target", player.getName());
+            return;
+        }
         
         // Select property to give away (low value, not in complete set)
         Card propertyToGive = selectPropertyToGiveAway(state, player);
@@ -479,21 +994,20 @@ public class GameEngine {
             player.getName(), propertyToGive.getName(), propertyToReceive.getName(), target.getName());
     }
 
-    private void handleDealBreaker(GameState state, Player player, Move move) {
-        // Select target player with complete set
-        int targetPlayerId = selectPlayerWithCompleteSet(state, player.getId());
+    private void handleDealBreaker(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
+        Player target = play.getTarget();
         
-        if (targetPlayerId == -1) {
+        if (target == null) {
             state.getLogs().add(new GameState.GameLog(
                 player.getName() + " played Deal Breaker but no one has a complete set!",
                 "warning"));
             return;
         }
         
-        Player target = state.getPlayers().get(targetPlayerId);
-        
         // Find a complete set to steal
-        String colorToSteal = findCompleteSetToSteal(state, target);
+        PropertyColor colorToSteal = findCompleteSetToSteal(state, target);
         
         if (colorToSteal == null) {
             state.getLogs().add(new GameState.GameLog(
@@ -503,13 +1017,7 @@ public class GameEngine {
         }
         
         // Steal entire set
-        List<Card> setCards = new ArrayList<>();
-        for (Card card : target.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (colorToSteal.equals(cardColor)) {
-                setCards.add(card);
-            }
-        }
+        List<Card> setCards = new ArrayList<>(target.propertiesOf(colorToSteal));
         
         for (Card card : setCards) {
             target.getProperties().remove(card);
@@ -518,57 +1026,37 @@ public class GameEngine {
         
         state.getLogs().add(new GameState.GameLog(
             player.getName() + " stole " + target.getName() + "'s complete " + 
-            colorToSteal + " set (" + setCards.size() + " properties)!",
+            colorToSteal.key() + " set (" + setCards.size() + " properties)!",
             "event"));
         
         log.info("{} stole complete {} set from {}", 
             player.getName(), colorToSteal, target.getName());
-        
-        // Check if player now wins
-        checkWinCondition(state, player);
     }
 
 
-    private void handleDebtCollector(GameState state, Player player, Move move) {
-        // Determine target player
-        int targetPlayerId;
-        if (move.getTargetPlayerId() != null) {
-            targetPlayerId = move.getTargetPlayerId();
-        } else {
-            // Bot selects richest opponent
-            targetPlayerId = selectRichestOpponent(state, player.getId());
-        }
-        
-        // Create payment request for Debt Collector amount
-        createPaymentRequest(state, targetPlayerId, player.getId(), GameConstants.DEBT_COLLECTOR_AMOUNT, "debt_collector", null);
+    private void handleDebtCollector(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
         
-        // Process payment immediately (for bots)
-        PaymentRequest request = state.getTurnContext().getPendingPayments()
-            .stream()
-            .filter(r -> !r.isResolved())
-            .findFirst()
-            .orElse(null);
-        
-        if (request != null) {
-            handlePayment(state, request);
+        if (play.getTarget() == null) {
+            log.warn("{} has no opponent to target", player.getName());
+            return;
         }
+        
+        collectPayments(state, player, List.of(play.getTarget()), GameConstants.DEBT_COLLECTOR_AMOUNT, "debt_collector", null);
     }
 
-    private void handleBirthday(GameState state, Player player) {
+    private void handleBirthday(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
         // All other players pay Birthday amount to the active player
+        List<Player> debtors = new ArrayList<>(state.getPlayers().size() - 1);
         for (Player opponent : state.getPlayers()) {
             if (opponent.getId() != player.getId()) {
-                createPaymentRequest(state, opponent.getId(), player.getId(), GameConstants.BIRTHDAY_AMOUNT_PER_PLAYER, "birthday", null);
-            }
-        }
-        
-        // Process all payments
-        List<PaymentRequest> pendingPayments = new ArrayList<>(state.getTurnContext().getPendingPayments());
-        for (PaymentRequest request : pendingPayments) {
-            if (!request.isResolved()) {
-                handlePayment(state, request);
+                debtors.add(opponent);
             }
         }
+        collectPayments(state, player, debtors, GameConstants.BIRTHDAY_AMOUNT_PER_PLAYER, "birthday", null);
     }
 
     private int selectRichestOpponent(GameState state, int playerId) {
@@ -604,8 +1092,8 @@ public class GameEngine {
         List<Card> stealableProps = new ArrayList<>();
         
         for (Card card : target.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null && !rentCalculator.hasCompleteSet(target, color)) {
+            PropertyColor color = card.getPropertyColor();
+            if (color != null && !target.hasCompleteSet(color)) {
                 stealableProps.add(card);
             }
         }
@@ -616,8 +1104,7 @@ public class GameEngine {
         
         // Prioritize properties that help thief complete sets
         for (Card prop : stealableProps) {
-            String color = prop.getCurrentColor() != null ? prop.getCurrentColor() : prop.getColor();
-            if (color != null && wouldHelpCompleteSet(thief, color)) {
+            if (wouldHelpCompleteSet(thief, prop.getPropertyColor())) {
                 return prop;
             }
         }
@@ -632,8 +1119,8 @@ public class GameEngine {
         List<Card> tradableProps = new ArrayList<>();
         
         for (Card card : player.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null && !rentCalculator.hasCompleteSet(player, color)) {
+            PropertyColor color = card.getPropertyColor();
+            if (color != null && !player.hasCompleteSet(color)) {
                 tradableProps.add(card);
             }
         }
@@ -647,19 +1134,11 @@ public class GameEngine {
         return tradableProps.get(0);
     }
 
-    private boolean wouldHelpCompleteSet(Player player, String color) {
+    private boolean wouldHelpCompleteSet(Player player, PropertyColor color) {
         if (color == null) return false;
         
-        int currentCount = 0;
-        for (Card card : player.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color.equals(cardColor)) {
-                currentCount++;
-            }
-        }
-        
-        // Check if adding one more would complete the set
-        return rentCalculator.hasCompleteSet(player, color) == false && currentCount > 0;
+        // Only worth it if the set is started but not yet complete
+        return player.countOf(color) > 0 && !player.hasCompleteSet(color);
     }
 
     private int selectBestSlyDealTarget(GameState state, int playerId) {
@@ -695,19 +1174,17 @@ public class GameEngine {
         return -1;
     }
 
-    private String findCompleteSetToSteal(GameState state, Player target) {
-        List<String> availableColors = rentCalculator.getAvailableRentColors(target);
-        
-        for (String color : availableColors) {
-            if (rentCalculator.hasCompleteSet(target, color)) {
-                return color;
-            }
-        }
-        
-        return null;
+    private PropertyColor findCompleteSetToSteal(GameState state, Player target) {
+        return findCompleteSetForBuilding(target);
     }
 
-    private void handleRentCard(GameState state, Player player, Card rentCard, Move move) {
+    /**
+     * Pick the rent color and amount and who is charged; logs the charge
+     */
+    private void resolveRent(PlayContext play) {
+        GameState state = play.getState();
+        Player player = play.getPlayer();
+        Card rentCard = play.getCard();
         state.getDiscardPile().add(rentCard);
         
         // Determine which color to charge rent for
@@ -718,6 +1195,7 @@ public class GameEngine {
             if (rentColor == null) {
                 state.getLogs().add(new GameState.GameLog(
                     player.getName() + " played Wild Rent but has no properties!", "warning"));
+                play.cancel();
                 return;
             }
         } else {
@@ -738,6 +1216,7 @@ public class GameEngine {
             if (rentColor == null) {
                 state.getLogs().add(new GameState.GameLog(
                     player.getName() + " played " + rentCard.getName() + " but has no matching properties!", "warning"));
+                play.cancel();
                 return;
             }
         }
@@ -753,54 +1232,38 @@ public class GameEngine {
                 "Double Rent activated! Rent doubled to $" + rentAmount + "M!",
                 "event"));
         }
+        play.setColor(rentColor);
+        play.setAmount(rentAmount);
         
         state.getLogs().add(new GameState.GameLog(
             player.getName() + " charged $" + rentAmount + "M rent for " + rentColor + " properties", "event"));
         
-        // Determine target(s) and check for Just Say No
         if (rentCalculator.hasCompleteSet(player, rentColor)) {
             // Complete set - charge ALL opponents
             for (Player opponent : state.getPlayers()) {
-                if (opponent.getId() != player.getId()) {
-                    // Check if this opponent uses Just Say No
-                    if (checkForJustSayNoRent(state, player, opponent, rentAmount)) {
-                        continue; // This opponent blocked the rent
-                    }
-                    createPaymentRequest(state, opponent.getId(), player.getId(), rentAmount, "rent", rentCard.getUid());
-                }
+                play.target(opponent.getId());
             }
         } else {
             // Incomplete set - charge ONE opponent
-            int targetPlayerId;
-            if (move.getTargetPlayerId() != null) {
-                targetPlayerId = move.getTargetPlayerId();
-            } else {
-                // Bot selects richest opponent
-                targetPlayerId = selectRichestOpponent(state, player.getId());
-            }
-            
-            // Check for Just Say No
-            Player target = state.getPlayers().get(targetPlayerId);
-            if (!checkForJustSayNoRent(state, player, target, rentAmount)) {
-                createPaymentRequest(state, targetPlayerId, player.getId(), rentAmount, "rent", rentCard.getUid());
-            }
-        }
-        
-        // Process all pending payments
-        List<PaymentRequest> pendingPayments = new ArrayList<>(state.getTurnContext().getPendingPayments());
-        for (PaymentRequest request : pendingPayments) {
-            if (!request.isResolved()) {
-                handlePayment(state, request);
-            }
+            Integer targetPlayerId = play.getMove().getTargetPlayerId();
+            // Bot selects richest opponent
+            play.target(targetPlayerId != null ? targetPlayerId : selectRichestOpponent(state, player.getId()));
         }
     }
 
-    private boolean checkForJustSayNoRent(GameState state, Player charger, Player target, int rentAmount) {
+    /**
+     * Bill every target that didn't block, then settle the payments
+     */
+    private void chargeRent(PlayContext play) {
+        GameState state = play.getState();
+        collectPayments(state, play.getPlayer(), play.getTargets(), play.getAmount(), "rent", play.getCard().getUid());
+    }
+
+    private boolean rentJustSayNo(PlayContext play, Player target) {
+        GameState state = play.getState();
+        int rentAmount = play.getAmount();
         // Check if target has Just Say No card
-        Card justSayNo = target.getHand().stream()
-            .filter(c -> c.getActionType() == ActionType.JUST_SAY_NO)
-            .findFirst()
-            .orElse(null);
+        Card justSayNo = findJustSayNo(target);
         
         if (justSayNo == null) {
             return false;
@@ -823,7 +1286,7 @@ public class GameEngine {
                 "event"));
             
             log.info("{} used Just Say No to block ${} rent from {}", 
-                target.getName(), rentAmount, charger.getName());
+                target.getName(), rentAmount, play.getPlayer().getName());
             
             return true;
         }
@@ -835,10 +1298,13 @@ public class GameEngine {
     private void handleEndTurn(GameState state, int playerId) {
         Player p = state.getPlayers().get(playerId);
         
-        // Force discard to 7
-        while (p.getHand().size() > 7) {
-            Card discarded = p.getHand().remove(0);
-            state.getDiscardPile().add(discarded);
+        // Force discard to 7, oldest first; taken up front since swap-remove reorders the hand
+        int excess = p.getHand().size() - GameConstants.MAX_HAND_SIZE;
+        if (excess > 0) {
+            for (Card discarded : new ArrayList<>(p.getHand().subList(0, excess))) {
+                p.getHand().remove(discarded);
+                state.getDiscardPile().add(discarded);
+            }
         }
 
         int nextPlayerId = (playerId + 1) % state.getPlayers().size();
@@ -856,54 +1322,50 @@ public class GameEngine {
     }
 
     // Payment System Methods
-    private void createPaymentRequest(GameState state, int fromPlayerId, int toPlayerId, int amount, String reason, String cardUid) {
-        PaymentRequest request = new PaymentRequest(fromPlayerId, toPlayerId, amount, reason, cardUid);
-        state.getTurnContext().getPendingPayments().add(request);
-        
-        Player fromPlayer = state.getPlayers().get(fromPlayerId);
-        Player toPlayer = state.getPlayers().get(toPlayerId);
-        
-        state.getLogs().add(new GameState.GameLog(
-            fromPlayer.getName() + " must pay $" + amount + "M to " + toPlayer.getName() + " (" + reason + ")",
-            "payment"
-        ));
-        
-        log.info("Payment request created: {} must pay ${} to {} (reason: {})", 
-            fromPlayer.getName(), amount, toPlayer.getName(), reason);
-    }
 
-    private void handlePayment(GameState state, PaymentRequest request) {
-        Player payer = state.getPlayers().get(request.getFromPlayerId());
-        Player payee = state.getPlayers().get(request.getToPlayerId());
-        
-        // Bot automatically selects cards to pay
-        if (!payer.isHuman()) {
-            List<Card> cardsToPayWith = botEngine.selectCardsForPayment(payer, request.getAmount());
-            processPayment(state, request, cardsToPayWith);
+    /**
+     * Bill every debtor of one action and settle them all in a single pass
+     * The batch is logged as one entry and retired to the payment history,
+     * so the pending queue only ever holds the payments still being settled
+     */
+    private void collectPayments(GameState state, Player payee, List<Player> debtors, int amount, String reason, String cardUid) {
+        if (debtors.isEmpty()) {
+            return;
         }
-        // For human players, this would wait for their selection
-        // For now, we'll auto-process for all players
-        else {
-            List<Card> cardsToPayWith = selectCardsForPayment(payer, request.getAmount());
-            processPayment(state, request, cardsToPayWith);
+        GameState.TurnContext turn = state.getTurnContext();
+        List<PaymentRequest> batch = new ArrayList<>(debtors.size());
+        for (Player payer : debtors) {
+            batch.add(new PaymentRequest(payer.getId(), payee.getId(), amount, reason, cardUid));
         }
-    }
+        turn.getPendingPayments().addAll(batch);
 
-    private void processPayment(GameState state, PaymentRequest request, List<Card> cardsToPayWith) {
-        Player payer = state.getPlayers().get(request.getFromPlayerId());
-        Player payee = state.getPlayers().get(request.getToPlayerId());
-        
-        int totalValue = calculateTotalValue(cardsToPayWith);
-        
-        // Check if payment is insufficient
-        if (totalValue < request.getAmount()) {
-            state.getLogs().add(new GameState.GameLog(
-                payer.getName() + " can only pay $" + totalValue + "M of the $" + request.getAmount() + "M owed!",
-                "warning"
-            ));
+        StringBuilder summary = new StringBuilder();
+        int collected = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Player payer = debtors.get(i);
+            // Humans would pick their own cards; until the client can, they pay
+            // with the same optimizer as the bots
+            int paid = settlePayment(state, batch.get(i), payer, payee,
+                botEngine.selectCardsForPayment(payer, amount));
+            collected += paid;
+            summary.append(i == 0 ? ": " : ", ").append(payer.getName()).append(" $").append(paid).append('M');
+            if (paid < amount) {
+                summary.append(" of $").append(amount).append('M');
+            }
         }
-        
-        // Transfer cards from payer to payee's bank
+        turn.retirePayments(batch, GameConstants.PAYMENT_HISTORY_CAPACITY);
+
+        state.getLogs().add(new GameState.GameLog(
+            payee.getName() + " collected $" + collected + "M (" + reason + ")" + summary,
+            "payment"
+        ));
+        log.info("{} collected ${} from {} payer(s) (reason: {})", payee.getName(), collected, batch.size(), reason);
+    }
+
+    /**
+     * Move the chosen cards to the payee's bank and return the value paid
+     */
+    private int settlePayment(GameState state, PaymentRequest request, Player payer, Player payee, List<Card> cardsToPayWith) {
         for (Card card : cardsToPayWith) {
             payer.getHand().remove(card);
             payer.getProperties().remove(card);
@@ -913,50 +1375,10 @@ public class GameEngine {
         }
         
         request.setResolved(true);
-        
-        state.getLogs().add(new GameState.GameLog(
-            payer.getName() + " paid $" + totalValue + "M to " + payee.getName(),
-            "payment"
-        ));
-        
-        log.info("{} paid ${} to {} using {} cards", 
-            payer.getName(), totalValue, payee.getName(), cardsToPayWith.size());
-    }
-
-    private List<Card> selectCardsForPayment(Player player, int amount) {
-        List<Card> selectedCards = new ArrayList<>();
-        int totalValue = 0;
-        
-        // Priority: Money cards first, then action cards, then properties
-        List<Card> allCards = new ArrayList<>();
-        allCards.addAll(player.getBank());
-        allCards.addAll(player.getHand());
-        
-        // Sort by value (ascending) to minimize overpayment
-        allCards.sort(Comparator.comparingInt(Card::getValue));
-        
-        for (Card card : allCards) {
-            if (totalValue >= amount) break;
-            
-            // Prefer money and action cards over properties
-            if (card.getType() == CardType.MONEY || card.getType() == CardType.ACTION) {
-                selectedCards.add(card);
-                totalValue += card.getValue();
-            }
-        }
-        
-        // If still not enough, add properties
-        if (totalValue < amount) {
-            for (Card card : allCards) {
-                if (totalValue >= amount) break;
-                if (!selectedCards.contains(card) && card.getType() == CardType.PROPERTY) {
-                    selectedCards.add(card);
-                    totalValue += card.getValue();
-                }
-            }
+        if (state.getOutcome() != null) {
+            state.getOutcome().paid(payer.getId(), payee.getId(), idsOf(cardsToPayWith));
         }
-        
-        return selectedCards;
+        return calculateTotalValue(cardsToPayWith);
     }
 
     private int calculateTotalValue(List<Card> cards) {
@@ -965,132 +1387,87 @@ public class GameEngine {
 
 
     private void checkWinCondition(GameState state, Player player) {
+        if ("GAME_OVER".equals(state.getStatus())) {
+            return;
+        }
         int completedSets = countCompletedSets(player);
-        if (completedSets >= 3) {
+        if (completedSets >= GameConstants.SETS_TO_WIN) {
             state.setStatus("GAME_OVER");
             state.getLogs().add(new GameState.GameLog(player.getName() + " WINS with 3 complete sets!", "event"));
         }
     }
 
     private int countCompletedSets(Player player) {
-        // Count completed property sets for win condition
-        Map<String, Integer> colorCounts = new HashMap<>();
-        for (Card card : player.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null) {
-                colorCounts.put(color, colorCounts.getOrDefault(color, 0) + 1);
-            }
-        }
-        
-        int completed = 0;
-        Map<String, Integer> requiredCounts = Map.of(
-            "brown", 2, "dark_blue", 2, "light_blue", 3, "pink", 3,
-            "orange", 3, "red", 3, "yellow", 3, "green", 3, "railroad", 4, "utility", 2
-        );
-        
-        for (Map.Entry<String, Integer> entry : colorCounts.entrySet()) {
-            Integer required = requiredCounts.get(entry.getKey());
-            if (required != null && entry.getValue() >= required) {
-                completed++;
-            }
-        }
-        
-        return completed;
+        return player.countCompletedSets();
     }
 
     private String selectBestWildCardColor(Player player, Card wildCard) {
-        // For rainbow wild cards, can be any color
-        List<String> possibleColors;
-        if (wildCard.isRainbow()) {
-            possibleColors = Arrays.asList("brown", "dark_blue", "light_blue", "pink", 
-                "orange", "red", "yellow", "green", "railroad", "utility");
-        } else if (wildCard.getColors() != null && !wildCard.getColors().isEmpty()) {
-            possibleColors = wildCard.getColors();
-        } else {
+        // Rainbow wilds allow every color, two-color wilds their pair
+        int allowed = wildCard.getDefinition().colorMask();
+        if (allowed == 0) {
             return wildCard.getCurrentColor(); // Already has a color
         }
         
-        // Count existing properties by color
-        Map<String, Integer> colorCounts = new HashMap<>();
-        for (Card card : player.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null) {
-                colorCounts.put(color, colorCounts.getOrDefault(color, 0) + 1);
-            }
-        }
-        
-        // Set requirements
-        Map<String, Integer> requiredCounts = Map.of(
-            "brown", 2, "dark_blue", 2, "light_blue", 3, "pink", 3,
-            "orange", 3, "red", 3, "yellow", 3, "green", 3, "railroad", 4, "utility", 2
-        );
-        
         // Strategy: Choose color that gets closest to completing a set
-        String bestColor = null;
+        PropertyColor bestColor = null;
         int bestScore = -1;
         
-        for (String color : possibleColors) {
-            int currentCount = colorCounts.getOrDefault(color, 0);
-            Integer required = requiredCounts.get(color);
+        for (PropertyColor color : PropertyColor.values()) {
+            if ((allowed & color.bit()) == 0) {
+                continue;
+            }
+            int currentCount = player.countOf(color);
             
-            if (required != null) {
-                // Score: how close to completing the set
-                int score = currentCount;
-                
-                // Bonus if this would complete the set
-                if (currentCount + 1 >= required) {
-                    score += 100;
-                }
-                
-                // Bonus for colors with higher rent values
-                if (color.equals("dark_blue") || color.equals("green")) {
-                    score += 5;
-                }
-                
-                if (score > bestScore) {
-                    bestScore = score;
-                    bestColor = color;
-                }
+            // Score: how close to completing the set
+            int score = currentCount;
+            
+            // Bonus if this would complete the set
+            if (color.isComplete(currentCount + 1)) {
+                score += 100;
+            }
+            
+            // Bonus for colors with higher rent values
+            if (color == PropertyColor.DARK_BLUE || color == PropertyColor.GREEN) {
+                score += 5;
+            }
+            
+            if (score > bestScore) {
+                bestScore = score;
+                bestColor = color;
             }
         }
         
-        // If no good choice, pick first available color
-        return bestColor != null ? bestColor : possibleColors.get(0);
-    }
-
-    private void checkTurnEndAndTriggerBot(String roomId, GameState state) {
-        // If actions remaining is 0, automatically end turn
-        if (state.getTurnContext().getActionsRemaining() <= 0) {
-            int currentPlayer = state.getTurnContext().getActivePlayerId();
-            handleEndTurn(state, currentPlayer);
-            broadcastGameState(roomId, state);
-            triggerBotTurnIfNeeded(roomId, state);
-        }
+        return bestColor.key();
     }
 
     private void triggerBotTurnIfNeeded(String roomId, GameState state) {
+        if (botTurnScheduler == null) {
+            return; // Outside Spring bots are driven by the caller
+        }
+        if ("GAME_OVER".equals(state.getStatus())) {
+            botTurnScheduler.cancelRoom(roomId);
+            return;
+        }
+        
         int activePlayerId = state.getTurnContext().getActivePlayerId();
         Player activePlayer = state.getPlayers().get(activePlayerId);
         
         if (!activePlayer.isHuman()) {
             log.info("Triggering bot turn for player {}", activePlayerId);
             // Schedule bot move with a delay for better UX
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1500); // 1.5 second delay
-                    executeBotTurn(roomId, activePlayerId);
-                } catch (InterruptedException e) {
-                    log.error("Bot turn interrupted", e);
-                }
-            }).start();
+            scheduleBotStep(roomId, activePlayerId, GameConstants.BOT_TURN_DELAY_MS);
         }
     }
 
+    private void scheduleBotStep(String roomId, int botId, long delayMs) {
+        botTurnScheduler.schedule(roomId, delayMs, () -> executeBotTurn(roomId, botId));
+    }
+
     private void executeBotTurn(String roomId, int botId) {
         GameRoom room = activeGames.get(roomId);
         if (room == null) return;
 
-        room.executeWithLock(() -> {
+        room.submit(() -> {
             GameState state = room.getGameState();
             
             // Check if still bot's turn
@@ -1100,40 +1477,96 @@ public class GameEngine {
             
             // If bot needs to draw
             if (state.getTurnContext().getActionsRemaining() == 0) {
-                handleDraw(state, botId);
+                applyJournaled(room, new Move(botId, "DRAW", null, null, null));
                 broadcastGameState(roomId, state);
                 // Schedule next bot action
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(1200);
-                        executeBotTurn(roomId, botId);
-                    } catch (InterruptedException e) {
-                        log.error("Bot turn interrupted", e);
-                    }
-                }).start();
+                scheduleBotStep(roomId, botId, GameConstants.BOT_ACTION_DELAY_MS);
+                return;
+            }
+            
+            if (searchBotEngine != null
+                    && state.getPlayers().get(botId).getDifficulty() == BotDifficulty.SEARCH) {
+                searchBotTurn(room, botId);
                 return;
             }
             
             // Calculate and execute bot move
+            long start = System.nanoTime();
             Move botMove = botEngine.calculateBestMove(state, botId);
-            if (botMove != null) {
-                log.info("Bot {} executing move: {}", botId, botMove.getType());
-                processMove(roomId, botMove);
-            } else {
-                // No valid move, end turn
-                handleEndTurn(state, botId);
-                broadcastGameState(roomId, state);
-                triggerBotTurnIfNeeded(roomId, state);
+            if (metrics != null) {
+                metrics.recordBotDecision(BotDifficulty.STANDARD, start);
+            }
+            playBotMove(room, botId, botMove);
+        });
+    }
+
+    /**
+     * Search for the bot's move on the shared search pool so the room keeps
+     * draining its mailbox meanwhile; the chosen move comes back through it
+     * Falls back to the standard bot if the search fails
+     */
+    private void searchBotTurn(GameRoom room, int botId) {
+        String roomId = room.getRoomId();
+        long start = System.nanoTime();
+        searchBotEngine.calculateBestMoveAsync(room.getGameState(), botId).whenComplete((move, error) -> {
+            if (metrics != null) {
+                metrics.recordBotDecision(BotDifficulty.SEARCH, start);
+            }
+            if (error != null) {
+                log.warn("Search for bot {} in room {} failed, using the standard bot", botId, roomId, error);
             }
+            room.submit(() -> {
+                GameState state = room.getGameState();
+                // The turn may have moved on while the search ran
+                if (state.getTurnContext().getActivePlayerId() != botId
+                        || state.getTurnContext().getActionsRemaining() == 0) {
+                    return;
+                }
+                playBotMove(room, botId, move != null ? move : botEngine.calculateBestMove(state, botId));
+            });
         });
     }
 
+    private void playBotMove(GameRoom room, int botId, Move botMove) {
+        String roomId = room.getRoomId();
+        GameState state = room.getGameState();
+        if (botMove != null) {
+            log.info("Bot {} executing move: {}", botId, botMove.getType());
+            processMove(roomId, botMove);
+        } else {
+            // No valid move, end turn
+            applyJournaled(room, new Move(botId, "END_TURN", null, null, null));
+            broadcastGameState(roomId, state);
+            triggerBotTurnIfNeeded(roomId, state);
+        }
+    }
+
     private void broadcastGameState(String roomId, GameState state) {
-        messagingTemplate.convertAndSend("/topic/game/" + roomId, state);
+        if (stateBroadcaster == null) {
+            return; // Outside Spring nobody is listening
+        }
+        long start = System.nanoTime();
+        stateBroadcaster.publish(roomId, state);
+        stageTimings.record(MoveStage.PUBLISH, start);
+    }
+
+    public int getActiveGameCount() {
+        return activeGames.size();
+    }
+
+    /**
+     * Actions waiting in or running from every room's mailbox
+     */
+    public int getMailboxDepth() {
+        int depth = 0;
+        for (GameRoom room : activeGames.values()) {
+            depth += room.getMailboxDepth();
+        }
+        return depth;
     }
 
     public GameState getGameState(String roomId) {
-        GameRoom room = activeGames.get(roomId);
+        GameRoom room = roomOf(roomId);
         return room != null ? room.getGameState() : null;
     }
 }
@@ -0,0 +1,535 @@
+package com.game.service;
+
+import com.game.model.BotDifficulty;
+import com.game.model.Move;
+import com.game.model.MoveOutcome;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of every game created, move accepted and room closed
+ * on this node, in memory-mapped segment files
+ * An append encodes the record and copies it into the mapped segment, nothing
+ * more; a timer forces dirty pages to disk every commit interval, so all the
+ * moves made in between share one fsync. Records are framed as
+ * [length][crc32][body] and a zero length marks the end of the written data,
+ * so a torn tail after a crash is simply where reading stops.
+ * For each open room the journal tracks the oldest segment it still needs:
+ * its creation until a snapshot of it is written, then the segment of the
+ * first move that snapshot lacks. Once retiring is switched on, a segment no
+ * open room needs is deleted when the journal rolls past it
+ */
+@Service
+public class GameJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(GameJournal.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int HEADER_BYTES = 8;
+    private static final String[] MOVE_TYPES = {"DRAW", "PLAY_CARD", "END_TURN", "REACT"};
+
+    public enum Kind { CREATED, MOVE, CLOSED }
+
+    /**
+     * One decoded record and the segment it was read from; seed and bots are
+     * set for CREATED, moveNumber, move and outcome for MOVE
+     */
+    public record Entry(Kind kind, String roomId, long seed, Map<Integer, BotDifficulty> bots,
+                        long moveNumber, Move move, MoveOutcome outcome, int segment) {
+    }
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final ScheduledExecutorService committer;
+    private final Object appendLock = new Object();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder retired = new LongAdder();
+    private FileChannel channel; // Guarded by appendLock
+    private int segmentIndex; // Guarded by appendLock
+    private final Map<String, RoomSpan> openRooms = new HashMap<>(); // Guarded by appendLock
+    private boolean retiring; // Guarded by appendLock
+    private volatile MappedByteBuffer segment;
+
+    public GameJournal(@Value("${game.journal.dir:data/journal}") String dir,
+                       @Value("${game.journal.segment-bytes:67108864}") int segmentBytes,
+                       @Value("${game.journal.commit-interval-ms:10}") long commitIntervalMs) {
+        this.dir = Paths.get(dir);
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(this.dir);
+            List<Path> existing = segments();
+            if (existing.isEmpty()) {
+                openSegment(1, true);
+            } else {
+                openSegment(indexOf(existing.get(existing.size() - 1)), false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open game journal in " + this.dir, e);
+        }
+        this.committer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "journal-commit");
+            t.setDaemon(true);
+            return t;
+        });
+        this.committer.scheduleWithFixedDelay(this::commit, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A new room and the seed all its shuffles follow from
+     */
+    public void created(String roomId, long seed) {
+        created(roomId, seed, Map.of());
+    }
+
+    /**
+     * A new room, its seed and the difficulty of each bot seat that is not STANDARD
+     */
+    public void created(String roomId, long seed, Map<Integer, BotDifficulty> bots) {
+        append(encode(Kind.CREATED, roomId, out -> {
+            out.writeLong(seed);
+            out.writeByte(bots.size());
+            for (Map.Entry<Integer, BotDifficulty> bot : bots.entrySet()) {
+                out.writeByte(bot.getKey());
+                out.writeByte(bot.getValue().ordinal());
+            }
+        }), segment -> openRooms.put(roomId, new RoomSpan(segment, 0)));
+    }
+
+    /**
+     * The room's accepted move number moveNumber (counting from 1) and what it resolved to
+     */
+    public void moved(String roomId, long moveNumber, Move move, MoveOutcome outcome) {
+        append(encode(Kind.MOVE, roomId, out -> {
+            out.writeInt((int) moveNumber);
+            out.writeByte(moveTypeCode(move.getType()));
+            out.writeByte(move.getPlayerId());
+            out.writeShort(cardIdOf(roomId, move.getCardUid()));
+            out.writeByte(move.getTargetPlayerId() != null ? move.getTargetPlayerId() : -1);
+            out.writeShort(cardIdOf(roomId, move.getTargetCardUid()));
+            writeString(out, move.getDestination());
+
+            writeIds(out, outcome.getDrawn());
+            out.writeByte(outcome.getPayments().size());
+            for (MoveOutcome.Payment payment : outcome.getPayments()) {
+                out.writeByte(payment.fromPlayerId());
+                out.writeByte(payment.toPlayerId());
+                writeIds(out, payment.cardIds());
+            }
+        }), segment -> {
+            RoomSpan span = openRooms.get(roomId);
+            if (span != null) {
+                span.moved(moveNumber, segment);
+            }
+        });
+    }
+
+    public void closed(String roomId) {
+        append(encode(Kind.CLOSED, roomId, out -> { }), segment -> openRooms.remove(roomId));
+    }
+
+    /**
+     * A snapshot including the room's first moves moves is on disk, so its
+     * records before the next move are no longer needed
+     */
+    public void covered(String roomId, long moves) {
+        synchronized (appendLock) {
+            RoomSpan span = openRooms.get(roomId);
+            if (span != null) {
+                span.covered(moves, segmentIndex);
+            }
+        }
+    }
+
+    /**
+     * Track a room restored after a restart: it needs the records from
+     * fromSegment on, and lastMove is the last of its moves in the journal
+     */
+    public void reopened(String roomId, int fromSegment, long lastMove) {
+        synchronized (appendLock) {
+            openRooms.put(roomId, new RoomSpan(fromSegment, lastMove));
+        }
+    }
+
+    /**
+     * Index of the segment being appended to
+     */
+    public int getSegmentIndex() {
+        synchronized (appendLock) {
+            return segmentIndex;
+        }
+    }
+
+    /**
+     * Delete the segments no open room needs, now and on every roll from now on
+     * Only call once every open room is tracked, i.e. after recovery
+     * Returns how many segments were deleted
+     */
+    public int retireSegments() {
+        synchronized (appendLock) {
+            retiring = true;
+            return retireUnneeded();
+        }
+    }
+
+    /**
+     * Force everything appended so far to disk; run by the commit timer
+     */
+    public void commit() {
+        if (dirty.getAndSet(false)) {
+            segment.force();
+            commits.increment();
+        }
+    }
+
+    /**
+     * Decode every record on disk, oldest first
+     */
+    public void read(Consumer<Entry> consumer) {
+        try {
+            for (Path path : segments()) {
+                int index = indexOf(path);
+                try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                    ByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+                    int end = endOf(buffer);
+                    while (buffer.position() < end) {
+                        int length = buffer.getInt();
+                        buffer.getInt(); // crc, already checked by endOf
+                        consumer.accept(decode(buffer.slice(buffer.position(), length), index));
+                        buffer.position(buffer.position() + length);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read game journal in " + dir, e);
+        }
+    }
+
+    public long getAppendedCount() {
+        return appended.sum();
+    }
+
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    public long getRetiredCount() {
+        return retired.sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        committer.shutdown();
+        synchronized (appendLock) {
+            segment.force();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close journal segment {}", segmentIndex, e);
+            }
+        }
+    }
+
+    /**
+     * Append one record; onAppended is told the segment it went to, under the
+     * append lock so no roll can retire that segment before it is tracked
+     */
+    private void append(byte[] body, IntConsumer onAppended) {
+        int size = HEADER_BYTES + body.length;
+        if (size > segmentBytes) {
+            throw new IllegalArgumentException("Journal record of " + size + " bytes exceeds the segment size");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        synchronized (appendLock) {
+            if (segment.remaining() < size) {
+                roll();
+            }
+            MappedByteBuffer buffer = segment;
+            buffer.putInt(body.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(body);
+            onAppended.accept(segmentIndex);
+        }
+        dirty.set(true);
+        appended.increment();
+    }
+
+    private void roll() {
+        try {
+            segment.force();
+            channel.close();
+            openSegment(segmentIndex + 1, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll game journal segment " + segmentIndex, e);
+        }
+        if (retiring) {
+            retireUnneeded();
+        }
+    }
+
+    /**
+     * Delete every segment older than the oldest one an open room needs; called under appendLock
+     */
+    private int retireUnneeded() {
+        int oldest = segmentIndex;
+        for (RoomSpan span : openRooms.values()) {
+            oldest = Math.min(oldest, span.pinned);
+        }
+        int deleted = 0;
+        try {
+            for (Path path : segments()) {
+                if (indexOf(path) >= oldest) {
+                    break;
+                }
+                Files.delete(path);
+                deleted++;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to retire journal segments before {}", oldest, e);
+        }
+        if (deleted > 0) {
+            retired.add(deleted);
+            log.info("Retired {} journal segments before segment {}", deleted, oldest);
+        }
+        return deleted;
+    }
+
+    private void openSegment(int index, boolean fresh) throws IOException {
+        Path path = dir.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = fresh ? segmentBytes : Math.max(segmentBytes, ch.size());
+        MappedByteBuffer buffer = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.position(fresh ? 0 : endOf(buffer.duplicate()));
+        channel = ch;
+        segmentIndex = index;
+        segment = buffer;
+        log.info("Journal segment {} open at offset {}", path, buffer.position());
+    }
+
+    /**
+     * Offset just past the last intact record, checking frames from the
+     * buffer's current position
+     */
+    private static int endOf(ByteBuffer buffer) {
+        int pos = buffer.position();
+        CRC32 crc = new CRC32();
+        while (buffer.limit() - pos >= HEADER_BYTES) {
+            int length = buffer.getInt(pos);
+            if (length <= 0 || length > buffer.limit() - pos - HEADER_BYTES) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(pos + HEADER_BYTES, length));
+            if ((int) crc.getValue() != buffer.getInt(pos + 4)) {
+                break;
+            }
+            pos += HEADER_BYTES + length;
+        }
+        return pos;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                    && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static int indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Segments one open room still needs; guarded by appendLock
+     * starts maps the first move of each run of the room's moves in one
+     * segment to that segment, from the oldest run still needed
+     */
+    private static final class RoomSpan {
+        private final NavigableMap<Long, Integer> starts = new TreeMap<>();
+        private int pinned;
+        private long lastMove;
+
+        private RoomSpan(int segment, long lastMove) {
+            this.pinned = segment;
+            this.lastMove = lastMove;
+        }
+
+        private void moved(long moveNumber, int segment) {
+            lastMove = moveNumber;
+            Map.Entry<Long, Integer> run = starts.lastEntry();
+            if (run == null ? segment != pinned : run.getValue() != segment) {
+                starts.put(moveNumber, segment);
+            }
+        }
+
+        private void covered(long moves, int current) {
+            if (moves >= lastMove) {
+                // Nothing appended yet is needed; the next move goes to this segment or a later one
+                starts.clear();
+                pinned = Math.max(pinned, current);
+                return;
+            }
+            Map.Entry<Long, Integer> run = starts.floorEntry(moves + 1);
+            if (run != null) {
+                starts.headMap(run.getKey(), false).clear();
+                pinned = Math.max(pinned, run.getValue());
+            }
+        }
+    }
+
+    // --- Codec ---
+
+    private interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(Kind kind, String roomId, BodyWriter body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(kind.ordinal());
+            writeString(out, roomId);
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory stream, never thrown
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Entry decode(ByteBuffer in, int segment) {
+        Kind kind = Kind.values()[in.get()];
+        String roomId = readString(in, in.getShort());
+        switch (kind) {
+            case CREATED:
+                long seed = in.getLong();
+                Map<Integer, BotDifficulty> bots = new HashMap<>();
+                for (int i = in.get(); i > 0; i--) {
+                    bots.put((int) in.get(), BotDifficulty.values()[in.get()]);
+                }
+                return new Entry(kind, roomId, seed, bots, 0, null, null, segment);
+            case MOVE:
+                long moveNumber = in.getInt();
+                Move move = new Move();
+                move.setType(MOVE_TYPES[in.get()]);
+                move.setPlayerId(in.get());
+                move.setCardUid(uidOf(roomId, in.getShort()));
+                int target = in.get();
+                move.setTargetPlayerId(target >= 0 ? target : null);
+                move.setTargetCardUid(uidOf(roomId, in.getShort()));
+                move.setDestination(readString(in, in.getShort()));
+
+                MoveOutcome outcome = new MoveOutcome();
+                for (int id : readIds(in)) {
+                    outcome.drew(id);
+                }
+                int payments = in.get();
+                for (int i = 0; i < payments; i++) {
+                    int from = in.get();
+                    int to = in.get();
+                    outcome.paid(from, to, readIds(in));
+                }
+                return new Entry(kind, roomId, 0, null, moveNumber, move, outcome, segment);
+            default:
+                return new Entry(kind, roomId, 0, null, 0, null, null, segment);
+        }
+    }
+
+    private static int moveTypeCode(String type) {
+        for (int i = 0; i < MOVE_TYPES.length; i++) {
+            if (MOVE_TYPES[i].equalsIgnoreCase(type)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Move type cannot be journaled: " + type);
+    }
+
+    /**
+     * Template index of one of this room's cards, or -1 for any other uid
+     * A uid from another room or with a padded number matches no card live,
+     * so it must not replay as the room's card with the same index
+     */
+    private static int cardIdOf(String roomId, String uid) {
+        int id = DeckGenerator.idOf(uid);
+        return id >= 0 && uid.equals(DeckGenerator.uidOf(roomId, id)) ? id : -1;
+    }
+
+    private static String uidOf(String roomId, int id) {
+        return id >= 0 ? DeckGenerator.uidOf(roomId, id) : null;
+    }
+
+    private static void writeIds(DataOutputStream out, int[] ids) throws IOException {
+        out.writeShort(ids.length);
+        for (int id : ids) {
+            out.writeShort(id);
+        }
+    }
+
+    private static int[] readIds(ByteBuffer in) {
+        int[] ids = new int[in.getShort()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = in.getShort();
+        }
+        return ids;
+    }
+
+    /**
+     * Strings are written as a signed short length (-1 for null) and UTF-8
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("String too long to journal: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
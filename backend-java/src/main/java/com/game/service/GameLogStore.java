@@ -0,0 +1,100 @@
+package com.game.service;
+
+import com.game.model.GameState;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Append-only log history per room
+ * The live log in GameState only keeps the last few entries; everything ever
+ * appended lands here so clients can page back through a whole game.
+ * Each room has a single appender (its mailbox) and any number of readers
+ */
+@Service
+public class GameLogStore {
+
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final int CHUNK_SIZE = 256;
+
+    private final Map<String, RoomLog> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * Start a fresh history for a room and return its appender
+     */
+    public RoomLog open(String roomId) {
+        RoomLog log = new RoomLog();
+        rooms.put(roomId, log);
+        return log;
+    }
+
+    /**
+     * The room's history so far, or a fresh one if it has none, so a room
+     * reloaded from its snapshot keeps appending where it left off
+     */
+    public RoomLog resume(String roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomLog());
+    }
+
+    public void remove(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * Read up to limit entries starting at seq from, or null if the room is unknown
+     */
+    public Page page(String roomId, long from, int limit) {
+        RoomLog log = rooms.get(roomId);
+        if (log == null) {
+            return null;
+        }
+        return log.page(Math.max(0, from), Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Entries are written into fixed-size chunks before the volatile size is
+     * bumped, so readers never see a slot that is still being filled
+     */
+    public static final class RoomLog {
+        private final List<GameState.GameLog[]> chunks = new CopyOnWriteArrayList<>();
+        private volatile long size;
+
+        public void append(GameState.GameLog entry) {
+            long n = size;
+            int slot = (int) (n % CHUNK_SIZE);
+            if (slot == 0) {
+                chunks.add(new GameState.GameLog[CHUNK_SIZE]);
+            }
+            chunks.get((int) (n / CHUNK_SIZE))[slot] = entry;
+            size = n + 1;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        Page page(long from, int limit) {
+            long total = size;
+            if (from >= total) {
+                return new Page(Collections.emptyList(), total, total);
+            }
+            long end = Math.min(total, from + limit);
+            List<GameState.GameLog> entries = new ArrayList<>((int) (end - from));
+            for (long i = from; i < end; i++) {
+                entries.add(chunks.get((int) (i / CHUNK_SIZE))[(int) (i % CHUNK_SIZE)]);
+            }
+            return new Page(entries, end, total);
+        }
+    }
+
+    /**
+     * One page of history; next is the seq to ask for to continue
+     */
+    public record Page(List<GameState.GameLog> entries, long next, long total) {
+    }
+}
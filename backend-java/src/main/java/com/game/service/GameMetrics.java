@@ -0,0 +1,90 @@
+package com.game.service;
+
+import com.game.model.BotDifficulty;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters recorded on the hot paths: moves, room mailboxes, bot
+ * decisions and broadcast frames
+ * Meters are registered once and cached here, so recording costs a map hit
+ * and a histogram update. Gauges over engine state are bound in MetricsConfig
+ */
+@Component
+public class GameMetrics {
+
+    // Move types the engine accepts; anything else is tagged OTHER to keep tag values bounded
+    private static final Set<String> MOVE_TYPES = Set.of("DRAW", "PLAY_CARD", "END_TURN", "REACT");
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> moveTimers = new ConcurrentHashMap<>();
+    private final Map<BotDifficulty, Timer> botTimers = new EnumMap<>(BotDifficulty.class);
+    private final Timer mailboxWait;
+    private final Timer serializeTimer;
+    private final DistributionSummary payloadSize;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (BotDifficulty difficulty : BotDifficulty.values()) {
+            botTimers.put(difficulty, Timer.builder("game.bot.decision")
+                .description("Time for a bot to choose its move")
+                .tag("difficulty", difficulty.name())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        this.mailboxWait = Timer.builder("game.room.mailbox.wait")
+            .description("Time a room action waits in the mailbox before it runs")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.serializeTimer = Timer.builder("game.broadcast.serialize")
+            .description("Time to serialize one state frame")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.payloadSize = DistributionSummary.builder("game.broadcast.payload")
+            .description("Size of one serialized state frame")
+            .baseUnit("bytes")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Record a move that started at startNanos (from System.nanoTime) and just finished
+     */
+    public void recordMove(String type, boolean accepted, long startNanos) {
+        String tag = type != null && MOVE_TYPES.contains(type.toUpperCase(Locale.ROOT))
+            ? type.toUpperCase(Locale.ROOT) : "OTHER";
+        String outcome = accepted ? "accepted" : "rejected";
+        moveTimers.computeIfAbsent(tag + '|' + outcome, key -> Timer.builder("game.move")
+                .description("Time to apply and journal one move on its room")
+                .tag("type", tag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMailboxWait(long waitNanos) {
+        mailboxWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a bot decision that started at startNanos
+     */
+    public void recordBotDecision(BotDifficulty difficulty, long startNanos) {
+        botTimers.get(difficulty).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBroadcast(int bytes, long serializeNanos) {
+        payloadSize.record(bytes);
+        serializeTimer.record(serializeNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,146 @@
+package com.game.service;
+
+import com.game.model.GameState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Brings every open room back after a restart
+ * The journal is read once and split per room; each room then loads its
+ * latest snapshot and replays only the journaled moves after it. Rooms are
+ * independent, so they are rebuilt in parallel across cores. Rooms beyond the
+ * engine's room budget are left spilled on disk and reload when next used.
+ * Every written snapshot is reported to the journal, which retires segments
+ * once no open room needs them, so a room's creation may be gone and only its
+ * snapshot and later moves left
+ */
+@Service
+public class GameRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(GameRecovery.class);
+
+    private final GameEngine gameEngine;
+    private final GameJournal journal;
+    private final GameSnapshotStore snapshotStore;
+    private final JournalReplayer replayer;
+
+    public GameRecovery(GameEngine gameEngine, GameJournal journal, GameSnapshotStore snapshotStore,
+                        JournalReplayer replayer) {
+        this.gameEngine = gameEngine;
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.replayer = replayer;
+        snapshotStore.addWriteListener(journal::covered);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        restoreAll();
+    }
+
+    /**
+     * Restore every room created and not closed in the journal, or known only
+     * from its snapshot, then start retiring journal segments; returns how many
+     */
+    public int restoreAll() {
+        long start = System.nanoTime();
+        Map<String, RoomHistory> rooms = new LinkedHashMap<>();
+        for (String roomId : snapshotStore.roomIds()) {
+            rooms.put(roomId, new RoomHistory());
+        }
+        journal.read(entry -> {
+            switch (entry.kind()) {
+                case CREATED -> rooms.put(entry.roomId(), new RoomHistory(entry));
+                case CLOSED -> rooms.remove(entry.roomId());
+                case MOVE -> rooms.computeIfAbsent(entry.roomId(), roomId -> new RoomHistory()).moves.add(entry);
+            }
+        });
+
+        LongAdder restored = new LongAdder();
+        LongAdder fromSnapshot = new LongAdder();
+        LongAdder spilled = new LongAdder();
+        rooms.entrySet().parallelStream()
+            .forEach(room -> restore(room.getKey(), room.getValue(), restored, fromSnapshot, spilled));
+        journal.retireSegments();
+
+        if (!rooms.isEmpty()) {
+            log.info("Restored {} rooms ({} from snapshots, {} left spilled) in {} ms", restored.sum(),
+                fromSnapshot.sum(), spilled.sum(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return restored.intValue();
+    }
+
+    /**
+     * Rebuild one room, hand it to the engine and tell the journal which of
+     * its records it still needs
+     */
+    private void restore(String roomId, RoomHistory history, LongAdder restored, LongAdder fromSnapshot,
+                         LongAdder spilled) {
+        GameSnapshot.Restored snapshot = snapshotStore.load(roomId);
+        boolean usable = snapshot != null && history.continues(snapshot.moveCount());
+        if (!usable && history.created == null) {
+            log.warn("Room {} has no usable snapshot and its creation is no longer journaled", roomId);
+            return;
+        }
+        GameState state = usable ? snapshot.state()
+            : gameEngine.newGame(roomId, history.created.seed(), history.created.bots());
+        long covered = usable ? snapshot.moveCount() : 0;
+        long moveCount = covered;
+        int fromSegment = usable ? -1 : history.created.segment();
+        for (GameJournal.Entry move : history.moves) {
+            if (move.moveNumber() > covered) {
+                replayer.replayMove(state, move);
+                moveCount = move.moveNumber();
+                if (fromSegment < 0) {
+                    fromSegment = move.segment();
+                }
+            }
+        }
+        journal.reopened(roomId, fromSegment >= 0 ? fromSegment : journal.getSegmentIndex(), moveCount);
+
+        restored.increment();
+        if (usable) {
+            fromSnapshot.increment();
+        }
+        if (!gameEngine.restoreGame(roomId, state, moveCount)) {
+            spilled.increment();
+        }
+    }
+
+    private static final class RoomHistory {
+        private final GameJournal.Entry created; // Null once its segment was retired
+        private final List<GameJournal.Entry> moves = new ArrayList<>();
+
+        private RoomHistory() {
+            this(null);
+        }
+
+        private RoomHistory(GameJournal.Entry created) {
+            this.created = created;
+        }
+
+        /**
+         * Whether the journaled moves pick up right after a snapshot of this many moves
+         * A snapshot ahead of the journal means the journal lost its tail, so the
+         * room is rebuilt from the journal alone to stay consistent with it
+         */
+        private boolean continues(long snapshotMoves) {
+            if (moves.isEmpty()) {
+                return created == null || snapshotMoves == 0;
+            }
+            long first = moves.get(0).moveNumber();
+            long last = moves.get(moves.size() - 1).moveNumber();
+            return snapshotMoves >= first - 1 && snapshotMoves <= last;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.game.service;
+
+import com.game.constants.GameConstants;
+import com.game.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Stack;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary image of a GameState
+ * Cards are written as their deck ids, plus the few cards whose play state
+ * (chosen color, buildings) differs from a fresh deck. The encoded bytes are
+ * the immutable copy handed to the snapshot writer, so taking one costs the
+ * room a pass over its zones and nothing else. The live log is not kept;
+ * a restored game starts a new one
+ */
+public final class GameSnapshot {
+
+    private static final int MAGIC = 0x50485334; // "PHS4"
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * A decoded snapshot; moveCount is how many of the room's journaled moves it includes
+     */
+    public record Restored(GameState state, long moveCount) {
+    }
+
+    public static byte[] encode(GameState state, long moveCount) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            writeString(out, state.getGameId());
+            out.writeLong(moveCount);
+            out.writeLong(state.getSeed());
+            out.writeLong(state.getRandom().getState());
+            writeString(out, state.getStatus());
+
+            List<Card> changed = new ArrayList<>();
+            forEachCard(state, card -> {
+                if (card.hasHouse() || card.hasHotel()
+                        || !Objects.equals(card.getCurrentColor(), card.getDefinition().initialColor())) {
+                    changed.add(card);
+                }
+            });
+            out.writeShort(changed.size());
+            for (Card card : changed) {
+                out.writeShort(card.getId());
+                out.writeByte((card.hasHouse() ? 1 : 0) | (card.hasHotel() ? 2 : 0));
+                writeString(out, card.getCurrentColor());
+            }
+
+            out.writeByte(state.getPlayers().size());
+            for (Player player : state.getPlayers()) {
+                out.writeByte(player.getId());
+                writeString(out, player.getName());
+                out.writeBoolean(player.isHuman());
+                out.writeByte(player.getDifficulty().ordinal());
+                writeIds(out, player.getHand());
+                writeIds(out, player.getBank());
+                writeIds(out, player.getProperties());
+            }
+            writeIds(out, state.getDeck());
+            writeIds(out, state.getDiscardPile());
+
+            GameState.TurnContext turn = state.getTurnContext();
+            out.writeByte(turn.getActivePlayerId());
+            out.writeByte(turn.getActionsRemaining());
+            out.writeBoolean(turn.isWaitingForResponse());
+            out.writeByte(turn.getTargetPlayerId() != null ? turn.getTargetPlayerId() : -1);
+            out.writeShort(turn.getPendingActionCard() != null ? turn.getPendingActionCard().getId() : -1);
+            GameState.ReactionEffect effect = turn.getPendingEffect();
+            out.writeBoolean(effect != null);
+            if (effect != null) {
+                writeString(out, effect.getType());
+                out.writeInt(effect.getAmount());
+                out.writeShort(DeckGenerator.idOf(effect.getTargetCardUid()));
+            }
+            out.writeInt(turn.getTurnTimer());
+            out.writeBoolean(turn.isPaused());
+            out.writeBoolean(turn.isDoubleRentActive());
+
+            writePayments(out, turn.getPendingPayments());
+            writePayments(out, turn.getPaymentHistory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory stream, never thrown
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * How many journaled moves an encoded snapshot includes, read from its header alone
+     */
+    public static long moveCountOf(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        readString(in);
+        return in.getLong();
+    }
+
+    public static Restored decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        String roomId = readString(in);
+        long moveCount = in.getLong();
+        long seed = in.getLong();
+        GameRandom random = new GameRandom(in.getLong());
+        String status = readString(in);
+
+        Stack<Card> cards = DeckGenerator.generateDeck(roomId);
+        int changed = in.getShort();
+        for (int i = 0; i < changed; i++) {
+            Card card = cards.get(in.getShort());
+            int flags = in.get();
+            card.setHasHouse((flags & 1) != 0);
+            card.setHasHotel((flags & 2) != 0);
+            card.setCurrentColor(readString(in));
+        }
+
+        int seats = in.get();
+        List<Player> players = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            Player player = new Player(in.get(), readString(in), in.get() != 0);
+            player.setDifficulty(BotDifficulty.values()[in.get()]);
+            readCards(in, cards, player.getHand());
+            readCards(in, cards, player.getBank());
+            readCards(in, cards, player.getProperties());
+            players.add(player);
+        }
+        Stack<Card> deck = new Stack<>();
+        readCards(in, cards, deck);
+        List<Card> discardPile = new ArrayList<>();
+        readCards(in, cards, discardPile);
+
+        GameState.TurnContext turn = new GameState.TurnContext();
+        turn.setActivePlayerId(in.get());
+        turn.setActionsRemaining(in.get());
+        turn.setWaitingForResponse(in.get() != 0);
+        int target = in.get();
+        turn.setTargetPlayerId(target >= 0 ? target : null);
+        int pendingCard = in.getShort();
+        turn.setPendingActionCard(pendingCard >= 0 ? cards.get(pendingCard) : null);
+        if (in.get() != 0) {
+            GameState.ReactionEffect effect = new GameState.ReactionEffect();
+            effect.setType(readString(in));
+            effect.setAmount(in.getInt());
+            effect.setTargetCardUid(uidOf(roomId, in.getShort()));
+            turn.setPendingEffect(effect);
+        }
+        turn.setTurnTimer(in.getInt());
+        turn.setPaused(in.get() != 0);
+        turn.setDoubleRentActive(in.get() != 0);
+
+        readPayments(in, roomId, turn.getPendingPayments());
+        readPayments(in, roomId, turn.getPaymentHistory());
+
+        GameState state = GameState.builder()
+            .gameId(roomId)
+            .seed(seed)
+            .random(random)
+            .status(status)
+            .players(players)
+            .deck(deck)
+            .discardPile(discardPile)
+            .turnContext(turn)
+            .logs(new GameLogBuffer(GameConstants.LIVE_LOG_CAPACITY))
+            .build();
+        return new Restored(state, moveCount);
+    }
+
+    private static void forEachCard(GameState state, Consumer<Card> action) {
+        for (Player player : state.getPlayers()) {
+            player.getHand().forEach(action);
+            player.getBank().forEach(action);
+            player.getProperties().forEach(action);
+        }
+        state.getDeck().forEach(action);
+        state.getDiscardPile().forEach(action);
+    }
+
+    private static void writeIds(DataOutputStream out, List<Card> cards) throws IOException {
+        out.writeShort(cards.size());
+        for (Card card : cards) {
+            out.writeShort(card.getId());
+        }
+    }
+
+    private static void readCards(ByteBuffer in, List<Card> cards, List<Card> zone) {
+        int n = in.getShort();
+        for (int i = 0; i < n; i++) {
+            zone.add(cards.get(in.getShort()));
+        }
+    }
+
+    private static void writePayments(DataOutputStream out, List<PaymentRequest> payments) throws IOException {
+        out.writeShort(payments.size());
+        for (PaymentRequest request : payments) {
+            out.writeByte(request.getFromPlayerId());
+            out.writeByte(request.getToPlayerId());
+            out.writeShort(request.getAmount());
+            writeString(out, request.getReason());
+            out.writeShort(DeckGenerator.idOf(request.getCardUid()));
+            out.writeShort(request.getPaidCardUids().size());
+            for (String uid : request.getPaidCardUids()) {
+                out.writeShort(DeckGenerator.idOf(uid));
+            }
+            out.writeBoolean(request.isResolved());
+        }
+    }
+
+    private static void readPayments(ByteBuffer in, String roomId, List<PaymentRequest> payments) {
+        int n = in.getShort();
+        for (int i = 0; i < n; i++) {
+            PaymentRequest request = new PaymentRequest(in.get(), in.get(), in.getShort(), readString(in),
+                uidOf(roomId, in.getShort()));
+            int paid = in.getShort();
+            for (int j = 0; j < paid; j++) {
+                request.getPaidCardUids().add(uidOf(roomId, in.getShort()));
+            }
+            request.setResolved(in.get() != 0);
+            payments.add(request);
+        }
+    }
+
+    private static String uidOf(String roomId, int id) {
+        return id >= 0 ? DeckGenerator.uidOf(roomId, id) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,223 @@
+package com.game.service;
+
+import com.game.model.GameRoom;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Latest binary snapshot of each room, one file per room
+ * A room is snapshotted after every N journaled moves or T seconds since its
+ * last snapshot, whichever comes first. The room only encodes its state; a
+ * single writer thread does the file I/O, and if a room produces a newer
+ * snapshot before the last one was written, only the newest is written
+ */
+@Service
+public class GameSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(GameSnapshotStore.class);
+    private static final String SUFFIX = ".snap";
+
+    private final Path dir;
+    private final long everyMoves;
+    private final long everyNanos;
+    private final ExecutorService writer;
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    private final List<ObjLongConsumer<String>> writeListeners = new CopyOnWriteArrayList<>();
+    private final LongAdder written = new LongAdder();
+
+    public GameSnapshotStore(@Value("${game.snapshot.dir:data/snapshots}") String dir,
+                             @Value("${game.snapshot.every-moves:50}") long everyMoves,
+                             @Value("${game.snapshot.every-seconds:30}") long everySeconds) {
+        this.dir = Paths.get(dir);
+        this.everyMoves = everyMoves;
+        this.everyNanos = TimeUnit.SECONDS.toNanos(everySeconds);
+        try {
+            Files.createDirectories(this.dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create snapshot directory " + this.dir, e);
+        }
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "snapshot-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Called from the room's mailbox after each journaled move; takes a
+     * snapshot when the room is due one
+     */
+    public void onMoveJournaled(GameRoom room) {
+        long moves = room.getMoveCount();
+        long now = System.nanoTime();
+        if (moves - room.getSnapshotMoveCount() < everyMoves && now - room.getSnapshotNanos() < everyNanos) {
+            return;
+        }
+        room.snapshotTaken(moves, now);
+        save(room.getRoomId(), GameSnapshot.encode(room.getGameState(), moves));
+    }
+
+    /**
+     * Queue an encoded snapshot for writing, replacing any not yet written
+     */
+    public void save(String roomId, byte[] snapshot) {
+        if (pending.put(roomId, snapshot) == null) {
+            writer.execute(() -> write(roomId));
+        }
+    }
+
+    /**
+     * The room's latest snapshot, queued or on disk, or null if it has none
+     */
+    public GameSnapshot.Restored load(String roomId) {
+        try {
+            byte[] queued = pending.get(roomId);
+            return GameSnapshot.decode(queued != null ? queued : Files.readAllBytes(pathOf(roomId)));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unreadable snapshot for room {}, replaying its whole journal", roomId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Called on the writer thread with the room and its move count each time
+     * a snapshot is safely on disk
+     */
+    public void addWriteListener(ObjLongConsumer<String> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Every room with a snapshot on disk
+     */
+    public List<String> roomIds() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(SUFFIX))
+                .map(name -> new String(Base64.getUrlDecoder().decode(name.substring(0, name.length() - SUFFIX.length())),
+                    StandardCharsets.UTF_8))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list snapshots in " + dir, e);
+        }
+    }
+
+    public void delete(String roomId) {
+        writer.execute(() -> {
+            pending.remove(roomId);
+            try {
+                Files.deleteIfExists(pathOf(roomId));
+            } catch (IOException e) {
+                log.warn("Failed to delete snapshot for room {}", roomId, e);
+            }
+        });
+    }
+
+    /**
+     * Wait until every queued snapshot is on disk
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (Exception e) {
+            log.warn("Interrupted waiting for snapshots to be written", e);
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(String roomId) {
+        // Stays pending until it is on disk, so load never sees an older file
+        byte[] snapshot = pending.get(roomId);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (writeFile(roomId, snapshot)) {
+                long moves = GameSnapshot.moveCountOf(snapshot);
+                for (ObjLongConsumer<String> listener : writeListeners) {
+                    listener.accept(roomId, moves);
+                }
+            }
+        } finally {
+            // A newer snapshot queued meanwhile found this one pending and needs its own write
+            if (!pending.remove(roomId, snapshot)) {
+                writer.execute(() -> write(roomId));
+            }
+        }
+    }
+
+    /**
+     * Write to a temp file, force it and rename over the old snapshot, so a
+     * crash leaves either the old snapshot or the new one. Returns whether it was written
+     */
+    private boolean writeFile(String roomId, byte[] snapshot) {
+        Path target = pathOf(roomId);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        } catch (IOException e) {
+            log.warn("Failed to write snapshot for room {}", roomId, e);
+            return false;
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written.increment();
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to publish snapshot for room {}", roomId, e);
+            return false;
+        }
+    }
+
+    private Path pathOf(String roomId) {
+        String name = Base64.getUrlEncoder().withoutPadding().encodeToString(roomId.getBytes(StandardCharsets.UTF_8));
+        return dir.resolve(name + SUFFIX);
+    }
+}
@@ -0,0 +1,188 @@
+package com.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.model.GameState;
+import com.game.model.PlayerView;
+import com.game.model.StatePatch;
+import com.game.model.StateUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes per-seat game views to /user/queue/game/{roomId} as sequenced patches
+ * Each viewer gets their own hand, opponents' hand counts and the deck size only.
+ * A full keyframe goes out for the first publication, every KEYFRAME_INTERVAL
+ * patches, and whenever a client asks to resync.
+ * Serialized frames are cached per seat per version, so any number of viewers
+ * of the same seat (e.g. spectators) cost one Jackson serialization.
+ * Publishing must happen from the room's mailbox so each room has a single publisher
+ */
+@Service
+public class GameStateBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStateBroadcaster.class);
+    private static final int KEYFRAME_INTERVAL = 50;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final GameMetrics metrics;
+    private final Map<String, RoomChannel> channels = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> roomsByViewer = new ConcurrentHashMap<>();
+
+    public GameStateBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                                GameMetrics metrics) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Register a viewer for a seat and send them a keyframe
+     */
+    public void addViewer(String roomId, GameState state, String user, int seat) {
+        RoomChannel channel = channels.computeIfAbsent(roomId, id -> new RoomChannel());
+        channel.viewers.put(user, seat);
+        roomsByViewer.computeIfAbsent(user, u -> ConcurrentHashMap.newKeySet()).add(roomId);
+
+        if (channel.last == null) {
+            channel.seq++;
+            channel.last = StateDiffer.capture(state);
+            channel.sinceKeyframe = 0;
+        }
+        send(user, roomId, keyframeFrame(channel, state, seat));
+    }
+
+    /**
+     * Publish whatever changed since the last publication for this room
+     */
+    public void publish(String roomId, GameState state) {
+        RoomChannel channel = channels.computeIfAbsent(roomId, id -> new RoomChannel());
+        StateDiffer.Snapshot next = StateDiffer.capture(state);
+
+        if (channel.sinceKeyframe >= KEYFRAME_INTERVAL || !next.canPatchFrom(channel.last)) {
+            broadcastKeyframe(roomId, state, channel, next);
+            return;
+        }
+
+        StatePatch patch = StateDiffer.diff(channel.last, next, state);
+        if (patch == null) {
+            return; // Nothing changed since last publication
+        }
+
+        long baseSeq = channel.seq;
+        channel.advance(next);
+        channel.sinceKeyframe++;
+
+        Map<Integer, byte[]> frames = new HashMap<>();
+        for (Map.Entry<String, Integer> viewer : channel.viewers.entrySet()) {
+            byte[] frame = frames.computeIfAbsent(viewer.getValue(), seat -> {
+                StatePatch view = StateDiffer.redact(patch, next, seat);
+                // An empty view still advances seq so the client stays in sync
+                return serialize(StateUpdate.patch(baseSeq, channel.seq, view != null ? view : new StatePatch()));
+            });
+            send(viewer.getKey(), roomId, frame);
+        }
+    }
+
+    /**
+     * Drop publication state for a room that was torn down
+     */
+    public void forget(String roomId) {
+        RoomChannel channel = channels.remove(roomId);
+        if (channel != null) {
+            for (String user : channel.viewers.keySet()) {
+                roomsByViewer.computeIfPresent(user, (u, rooms) -> {
+                    rooms.remove(roomId);
+                    return rooms.isEmpty() ? null : rooms;
+                });
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return;
+        }
+        Set<String> rooms = roomsByViewer.remove(user.getName());
+        if (rooms != null) {
+            for (String roomId : rooms) {
+                RoomChannel channel = channels.get(roomId);
+                if (channel != null) {
+                    channel.viewers.remove(user.getName());
+                }
+            }
+        }
+    }
+
+    private void broadcastKeyframe(String roomId, GameState state, RoomChannel channel, StateDiffer.Snapshot snapshot) {
+        channel.advance(snapshot);
+        channel.sinceKeyframe = 0;
+        for (Map.Entry<String, Integer> viewer : channel.viewers.entrySet()) {
+            send(viewer.getKey(), roomId, keyframeFrame(channel, state, viewer.getValue()));
+        }
+    }
+
+    private byte[] keyframeFrame(RoomChannel channel, GameState state, int seat) {
+        return channel.keyframes.computeIfAbsent(seat,
+            s -> serialize(StateUpdate.keyframe(channel.seq, PlayerView.project(state, s))));
+    }
+
+    private byte[] serialize(StateUpdate update) {
+        try {
+            long start = System.nanoTime();
+            byte[] frame = objectMapper.writeValueAsBytes(update);
+            metrics.recordBroadcast(frame.length, System.nanoTime() - start);
+            return frame;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize state update", e);
+        }
+    }
+
+    private void send(String user, String roomId, byte[] frame) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            Message<byte[]> message = MessageBuilder.createMessage(frame, accessor.getMessageHeaders());
+            messagingTemplate.send("/user/" + user + "/queue/game/" + roomId, message);
+        } catch (Exception e) {
+            log.error("Failed to send game state for room {} to {}", roomId, user, e);
+        }
+    }
+
+    /**
+     * Publication state for one room; seq and frames are only touched by that room's mailbox
+     */
+    private static final class RoomChannel {
+        private final Map<String, Integer> viewers = new ConcurrentHashMap<>();
+        private long seq;
+        private StateDiffer.Snapshot last;
+        private int sinceKeyframe;
+        // Keyframe bytes per seat, valid for the current seq only
+        private final Map<Integer, byte[]> keyframes = new HashMap<>();
+
+        private void advance(StateDiffer.Snapshot snapshot) {
+            seq++;
+            last = snapshot;
+            keyframes.clear();
+        }
+    }
+}
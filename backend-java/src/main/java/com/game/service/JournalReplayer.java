@@ -0,0 +1,89 @@
+package com.game.service;
+
+import com.game.model.GameState;
+import com.game.model.MoveOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds game states from the journal
+ * Each room is dealt again from its journaled seed and re-applies its moves
+ * through the engine; the game's own random source makes every shuffle come
+ * out the same. Draws and payments are compared against the recorded outcome
+ * to catch a replay that has drifted from the original game
+ */
+@Service
+public class JournalReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReplayer.class);
+
+    private final GameEngine gameEngine;
+    private final GameJournal journal;
+
+    public JournalReplayer(GameEngine gameEngine, GameJournal journal) {
+        this.gameEngine = gameEngine;
+        this.journal = journal;
+    }
+
+    /**
+     * State of one room as of its last journaled move, or null if the journal
+     * never saw it created
+     */
+    public GameState replay(String roomId) {
+        Map<String, GameState> rooms = new HashMap<>();
+        journal.read(entry -> {
+            if (entry.roomId().equals(roomId)) {
+                apply(rooms, entry);
+            }
+        });
+        return rooms.get(roomId);
+    }
+
+    /**
+     * State of every room that was created and not closed, in creation order
+     */
+    public Map<String, GameState> replayOpenRooms() {
+        Map<String, GameState> rooms = new LinkedHashMap<>();
+        journal.read(entry -> apply(rooms, entry));
+        return rooms;
+    }
+
+    private void apply(Map<String, GameState> rooms, GameJournal.Entry entry) {
+        switch (entry.kind()) {
+            case CREATED:
+                rooms.put(entry.roomId(), gameEngine.newGame(entry.roomId(), entry.seed(), entry.bots()));
+                break;
+            case CLOSED:
+                rooms.remove(entry.roomId());
+                break;
+            case MOVE:
+                GameState state = rooms.get(entry.roomId());
+                if (state != null) {
+                    replayMove(state, entry);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Re-apply one journaled move to the room's state
+     */
+    public void replayMove(GameState state, GameJournal.Entry entry) {
+        MoveOutcome replayed = new MoveOutcome();
+        try {
+            gameEngine.applyMove(state, entry.move(), replayed);
+        } catch (RuntimeException e) {
+            // The original move failed the same way part way through
+            log.debug("Replayed move in room {} failed as recorded: {}", entry.roomId(), e.toString());
+        }
+        if (!replayed.sameAs(entry.outcome())) {
+            log.warn("Replay of room {} diverged from the journal at a {} by player {}",
+                entry.roomId(), entry.move().getType(), entry.move().getPlayerId());
+        }
+    }
+}
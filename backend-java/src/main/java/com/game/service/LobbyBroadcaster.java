@@ -0,0 +1,142 @@
+package com.game.service;
+
+import com.game.model.LobbyEvent;
+import com.game.model.LobbyUpdate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Pushes lobby changes to /topic/lobby so clients don't poll the lobby list
+ * Changes are coalesced per lobby, so a lobby that changes several times
+ * within one interval goes out once with its latest state, and are flushed
+ * as one sequenced batch per interval from a single thread. A subscriber
+ * first gets a snapshot of the first page, tagged with the last batch it
+ * already covers, and pages further through the REST listing
+ */
+@Service
+public class LobbyBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LobbyBroadcaster.class);
+    public static final String TOPIC = "/topic/lobby";
+
+    private final LobbyService lobbyService;
+    private final Consumer<LobbyUpdate> sender;
+    private final long flushIntervalMs;
+    private final ScheduledExecutorService flusher;
+
+    private final Object lock = new Object();
+    // Latest change per lobby since the last flush, in first-change order; guarded by lock
+    private Map<String, LobbyEvent> pending = new LinkedHashMap<>();
+    // Seq of the last batch taken for sending; guarded by lock
+    private long seq;
+
+    // Metrics
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public LobbyBroadcaster(LobbyService lobbyService, SimpMessagingTemplate messagingTemplate,
+                            @Value("${game.lobby.flush-ms:250}") long flushIntervalMs) {
+        this(lobbyService, update -> messagingTemplate.convertAndSend(TOPIC, update), flushIntervalMs);
+    }
+
+    LobbyBroadcaster(LobbyService lobbyService, Consumer<LobbyUpdate> sender, long flushIntervalMs) {
+        this.lobbyService = lobbyService;
+        this.sender = sender;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lobby-broadcast");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        lobbyService.addChangeListener(this::onChange);
+        if (flushIntervalMs > 0) {
+            flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The cached first page of joinable lobbies and its next cursor, tagged
+     * with the last batch already taken
+     * The seq is read before the page, so anything the snapshot misses is in a later batch
+     */
+    public LobbyUpdate snapshot() {
+        long at;
+        synchronized (lock) {
+            at = seq;
+        }
+        return LobbyUpdate.snapshot(at, lobbyService.getFirstPage());
+    }
+
+    /**
+     * Send everything that changed since the last flush as one batch
+     * Returns how many lobby events went out
+     */
+    int flush() {
+        Map<String, LobbyEvent> events;
+        long batchSeq;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            events = pending;
+            pending = new LinkedHashMap<>();
+            batchSeq = ++seq;
+        }
+        sender.accept(LobbyUpdate.batch(batchSeq, List.copyOf(events.values())));
+        batches.increment();
+        return events.size();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    private void onChange(LobbyEvent event) {
+        synchronized (lock) {
+            LobbyEvent previous = pending.get(event.roomId());
+            if (previous == null) {
+                pending.put(event.roomId(), event);
+            } else {
+                pending.put(event.roomId(), previous.then(event));
+                coalesced.increment();
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Lobby broadcast failed", e);
+        }
+    }
+}
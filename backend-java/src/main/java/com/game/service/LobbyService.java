@@ -1,29 +1,73 @@
 package com.game.service;
 
+import com.game.model.LobbyEvent;
 import com.game.model.LobbyGame;
+import com.game.model.LobbyPage;
 import com.game.model.UserSession;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * Simple in-memory lobby service for free multiplayer
  * NO DATABASE REQUIRED - All lobbies stored in memory
+ * Each lobby is an immutable value swapped atomically on every create, join,
+ * leave and start, so seats are reserved per lobby without a global lock and
+ * concurrent joins can't overfill a room. Joinable lobbies are also kept in a
+ * skip list ordered newest first, so a page is read from a cursor in O(page)
+ * instead of filtering and sorting every lobby per request. The unfiltered
+ * first page is cached until the next change. Every change is also handed to
+ * the change listeners, which push it to lobby subscribers
  */
 @Service
 public class LobbyService {
     private static final Logger log = LoggerFactory.getLogger(LobbyService.class);
     
-    private final Map<String, LobbyGame> lobbies = new ConcurrentHashMap<>();
-    private final Map<String, Set<String>> gameParticipants = new ConcurrentHashMap<>();
+    private final Map<String, Lobby> lobbies = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<LobbyKey, LobbyGame> joinable = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CachedPage> firstPage = new AtomicReference<>();
+    private final List<Consumer<LobbyEvent>> changeListeners = new CopyOnWriteArrayList<>();
     
-    @Autowired
-    private SessionManager sessionManager;
+    private final SessionManager sessionManager;
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    public LobbyService(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+    
+    @PostConstruct
+    public void init() {
+        // A session that times out leaves whatever lobby it was waiting in
+        sessionManager.addExpiryListener(session -> {
+            if (session.getCurrentGameId() != null) {
+                leaveWaitingLobby(session, session.getCurrentGameId());
+            }
+        });
+    }
+    
+    /**
+     * Called with every change to a lobby, on the thread that made it and
+     * while that lobby is held, so one lobby's changes arrive in order
+     * Listeners must be quick and must not change lobbies
+     */
+    public void addChangeListener(Consumer<LobbyEvent> listener) {
+        changeListeners.add(listener);
+    }
     
     /**
      * Create a new game lobby
@@ -34,24 +78,30 @@ public class LobbyService {
             throw new IllegalStateException("Invalid session");
         }
         
-        String roomId = UUID.randomUUID().toString().substring(0, 8);
-        LobbyGame lobby = new LobbyGame(roomId, gameName, maxPlayers, session.getUsername());
-        
-        // Add creator as first participant
-        lobby.getPlayerNames().add(session.getUsername());
-        lobby.setCurrentPlayers(1);
-        
-        lobbies.put(roomId, lobby);
-        gameParticipants.put(roomId, new HashSet<>(Collections.singletonList(sessionId)));
+        Lobby lobby;
+        while (true) {
+            // Room ids are public, so they don't need UUID's SecureRandom
+            String roomId = String.format("%08x", ThreadLocalRandom.current().nextInt());
+            // Creator takes the first seat
+            Lobby created = Lobby.open(new LobbyGame(roomId, gameName, maxPlayers, session.getUsername()))
+                .seat(sessionId, session.getUsername());
+            lobby = update(roomId, current -> current != null ? current : created, LobbyEvent.Type.CREATED);
+            if (lobby == created) {
+                break;
+            }
+            // The id was taken; draw another
+        }
         
-        sessionManager.joinGame(sessionId, roomId);
+        sessionManager.joinGame(sessionId, lobby.game().getRoomId());
         
-        log.info("Created lobby: {} by {}", roomId, session.getUsername());
-        return lobby;
+        log.info("Created lobby: {} by {}", lobby.game().getRoomId(), session.getUsername());
+        return lobby.game();
     }
     
     /**
      * Join an existing lobby
+     * The seat is taken in one atomic swap of the lobby, so concurrent joins
+     * can't overfill it
      */
     public LobbyGame joinLobby(String sessionId, String roomId) {
         UserSession session = sessionManager.getSession(sessionId);
@@ -59,30 +109,24 @@ public class LobbyService {
             throw new IllegalStateException("Invalid session");
         }
         
-        LobbyGame lobby = lobbies.get(roomId);
-        if (lobby == null) {
-            throw new IllegalStateException("Lobby not found");
-        }
-        
-        if (!lobby.canJoin()) {
-            throw new IllegalStateException("Lobby is full or already started");
-        }
-        
-        // Add participant
-        Set<String> participants = gameParticipants.get(roomId);
-        if (participants.contains(sessionId)) {
-            // Already in lobby
-            return lobby;
-        }
-        
-        participants.add(sessionId);
-        lobby.getPlayerNames().add(session.getUsername());
-        lobby.setCurrentPlayers(participants.size());
+        Lobby lobby = update(roomId, current -> {
+            if (current == null) {
+                throw new IllegalStateException("Lobby not found");
+            }
+            if (current.seats().containsKey(sessionId)) {
+                // Already in lobby
+                return current;
+            }
+            if (!current.game().canJoin()) {
+                throw new IllegalStateException("Lobby is full or already started");
+            }
+            return current.seat(sessionId, session.getUsername());
+        }, LobbyEvent.Type.PLAYERS_CHANGED);
         
         sessionManager.joinGame(sessionId, roomId);
         
         log.info("User {} joined lobby: {}", session.getUsername(), roomId);
-        return lobby;
+        return lobby.game();
     }
     
     /**
@@ -93,24 +137,23 @@ public class LobbyService {
         if (session == null) {
             return;
         }
-        
-        LobbyGame lobby = lobbies.get(roomId);
-        if (lobby == null) {
+        leaveLobby(session, roomId);
+    }
+    
+    /**
+     * Leave a lobby on behalf of a session, which may already have expired
+     * The last player out removes the lobby
+     */
+    public void leaveLobby(UserSession session, String roomId) {
+        String sessionId = session.getSessionId();
+        if (!lobbies.containsKey(roomId)) {
             return;
         }
         
-        Set<String> participants = gameParticipants.get(roomId);
-        if (participants != null) {
-            participants.remove(sessionId);
-            lobby.getPlayerNames().remove(session.getUsername());
-            lobby.setCurrentPlayers(participants.size());
-            
-            // If lobby is empty, remove it
-            if (participants.isEmpty()) {
-                lobbies.remove(roomId);
-                gameParticipants.remove(roomId);
-                log.info("Removed empty lobby: {}", roomId);
-            }
+        Lobby lobby = update(roomId, current -> current != null ? current.unseat(sessionId) : null,
+            LobbyEvent.Type.PLAYERS_CHANGED);
+        if (lobby == null) {
+            log.info("Removed empty lobby: {}", roomId);
         }
         
         sessionManager.leaveGame(sessionId);
@@ -118,29 +161,88 @@ public class LobbyService {
     }
     
     /**
-     * Get all available lobbies
+     * Give up an expired session's seat only while its lobby is still waiting
+     * A started game seats players by join order, so freeing a seat mid-game
+     * would move every later player onto someone else's hand
+     */
+    private void leaveWaitingLobby(UserSession session, String roomId) {
+        Lobby lobby = update(roomId, current -> current != null && "WAITING".equals(current.game().getStatus())
+            ? current.unseat(session.getSessionId()) : current, LobbyEvent.Type.PLAYERS_CHANGED);
+        if (lobby == null) {
+            log.info("Removed empty lobby: {}", roomId);
+        } else if (!lobby.seats().containsKey(session.getSessionId())) {
+            log.info("Expired session of {} left lobby: {}", session.getUsername(), roomId);
+        }
+    }
+    
+    /**
+     * Get all available lobbies, newest first
      */
     public List<LobbyGame> getAvailableLobbies() {
-        return lobbies.values().stream()
-            .filter(LobbyGame::canJoin)
-            .sorted(Comparator.comparing(LobbyGame::getCreatedAt).reversed())
-            .collect(Collectors.toList());
+        return new ArrayList<>(joinable.values());
+    }
+    
+    /**
+     * First page of joinable lobbies with no filters, cached until a lobby changes
+     */
+    public LobbyPage getFirstPage() {
+        long current = version.get();
+        CachedPage cached = firstPage.get();
+        if (cached != null && cached.version == current) {
+            return cached.page;
+        }
+        // A change while this page is built bumps the version, so it is rebuilt on the next read
+        LobbyPage page = scan(null, DEFAULT_PAGE_SIZE, 0, null);
+        firstPage.set(new CachedPage(current, page));
+        return page;
+    }
+    
+    /**
+     * Up to limit joinable lobbies after cursor (null for the newest), with at
+     * least minFreeSeats open seats and, if given, exactly maxPlayers seats
+     * Throws IllegalArgumentException for a malformed cursor
+     */
+    public LobbyPage findLobbies(String cursor, int limit, int minFreeSeats, Integer maxPlayers) {
+        if (cursor == null && limit == DEFAULT_PAGE_SIZE && minFreeSeats <= 0 && maxPlayers == null) {
+            return getFirstPage();
+        }
+        return scan(cursor == null ? null : LobbyKey.parse(cursor), limit, minFreeSeats, maxPlayers);
+    }
+    
+    private LobbyPage scan(LobbyKey after, int limit, int minFreeSeats, Integer maxPlayers) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Map<LobbyKey, LobbyGame> from = after != null ? joinable.tailMap(after, false) : joinable;
+        List<LobbyGame> page = new ArrayList<>(size);
+        LobbyKey last = null;
+        for (Map.Entry<LobbyKey, LobbyGame> entry : from.entrySet()) {
+            LobbyGame lobby = entry.getValue();
+            if (lobby.getMaxPlayers() - lobby.getCurrentPlayers() < minFreeSeats
+                    || (maxPlayers != null && lobby.getMaxPlayers() != maxPlayers)) {
+                continue;
+            }
+            if (page.size() == size) {
+                return new LobbyPage(List.copyOf(page), last.format());
+            }
+            page.add(lobby);
+            last = entry.getKey();
+        }
+        return new LobbyPage(List.copyOf(page), null);
     }
     
     /**
      * Get lobby by room ID
      */
     public LobbyGame getLobby(String roomId) {
-        return lobbies.get(roomId);
+        Lobby lobby = lobbies.get(roomId);
+        return lobby != null ? lobby.game() : null;
     }
     
     /**
      * Start a game (change status)
      */
     public void startGame(String roomId) {
-        LobbyGame lobby = lobbies.get(roomId);
+        Lobby lobby = update(roomId, current -> current != null ? current.start() : null, LobbyEvent.Type.STARTED);
         if (lobby != null) {
-            lobby.setStatus("PLAYING");
             log.info("Started game: {}", roomId);
         }
     }
@@ -149,22 +251,137 @@ public class LobbyService {
      * Get participants in a lobby
      */
     public Set<String> getParticipants(String roomId) {
-        return gameParticipants.getOrDefault(roomId, new HashSet<>());
+        Lobby lobby = lobbies.get(roomId);
+        return lobby != null ? lobby.seats().keySet() : Set.of();
     }
     
     /**
      * Get participant usernames
      */
     public List<String> getParticipantNames(String roomId) {
-        Set<String> sessionIds = gameParticipants.get(roomId);
-        if (sessionIds == null) {
+        Lobby lobby = lobbies.get(roomId);
+        if (lobby == null) {
             return new ArrayList<>();
         }
         
-        return sessionIds.stream()
+        return lobby.seats().keySet().stream()
             .map(sessionManager::getSession)
             .filter(Objects::nonNull)
             .map(UserSession::getUsername)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Swap in change(current) for a lobby; change may return current to leave
+     * it alone or null to remove it, and may throw to refuse. The joinable
+     * index, cached page and change listeners are updated under the same
+     * per-lobby lock as the swap, so they follow each lobby's changes in order
+     * Returns the lobby after the change
+     */
+    private Lobby update(String roomId, UnaryOperator<Lobby> change, LobbyEvent.Type type) {
+        return lobbies.compute(roomId, (id, current) -> {
+            Lobby next = change.apply(current);
+            if (next != current) {
+                publish(current, next, type);
+            }
+            return next;
+        });
+    }
+    
+    private void publish(Lobby before, Lobby after, LobbyEvent.Type type) {
+        LobbyGame game = after != null ? after.game() : before.game();
+        LobbyKey key = LobbyKey.of(game);
+        boolean listed = after != null && game.canJoin();
+        if (listed) {
+            joinable.put(key, game);
+        } else {
+            joinable.remove(key);
+        }
+        version.incrementAndGet();
+        
+        LobbyEvent event = new LobbyEvent(after != null ? type : LobbyEvent.Type.REMOVED,
+            game.getRoomId(), listed ? game : null);
+        for (Consumer<LobbyEvent> listener : changeListeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("Lobby change listener failed for {}", game.getRoomId(), e);
+            }
+        }
+    }
+    
+    /**
+     * One lobby as an immutable value: its listing and who holds each seat,
+     * session id to username in join order. Every change makes a new Lobby
+     */
+    private record Lobby(LobbyGame game, Map<String, String> seats) {
+        static Lobby open(LobbyGame game) {
+            return new Lobby(game, Map.of());
+        }
+        
+        Lobby seat(String sessionId, String username) {
+            Map<String, String> next = new LinkedHashMap<>(seats);
+            next.put(sessionId, username);
+            return withSeats(next);
+        }
+        
+        /**
+         * This lobby without the session's seat; null once nobody is left
+         */
+        Lobby unseat(String sessionId) {
+            if (!seats.containsKey(sessionId)) {
+                return this;
+            }
+            if (seats.size() == 1) {
+                return null;
+            }
+            Map<String, String> next = new LinkedHashMap<>(seats);
+            next.remove(sessionId);
+            return withSeats(next);
+        }
+        
+        Lobby start() {
+            return "PLAYING".equals(game.getStatus()) ? this : new Lobby(game.withStatus("PLAYING"), seats);
+        }
+        
+        private Lobby withSeats(Map<String, String> next) {
+            Map<String, String> frozen = Collections.unmodifiableMap(next);
+            return new Lobby(game.withPlayers(new ArrayList<>(frozen.values())), frozen);
+        }
+    }
+    
+    /**
+     * Position of a lobby in the index: newest first, ties broken by room id
+     * Formatted as the page cursor "createdAt.roomId"
+     */
+    private record LobbyKey(long createdAt, String roomId) implements Comparable<LobbyKey> {
+        static LobbyKey of(LobbyGame lobby) {
+            return new LobbyKey(lobby.getCreatedAt(), lobby.getRoomId());
+        }
+        
+        static LobbyKey parse(String cursor) {
+            int dot = cursor.indexOf('.');
+            if (dot <= 0 || dot == cursor.length() - 1) {
+                throw new IllegalArgumentException("Malformed lobby cursor: " + cursor);
+            }
+            try {
+                return new LobbyKey(Long.parseLong(cursor.substring(0, dot)), cursor.substring(dot + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed lobby cursor: " + cursor, e);
+            }
+        }
+        
+        String format() {
+            return createdAt + "." + roomId;
+        }
+        
+        @Override
+        public int compareTo(LobbyKey other) {
+            int byAge = Long.compare(other.createdAt, createdAt);
+            return byAge != 0 ? byAge : roomId.compareTo(other.roomId);
+        }
+    }
+    
+    private record CachedPage(long version, LobbyPage page) {
+    }
 }
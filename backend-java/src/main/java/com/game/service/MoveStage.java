@@ -0,0 +1,15 @@
+package com.game.service;
+
+/**
+ * Stages a move passes through in GameEngine, in order
+ * Draw, end-turn and reaction moves only go through VALIDATE and APPLY;
+ * card plays go through all of them
+ */
+public enum MoveStage {
+    VALIDATE,
+    RESOLVE_TARGETS,
+    REACTION_WINDOW,
+    APPLY,
+    WIN_CHECK,
+    PUBLISH
+}
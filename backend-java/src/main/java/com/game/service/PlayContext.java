@@ -0,0 +1,60 @@
+package com.game.service;
+
+import com.game.model.Card;
+import com.game.model.GameState;
+import com.game.model.Move;
+import com.game.model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One card play moving through the GameEngine pipeline
+ * Targets are resolved once and narrowed by the reaction window, so apply
+ * only sees the opponents that let the play through
+ */
+public class PlayContext {
+    private final GameState state;
+    private final Player player;
+    private final Card card;
+    private final Move move;
+    private final List<Player> targets = new ArrayList<>(3);
+    private String color; // Rent color, once resolved
+    private int amount;
+    private boolean cancelled;
+
+    public PlayContext(GameState state, Player player, Card card, Move move) {
+        this.state = state;
+        this.player = player;
+        this.card = card;
+        this.move = move;
+    }
+
+    public GameState getState() { return state; }
+    public Player getPlayer() { return player; }
+    public Card getCard() { return card; }
+    public Move getMove() { return move; }
+    public List<Player> getTargets() { return targets; }
+    public String getColor() { return color; }
+    public void setColor(String color) { this.color = color; }
+    public int getAmount() { return amount; }
+    public void setAmount(int amount) { this.amount = amount; }
+    public boolean isCancelled() { return cancelled; }
+    public void cancel() { this.cancelled = true; }
+
+    /**
+     * Add an opponent by seat; ignores -1 and the player's own seat
+     */
+    public void target(int playerId) {
+        if (playerId >= 0 && playerId != player.getId()) {
+            targets.add(state.getPlayers().get(playerId));
+        }
+    }
+
+    /**
+     * The single target of a one-on-one play, or null
+     */
+    public Player getTarget() {
+        return targets.isEmpty() ? null : targets.get(0);
+    }
+}
@@ -7,126 +7,56 @@ import java.util.*;
 @Service
 public class RentCalculator {
     
-    // Required properties for complete sets
-    private static final Map<String, Integer> SET_REQUIREMENTS = Map.of(
-        "brown", 2,
-        "light_blue", 3,
-        "pink", 3,
-        "orange", 3,
-        "red", 3,
-        "yellow", 3,
-        "green", 3,
-        "dark_blue", 2,
-        "railroad", 4,
-        "utility", 2
-    );
-    
-    // Rent values by color and number of properties
-    // Format: color -> [rent for 1 property, rent for 2 properties, ...]
-    private static final Map<String, int[]> RENT_VALUES = Map.ofEntries(
-        Map.entry("brown", new int[]{1, 2}),
-        Map.entry("light_blue", new int[]{1, 2, 3}),
-        Map.entry("pink", new int[]{1, 2, 4}),
-        Map.entry("orange", new int[]{1, 3, 5}),
-        Map.entry("red", new int[]{2, 3, 6}),
-        Map.entry("yellow", new int[]{2, 4, 6}),
-        Map.entry("green", new int[]{2, 4, 7}),
-        Map.entry("dark_blue", new int[]{3, 8}),
-        Map.entry("railroad", new int[]{1, 2, 4, 8}),
-        Map.entry("utility", new int[]{1, 2})
-    );
+    private static final int HOUSE_BONUS = 3;
+    private static final int HOTEL_BONUS = 4;
     
     /**
      * Calculate rent for a specific color property set
      */
     public int calculateRent(Player player, String color) {
-        if (color == null || !RENT_VALUES.containsKey(color)) {
+        return calculateRent(player, PropertyColor.fromKey(color));
+    }
+    
+    public int calculateRent(Player player, PropertyColor color) {
+        if (color == null) {
             return 0;
         }
         
-        // Count properties of this color
-        int propertyCount = countPropertiesOfColor(player, color);
+        int propertyCount = player.countOf(color);
         if (propertyCount == 0) {
             return 0;
         }
         
-        int[] rentTable = RENT_VALUES.get(color);
-        int baseRent = rentTable[Math.min(propertyCount - 1, rentTable.length - 1)];
-        
-        // Check if set is complete
-        boolean isComplete = propertyCount >= SET_REQUIREMENTS.get(color);
-        
-        // Add building bonuses if complete set
-        if (isComplete) {
-            int buildingBonus = calculateBuildingBonus(player, color);
-            return baseRent + buildingBonus;
-        }
-        
-        return baseRent;
-    }
-    
-    /**
-     * Count properties of a specific color (including wild cards assigned to that color)
-     */
-    private int countPropertiesOfColor(Player player, String color) {
-        int count = 0;
-        for (Card card : player.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color.equals(cardColor)) {
-                count++;
-            }
-        }
-        return count;
-    }
-    
-    /**
-     * Calculate bonus rent from buildings (house/hotel)
-     */
-    private int calculateBuildingBonus(Player player, String color) {
-        int bonus = 0;
+        int baseRent = color.rentFor(propertyCount);
         
-        for (Card card : player.getProperties()) {
-            String cardColor = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color.equals(cardColor)) {
-                if (card.hasHotel()) {
-                    bonus += 4; // Hotel adds $4M
-                }
-                if (card.hasHouse()) {
-                    bonus += 3; // House adds $3M
-                }
-            }
+        // Buildings only count on a complete set
+        if (!player.hasCompleteSet(color)) {
+            return baseRent;
         }
-        
-        return bonus;
+        return baseRent + HOUSE_BONUS * player.housesOf(color) + HOTEL_BONUS * player.hotelsOf(color);
     }
     
     /**
      * Get all colors that a player has properties for
      */
     public List<String> getAvailableRentColors(Player player) {
-        Set<String> colors = new HashSet<>();
-        for (Card card : player.getProperties()) {
-            String color = card.getCurrentColor() != null ? card.getCurrentColor() : card.getColor();
-            if (color != null && RENT_VALUES.containsKey(color)) {
-                colors.add(color);
+        List<String> colors = new ArrayList<>();
+        for (PropertyColor color : PropertyColor.values()) {
+            if (player.countOf(color) > 0) {
+                colors.add(color.key());
             }
         }
-        return new ArrayList<>(colors);
+        return colors;
     }
     
     /**
      * Select best color to charge rent for (highest rent value)
      */
     public String selectBestRentColor(Player player) {
-        List<String> availableColors = getAvailableRentColors(player);
-        if (availableColors.isEmpty()) {
-            return null;
-        }
-        
-        String bestColor = null;
+        PropertyColor bestColor = null;
         int maxRent = 0;
         
-        for (String color : availableColors) {
+        for (PropertyColor color : PropertyColor.values()) {
             int rent = calculateRent(player, color);
             if (rent > maxRent) {
                 maxRent = rent;
@@ -134,7 +64,7 @@ public class RentCalculator {
             }
         }
         
-        return bestColor;
+        return bestColor != null ? bestColor.key() : null;
     }
     
     /**
@@ -145,8 +75,9 @@ public class RentCalculator {
             return true; // Wild rent works for any color
         }
         
-        if (rentCard.getType() == CardType.RENT && rentCard.getColors() != null) {
-            return rentCard.getColors().contains(color);
+        if (rentCard.getType() == CardType.RENT) {
+            PropertyColor propertyColor = PropertyColor.fromKey(color);
+            return propertyColor != null && (rentCard.getDefinition().colorMask() & propertyColor.bit()) != 0;
         }
         
         return false;
@@ -156,11 +87,10 @@ public class RentCalculator {
      * Check if player has complete set of a color
      */
     public boolean hasCompleteSet(Player player, String color) {
-        if (!SET_REQUIREMENTS.containsKey(color)) {
-            return false;
-        }
-        int required = SET_REQUIREMENTS.get(color);
-        int count = countPropertiesOfColor(player, color);
-        return count >= required;
+        return hasCompleteSet(player, PropertyColor.fromKey(color));
+    }
+    
+    public boolean hasCompleteSet(Player player, PropertyColor color) {
+        return color != null && player.hasCompleteSet(color);
     }
 }
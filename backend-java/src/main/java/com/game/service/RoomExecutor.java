@@ -0,0 +1,30 @@
+package com.game.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor that drains room mailboxes
+ * Each drain burst gets its own virtual thread, so a busy room never ties up
+ * a STOMP inbound thread or a platform thread
+ */
+@Component
+public class RoomExecutor implements Executor {
+
+    private final ExecutorService delegate =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("room-", 0).factory());
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        delegate.shutdown();
+    }
+}
@@ -0,0 +1,200 @@
+package com.game.service;
+
+import com.game.model.GameRoom;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the rooms held in memory within budget
+ * A sweep evicts finished rooms after a grace period and rooms no player has
+ * touched for the idle timeout; idle rooms are spilled to their snapshot and
+ * reload on the next move, and are closed for good once spilled for the spill
+ * TTL. While the node is over its room count or heap
+ * budget, the least recently active rooms are evicted as well, and new rooms
+ * are refused once nothing idle is left to evict
+ */
+@Service
+public class RoomLifecycleManager {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomLifecycleManager.class);
+    // Rooms evicted per pass while the heap is over budget
+    private static final int HEAP_PRESSURE_BATCH = 16;
+
+    private final GameEngine gameEngine;
+    private final int maxRooms;
+    private final long idleNanos;
+    private final long finishedNanos;
+    private final long minIdleNanos;
+    private final double maxHeapFraction;
+    private final boolean spill;
+    private final long spillTtlNanos;
+    private final long sweepSeconds;
+    private final ScheduledExecutorService sweeper;
+    // Rooms with an eviction queued on their mailbox, not yet gone
+    private final Set<String> evicting = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    public RoomLifecycleManager(GameEngine gameEngine,
+                                @Value("${game.rooms.max:10000}") int maxRooms,
+                                @Value("${game.rooms.idle-minutes:30}") long idleMinutes,
+                                @Value("${game.rooms.finished-minutes:5}") long finishedMinutes,
+                                @Value("${game.rooms.min-idle-seconds:60}") long minIdleSeconds,
+                                @Value("${game.rooms.max-heap-percent:90}") int maxHeapPercent,
+                                @Value("${game.rooms.spill:true}") boolean spill,
+                                @Value("${game.rooms.spill-ttl-minutes:1440}") long spillTtlMinutes,
+                                @Value("${game.rooms.sweep-seconds:30}") long sweepSeconds) {
+        this.gameEngine = gameEngine;
+        this.maxRooms = maxRooms;
+        this.idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        this.finishedNanos = TimeUnit.MINUTES.toNanos(finishedMinutes);
+        this.minIdleNanos = TimeUnit.SECONDS.toNanos(minIdleSeconds);
+        this.maxHeapFraction = maxHeapPercent / 100.0;
+        this.spill = spill;
+        this.spillTtlNanos = TimeUnit.MINUTES.toNanos(spillTtlMinutes);
+        this.sweepSeconds = sweepSeconds;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "room-lifecycle");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        gameEngine.setRoomAdmission(this::admit);
+        if (sweepSeconds > 0) {
+            sweeper.scheduleWithFixedDelay(this::sweepSafely, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Close rooms spilled past their TTL, evict finished and idle rooms, then
+     * least recently active ones while over budget
+     * Returns how many evictions were queued
+     */
+    public int sweep() {
+        long now = System.nanoTime();
+        gameEngine.closeSpilledRooms(now - spillTtlNanos);
+        List<GameRoom> candidates = new ArrayList<>();
+        int queued = 0;
+        for (GameRoom room : gameEngine.getRooms()) {
+            long idle = now - room.getLastActivityNanos();
+            boolean finished = "GAME_OVER".equals(room.getGameState().getStatus());
+            if ((finished && idle >= finishedNanos) || idle >= idleNanos) {
+                queued += evict(room) ? 1 : 0;
+            } else if (idle >= minIdleNanos) {
+                candidates.add(room);
+            }
+        }
+        int excess = resident() - maxRooms;
+        if (excess > 0) {
+            queued += evictLeastRecent(candidates, excess);
+        } else if (overHeapBudget()) {
+            queued += evictLeastRecent(candidates, HEAP_PRESSURE_BATCH);
+        }
+        if (queued > 0) {
+            log.info("Room sweep queued {} evictions, {} rooms resident", queued, resident());
+        }
+        return queued;
+    }
+
+    /**
+     * Admission check for a new room; over budget it first evicts the least
+     * recently active rooms to make space, and refuses if none were idle
+     */
+    boolean admit(String roomId) {
+        int excess = resident() - maxRooms + 1;
+        boolean heapPressure = overHeapBudget();
+        if (excess <= 0 && !heapPressure) {
+            return true;
+        }
+        long now = System.nanoTime();
+        List<GameRoom> candidates = new ArrayList<>();
+        for (GameRoom room : gameEngine.getRooms()) {
+            if (now - room.getLastActivityNanos() >= minIdleNanos) {
+                candidates.add(room);
+            }
+        }
+        int wanted = Math.max(excess, heapPressure ? HEAP_PRESSURE_BATCH : 0);
+        if (evictLeastRecent(candidates, wanted) > 0 && resident() < maxRooms) {
+            return true;
+        }
+        refused.increment();
+        log.warn("Refusing room {}: {} rooms resident, none idle enough to evict", roomId, resident());
+        return false;
+    }
+
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    public long getRefusedCount() {
+        return refused.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("Room sweep failed", e);
+        }
+    }
+
+    private int evictLeastRecent(List<GameRoom> candidates, int count) {
+        candidates.sort(Comparator.comparingLong(GameRoom::getLastActivityNanos));
+        int queued = 0;
+        for (int i = 0; i < candidates.size() && queued < count; i++) {
+            queued += evict(candidates.get(i)) ? 1 : 0;
+        }
+        return queued;
+    }
+
+    private boolean evict(GameRoom room) {
+        String roomId = room.getRoomId();
+        if (!evicting.add(roomId)) {
+            return false;
+        }
+        gameEngine.evictGame(roomId, room.getLastActivityNanos(), spill).whenComplete((done, error) -> {
+            evicting.remove(roomId);
+            if (Boolean.TRUE.equals(done)) {
+                evicted.increment();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Rooms in memory, not counting those already on their way out
+     */
+    private int resident() {
+        return gameEngine.getActiveGameCount() - evicting.size();
+    }
+
+    private boolean overHeapBudget() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return used > runtime.maxMemory() * maxHeapFraction;
+    }
+}
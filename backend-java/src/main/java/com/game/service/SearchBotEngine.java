@@ -0,0 +1,369 @@
+package com.game.service;
+
+import com.game.constants.GameConstants;
+import com.game.model.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bot that picks its move by information-set Monte Carlo tree search
+ * Each iteration copies the root CompactGameState, deals the cards the bot
+ * cannot see (opponents' hands and the deck order) at random from what is
+ * left, walks a tree of moves keyed by card name so every deal shares
+ * statistics, then plays out a few turns with the standard bot and scores
+ * the position. Legality and effects all come
+ * from a rules-only GameEngine, so the search plays by exactly the live rules.
+ * Every move gets the same time budget; a few workers search independent
+ * trees on a pool shared by all rooms and their root visits are merged
+ */
+@Service
+public class SearchBotEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchBotEngine.class);
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_TREE_DEPTH = 12;
+    private static final int ROLLOUT_TURNS = 4;
+    private static final int ROLLOUT_MOVES = 60;
+    private static final Set<ActionType> TARGETED =
+        EnumSet.of(ActionType.DEBT_COLLECTOR, ActionType.SLY_DEAL, ActionType.FORCED_DEAL);
+
+    private final BotEngine botEngine;
+    private final GameEngine rules;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int workersPerMove;
+
+    // Metrics
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+
+    public SearchBotEngine(BotEngine botEngine, RentCalculator rentCalculator,
+                           @Value("${game.search.budget-ms:50}") long budgetMs,
+                           @Value("${game.search.threads:0}") int threads,
+                           @Value("${game.search.workers-per-move:2}") int workersPerMove) {
+        this.botEngine = botEngine;
+        // Its own engine, so playouts neither log nor count towards the live stage timings
+        this.rules = GameEngine.quiet(botEngine, rentCalculator);
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        this.workersPerMove = Math.max(1, workersPerMove);
+        int parallelism = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("search-bot-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+    }
+
+    /**
+     * Search on the calling thread's behalf and wait for the answer
+     */
+    public Move calculateBestMove(GameState state, int botId) {
+        return calculateBestMoveAsync(state, botId).join();
+    }
+
+    /**
+     * Copy the state on the caller and search it on the shared pool
+     * Completes with the most visited move, or null if the bot has nothing to play
+     */
+    public CompletableFuture<Move> calculateBestMoveAsync(GameState state, int botId) {
+        CompactGameState root;
+        try {
+            root = CompactGameState.of(state);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e); // Cards from outside the standard deck
+        }
+        List<Candidate> choices = legalMoves(state);
+        if (choices.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (choices.size() == 1) {
+            return CompletableFuture.completedFuture(choices.get(0).move());
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        List<CompletableFuture<Map<String, Integer>>> runs = new ArrayList<>(workersPerMove);
+        for (int i = 0; i < workersPerMove; i++) {
+            long seed = ThreadLocalRandom.current().nextLong();
+            runs.add(CompletableFuture.supplyAsync(() -> search(root, botId, deadline, seed), pool));
+        }
+        searches.increment();
+        return CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            Map<String, Integer> visits = new HashMap<>();
+            for (CompletableFuture<Map<String, Integer>> run : runs) {
+                run.join().forEach((key, count) -> visits.merge(key, count, Integer::sum));
+            }
+            Candidate best = choices.get(0);
+            for (Candidate choice : choices) {
+                if (visits.getOrDefault(choice.key(), 0) > visits.getOrDefault(best.key(), 0)) {
+                    best = choice;
+                }
+            }
+            log.debug("Bot {} chose {} from {} root visits", botId, best.key(), visits);
+            return best.move();
+        });
+    }
+
+    public long getSearchCount() {
+        return searches.sum();
+    }
+
+    public long getIterationCount() {
+        return iterations.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * One worker's tree, searched until the deadline; returns visits per root move
+     */
+    private Map<String, Integer> search(CompactGameState root, int botId, long deadline, long seed) {
+        GameRandom random = new GameRandom(seed);
+        CompactGameState deal = new CompactGameState(root.getPlayerCount());
+        byte[] unseen = new byte[CompactGameState.CARDS];
+        Node tree = new Node(null, -1);
+        int count = 0;
+        do {
+            root.copyInto(deal);
+            determinize(root, deal, botId, random, unseen);
+            GameState state = deal.toGameState();
+            try {
+                iterate(tree, state, random);
+            } catch (RuntimeException e) {
+                // A sampled deal the rules trip over; drop the iteration
+                log.debug("Search iteration failed: {}", e.toString());
+            }
+            count++;
+        } while (System.nanoTime() < deadline);
+        iterations.add(count);
+
+        Map<String, Integer> visits = new HashMap<>();
+        for (Map.Entry<String, Node> child : tree.children.entrySet()) {
+            visits.put(child.getKey(), child.getValue().visits);
+        }
+        return visits;
+    }
+
+    /**
+     * Deal everything hidden from the bot at random: the deck and opponents'
+     * hands are pooled and opponents get back as many cards as they held
+     */
+    private static void determinize(CompactGameState root, CompactGameState deal, int botId, GameRandom random,
+                                    byte[] unseen) {
+        int pooled = deal.drain(deal.deck(), unseen, 0);
+        for (int p = 0; p < deal.getPlayerCount(); p++) {
+            if (p != botId) {
+                pooled = deal.drain(deal.hand(p), unseen, pooled);
+            }
+        }
+        random.shuffle(unseen, pooled);
+
+        int next = 0;
+        for (int p = 0; p < deal.getPlayerCount(); p++) {
+            if (p != botId) {
+                next = deal.fill(deal.hand(p), unseen, next, root.size(root.hand(p)));
+            }
+        }
+        deal.fill(deal.deck(), unseen, next, pooled - next);
+        // Reshuffles in the playout must not follow the real game's sequence either
+        deal.setRandomState(random.nextLong());
+    }
+
+    /**
+     * Select down the tree, expand one move, play out and back up the scores
+     */
+    private void iterate(Node tree, GameState state, GameRandom random) {
+        Node node = tree;
+        for (int depth = 0; depth < MAX_TREE_DEPTH && !isOver(state); depth++) {
+            List<Candidate> moves = legalMoves(state);
+            int player = state.getTurnContext().getActivePlayerId();
+
+            Candidate untried = null;
+            int untriedCount = 0;
+            Candidate bestMove = null;
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Candidate move : moves) {
+                Node child = node.children.get(move.key());
+                if (child == null) {
+                    // Reservoir-sample one of the moves not tried yet
+                    if (random.nextInt(++untriedCount) == 0) {
+                        untried = move;
+                    }
+                    continue;
+                }
+                child.availability++;
+                double score = child.reward / child.visits
+                    + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                    bestMove = move;
+                }
+            }
+
+            if (untried != null) {
+                rules.applyMove(state, untried.move());
+                node = node.expand(untried.key(), player);
+                break;
+            }
+            rules.applyMove(state, bestMove.move());
+            node = best;
+        }
+
+        rollout(state);
+        double[] rewards = evaluate(state);
+        for (Node n = node; n.parent != null; n = n.parent) {
+            n.visits++;
+            n.reward += rewards[n.player];
+        }
+    }
+
+    /**
+     * Play on with the standard bot for a few turns
+     */
+    private void rollout(GameState state) {
+        int turns = 0;
+        int active = state.getTurnContext().getActivePlayerId();
+        for (int i = 0; i < ROLLOUT_MOVES && turns < ROLLOUT_TURNS && !isOver(state); i++) {
+            Move move = state.getTurnContext().getActionsRemaining() == 0
+                ? new Move(active, "DRAW", null, null, null)
+                : botEngine.calculateBestMove(state, active);
+            rules.applyMove(state, move != null ? move : new Move(active, "END_TURN", null, null, null));
+            if (state.getTurnContext().getActivePlayerId() != active) {
+                active = state.getTurnContext().getActivePlayerId();
+                turns++;
+            }
+        }
+    }
+
+    /**
+     * Score per seat in [0, 1]: 1 for a winner, otherwise a share of the
+     * table's strength from sets, set progress and bank
+     */
+    private static double[] evaluate(GameState state) {
+        List<Player> players = state.getPlayers();
+        double[] rewards = new double[players.size()];
+        if (isOver(state)) {
+            for (int i = 0; i < rewards.length; i++) {
+                rewards[i] = players.get(i).countCompletedSets() >= GameConstants.SETS_TO_WIN ? 1 : 0;
+            }
+            return rewards;
+        }
+
+        double total = 0;
+        for (int i = 0; i < rewards.length; i++) {
+            Player player = players.get(i);
+            double strength = 1 + 3.0 * player.countCompletedSets();
+            for (PropertyColor color : PropertyColor.values()) {
+                int count = player.countOf(color);
+                if (count > 0 && !color.isComplete(count)) {
+                    strength += (double) count / color.setSize();
+                }
+            }
+            for (Card card : player.getBank()) {
+                strength += card.getValue() / 10.0;
+            }
+            rewards[i] = strength;
+            total += strength;
+        }
+        for (int i = 0; i < rewards.length; i++) {
+            rewards[i] /= total;
+        }
+        return rewards;
+    }
+
+    /**
+     * Moves for the active player; the key names a move the same way in every
+     * deal, so identical cards share one entry
+     */
+    static List<Candidate> legalMoves(GameState state) {
+        if (isOver(state)) {
+            return List.of();
+        }
+        int playerId = state.getTurnContext().getActivePlayerId();
+        if (state.getTurnContext().getActionsRemaining() <= 0) {
+            return List.of(new Candidate("DRAW", new Move(playerId, "DRAW", null, null, null)));
+        }
+
+        List<Candidate> moves = new ArrayList<>();
+        moves.add(new Candidate("END_TURN", new Move(playerId, "END_TURN", null, null, null)));
+        Set<String> seen = new HashSet<>();
+        for (Card card : state.getPlayers().get(playerId).getHand()) {
+            if (card.getType() != CardType.ACTION) {
+                addPlay(moves, seen, playerId, card, null, null);
+                continue;
+            }
+            addPlay(moves, seen, playerId, card, "BANK", null);
+            ActionType action = card.getActionType();
+            if (action == ActionType.JUST_SAY_NO) {
+                continue; // Only worth anything as a reaction
+            }
+            if (TARGETED.contains(action)) {
+                for (Player opponent : state.getPlayers()) {
+                    if (opponent.getId() != playerId) {
+                        addPlay(moves, seen, playerId, card, null, opponent.getId());
+                    }
+                }
+            } else {
+                addPlay(moves, seen, playerId, card, null, null);
+            }
+        }
+        return moves;
+    }
+
+    private static void addPlay(List<Candidate> moves, Set<String> seen, int playerId, Card card,
+                                String destination, Integer target) {
+        String key = card.getName() + "|" + destination + "|" + target;
+        if (seen.add(key)) {
+            Move move = new Move(playerId, "PLAY_CARD", card.getUid(), target, null);
+            move.setDestination(destination);
+            moves.add(new Candidate(key, move));
+        }
+    }
+
+    private static boolean isOver(GameState state) {
+        return "GAME_OVER".equals(state.getStatus());
+    }
+
+    record Candidate(String key, Move move) {
+    }
+
+    /**
+     * A tree node; reward is summed from the view of the player whose move led here
+     */
+    private static final class Node {
+        private final Node parent;
+        private final int player;
+        private final Map<String, Node> children = new HashMap<>();
+        private int visits;
+        private int availability;
+        private double reward;
+
+        private Node(Node parent, int player) {
+            this.parent = parent;
+            this.player = player;
+        }
+
+        private Node expand(String key, int player) {
+            Node child = new Node(this, player);
+            child.availability = 1;
+            children.put(key, child);
+            return child;
+        }
+    }
+}
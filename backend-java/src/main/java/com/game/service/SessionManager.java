@@ -1,64 +1,123 @@
 package com.game.service;
 
 import com.game.model.UserSession;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 /**
  * Simple in-memory session manager for free multiplayer
  * NO DATABASE REQUIRED - All sessions stored in memory
- * Sessions expire after 30 minutes of inactivity
+ * Sessions expire after 30 minutes of inactivity.
+ * Expiry is driven by a timing wheel: each session sits in one coarse bucket
+ * of last-activity time and activity only updates its timestamp. A background
+ * task drains the buckets that have come due in small batches, expiring
+ * sessions still idle and moving the rest to the bucket of their latest activity
  */
 @Service
 public class SessionManager {
     private static final Logger log = LoggerFactory.getLogger(SessionManager.class);
-    private static final long SESSION_TIMEOUT_MS = 30 * 60 * 1000; // 30 minutes
-    
+    // Buckets per timeout; a session expires at most one bucket late
+    private static final int BUCKETS_PER_TIMEOUT = 64;
+
     private final Map<String, UserSession> sessions = new ConcurrentHashMap<>();
-    
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryWheel = new ConcurrentSkipListMap<>();
+    private final List<Consumer<UserSession>> expiryListeners = new CopyOnWriteArrayList<>();
+    private final long timeoutMs;
+    private final long bucketMs;
+    private final int expiryBatch;
+    private final long expiryIntervalMs;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService expirer;
+
+    // Metrics
+    private final LongAdder expired = new LongAdder();
+
+    @Autowired
+    public SessionManager(@Value("${game.sessions.timeout-minutes:30}") long timeoutMinutes,
+                          @Value("${game.sessions.expiry-batch:1000}") int expiryBatch,
+                          @Value("${game.sessions.expiry-interval-ms:1000}") long expiryIntervalMs) {
+        this(TimeUnit.MINUTES.toMillis(timeoutMinutes), expiryBatch, expiryIntervalMs, System::currentTimeMillis);
+    }
+
+    SessionManager(long timeoutMs, int expiryBatch, long expiryIntervalMs, LongSupplier clock) {
+        this.timeoutMs = timeoutMs;
+        this.bucketMs = Math.max(1, timeoutMs / BUCKETS_PER_TIMEOUT);
+        this.expiryBatch = Math.max(1, expiryBatch);
+        this.expiryIntervalMs = expiryIntervalMs;
+        this.clock = clock;
+        this.expirer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (expiryIntervalMs > 0) {
+            expirer.scheduleWithFixedDelay(this::expireSafely, expiryIntervalMs, expiryIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      * Create a new guest session (no authentication required)
      */
     public UserSession createGuestSession(String username) {
         String sessionId = UUID.randomUUID().toString();
         UserSession session = new UserSession(sessionId, username);
+        session.setLastActivity(clock.getAsLong());
         sessions.put(sessionId, session);
-        
+        index(session);
+
         log.info("Created guest session for user: {}", username);
         return session;
     }
-    
+
     /**
      * Get session by ID
      */
     public UserSession getSession(String sessionId) {
         UserSession session = sessions.get(sessionId);
         if (session != null) {
-            if (session.isExpired(SESSION_TIMEOUT_MS)) {
-                sessions.remove(sessionId);
-                log.info("Session expired: {}", sessionId);
+            if (isExpired(session, clock.getAsLong())) {
+                expire(session);
                 return null;
             }
-            session.updateActivity();
+            touch(session);
         }
         return session;
     }
-    
+
     /**
      * Update session activity
      */
     public void updateActivity(String sessionId) {
         UserSession session = sessions.get(sessionId);
         if (session != null) {
-            session.updateActivity();
+            touch(session);
         }
     }
-    
+
     /**
      * Join a game
      */
@@ -66,10 +125,10 @@ public class SessionManager {
         UserSession session = sessions.get(sessionId);
         if (session != null) {
             session.setCurrentGameId(gameId);
-            session.updateActivity();
+            touch(session);
         }
     }
-    
+
     /**
      * Leave a game
      */
@@ -77,10 +136,10 @@ public class SessionManager {
         UserSession session = sessions.get(sessionId);
         if (session != null) {
             session.setCurrentGameId(null);
-            session.updateActivity();
+            touch(session);
         }
     }
-    
+
     /**
      * Remove session
      */
@@ -88,24 +147,116 @@ public class SessionManager {
         sessions.remove(sessionId);
         log.info("Removed session: {}", sessionId);
     }
-    
+
     /**
-     * Clean up expired sessions
+     * Called with every session that expires, after it has been removed
      */
-    public void cleanupExpiredSessions() {
-        sessions.entrySet().removeIf(entry -> {
-            boolean expired = entry.getValue().isExpired(SESSION_TIMEOUT_MS);
-            if (expired) {
-                log.info("Cleaning up expired session: {}", entry.getKey());
+    public void addExpiryListener(Consumer<UserSession> listener) {
+        expiryListeners.add(listener);
+    }
+
+    /**
+     * Expire every session that is due now; returns how many expired
+     */
+    public int cleanupExpiredSessions() {
+        return expireDue(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Drain up to limit entries from the buckets that have come due
+     * Returns how many sessions expired
+     */
+    int expireDue(int limit) {
+        long now = clock.getAsLong();
+        int checked = 0;
+        int count = 0;
+        while (checked < limit) {
+            Map.Entry<Long, Set<String>> bucket = expiryWheel.firstEntry();
+            // A bucket is due once its newest possible activity has timed out
+            if (bucket == null || (bucket.getKey() + 1) * bucketMs + timeoutMs > now) {
+                break;
             }
-            return expired;
-        });
+            Iterator<String> ids = bucket.getValue().iterator();
+            while (ids.hasNext() && checked < limit) {
+                String sessionId = ids.next();
+                ids.remove();
+                checked++;
+                UserSession session = sessions.get(sessionId);
+                if (session == null) {
+                    continue; // Removed or already expired
+                }
+                if (isExpired(session, now)) {
+                    count += expire(session) ? 1 : 0;
+                } else {
+                    index(session);
+                }
+            }
+            if (bucket.getValue().isEmpty()) {
+                expiryWheel.remove(bucket.getKey(), bucket.getValue());
+            }
+        }
+        return count;
     }
-    
+
     /**
      * Get active session count
      */
     public int getActiveSessionCount() {
         return sessions.size();
     }
+
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expirer.shutdownNow();
+    }
+
+    private void expireSafely() {
+        try {
+            int count = expireDue(expiryBatch);
+            if (count > 0) {
+                log.info("Expired {} sessions, {} active", count, sessions.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Session expiry failed", e);
+        }
+    }
+
+    private void touch(UserSession session) {
+        session.setLastActivity(clock.getAsLong());
+    }
+
+    private boolean isExpired(UserSession session, long now) {
+        return now - session.getLastActivity() > timeoutMs;
+    }
+
+    /**
+     * File the session under the bucket of its last activity
+     */
+    private void index(UserSession session) {
+        expiryWheel.computeIfAbsent(session.getLastActivity() / bucketMs, b -> ConcurrentHashMap.newKeySet())
+            .add(session.getSessionId());
+    }
+
+    /**
+     * Remove an expired session and tell the listeners; false if someone else got there first
+     */
+    private boolean expire(UserSession session) {
+        if (!sessions.remove(session.getSessionId(), session)) {
+            return false;
+        }
+        expired.increment();
+        log.debug("Session expired: {}", session.getSessionId());
+        for (Consumer<UserSession> listener : expiryListeners) {
+            try {
+                listener.accept(session);
+            } catch (RuntimeException e) {
+                log.warn("Expiry listener failed for session {}", session.getSessionId(), e);
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,52 @@
+package com.game.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative wall time per MoveStage across all rooms
+ * Recorded from many room mailboxes at once, so counters are striped adders
+ * rather than synchronized fields
+ */
+public class StageTimings {
+
+    private final LongAdder[] counts = new LongAdder[MoveStage.values().length];
+    private final LongAdder[] totals = new LongAdder[MoveStage.values().length];
+    private final LongAccumulator[] maxima = new LongAccumulator[MoveStage.values().length];
+
+    public StageTimings() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+            totals[i] = new LongAdder();
+            maxima[i] = new LongAccumulator(Math::max, 0);
+        }
+    }
+
+    /**
+     * Record a stage that started at startNanos (from System.nanoTime) and just finished
+     */
+    public void record(MoveStage stage, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        int i = stage.ordinal();
+        counts[i].increment();
+        totals[i].add(elapsed);
+        maxima[i].accumulate(elapsed);
+    }
+
+    public Map<MoveStage, Stat> snapshot() {
+        Map<MoveStage, Stat> stats = new EnumMap<>(MoveStage.class);
+        for (MoveStage stage : MoveStage.values()) {
+            int i = stage.ordinal();
+            stats.put(stage, new Stat(counts[i].sum(), totals[i].sum(), maxima[i].get()));
+        }
+        return stats;
+    }
+
+    public record Stat(long count, long totalNanos, long maxNanos) {
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.game.service;
+
+import com.game.model.*;
+
+import java.util.*;
+
+/**
+ * Computes compact patches between consecutive published versions of a GameState
+ * Cards are tracked by uid per zone; a patch carries only the zones whose
+ * contents changed, the cards that moved or changed, and newly appended logs
+ */
+public final class StateDiffer {
+
+    static final String DECK = "deck";
+    static final String DISCARD = "discard";
+
+    private StateDiffer() {
+    }
+
+    public static String handZone(int playerId) {
+        return "p" + playerId + ".hand";
+    }
+
+    public static String bankZone(int playerId) {
+        return "p" + playerId + ".bank";
+    }
+
+    public static String propertiesZone(int playerId) {
+        return "p" + playerId + ".properties";
+    }
+
+    /**
+     * Record where every card is and what the turn looks like right now
+     */
+    public static Snapshot capture(GameState state) {
+        Map<String, List<String>> zones = new LinkedHashMap<>();
+        Map<String, CardMark> marks = new HashMap<>(128);
+        Map<String, Card> cards = new HashMap<>(128);
+        Map<String, Integer> handOwners = new HashMap<>();
+
+        // Deck order is never sent, only which cards are in it
+        for (Card card : state.getDeck()) {
+            marks.put(card.getUid(), CardMark.of(DECK, card));
+        }
+        zones.put(DISCARD, track(DISCARD, state.getDiscardPile(), marks, cards));
+        for (Player p : state.getPlayers()) {
+            handOwners.put(handZone(p.getId()), p.getId());
+            zones.put(handZone(p.getId()), track(handZone(p.getId()), p.getHand(), marks, cards));
+            zones.put(bankZone(p.getId()), track(bankZone(p.getId()), p.getBank(), marks, cards));
+            zones.put(propertiesZone(p.getId()), track(propertiesZone(p.getId()), p.getProperties(), marks, cards));
+        }
+
+        return new Snapshot(
+            state.getStatus(),
+            TurnMark.of(state.getTurnContext()),
+            zones,
+            marks,
+            cards,
+            handOwners,
+            state.getDeck().size(),
+            logCount(state.getLogs())
+        );
+    }
+
+    /**
+     * Entries ever appended; the live log is bounded so its size stops growing
+     */
+    private static long logCount(List<GameState.GameLog> logs) {
+        return logs instanceof GameLogBuffer buffer ? buffer.getTotalAppended() : logs.size();
+    }
+
+    private static List<String> track(String zone, List<Card> zoneCards, Map<String, CardMark> marks, Map<String, Card> cards) {
+        List<String> uids = new ArrayList<>(zoneCards.size());
+        for (Card card : zoneCards) {
+            uids.add(card.getUid());
+            marks.put(card.getUid(), CardMark.of(zone, card));
+            cards.put(card.getUid(), card);
+        }
+        return uids;
+    }
+
+    /**
+     * Build the patch that turns prev into next, or null if nothing changed
+     */
+    public static StatePatch diff(Snapshot prev, Snapshot next, GameState state) {
+        StatePatch patch = new StatePatch();
+
+        if (!Objects.equals(prev.status, next.status)) {
+            patch.setStatus(next.status);
+        }
+        if (!Objects.equals(prev.turn, next.turn)) {
+            patch.setTurnContext(state.getTurnContext());
+        }
+
+        for (Map.Entry<String, List<String>> zone : next.zones.entrySet()) {
+            if (!zone.getValue().equals(prev.zones.get(zone.getKey()))) {
+                patch.getZones().put(zone.getKey(), zone.getValue());
+            }
+        }
+
+        // Send bodies for cards that moved into a visible zone or changed color/buildings
+        for (Map.Entry<String, Card> entry : next.cards.entrySet()) {
+            if (!next.marks.get(entry.getKey()).equals(prev.marks.get(entry.getKey()))) {
+                patch.getCards().add(entry.getValue());
+            }
+        }
+
+        if (prev.deckSize != next.deckSize) {
+            patch.setDeckSize(next.deckSize);
+        }
+        if (next.logCount > prev.logCount) {
+            // New entries are the tail; any that already fell out of the live log are only in the log store
+            List<GameState.GameLog> logs = state.getLogs();
+            int fresh = (int) Math.min(next.logCount - prev.logCount, logs.size());
+            patch.setLogs(new ArrayList<>(logs.subList(logs.size() - fresh, logs.size())));
+        }
+
+        return patch.isEmpty() ? null : patch;
+    }
+
+    /**
+     * Reduce a patch to what one seat may see
+     * Opponents' hand zones become counts and cards now sitting in an
+     * opponent's hand are dropped
+     */
+    public static StatePatch redact(StatePatch patch, Snapshot snapshot, int viewerId) {
+        StatePatch view = new StatePatch();
+        view.setStatus(patch.getStatus());
+        view.setTurnContext(patch.getTurnContext());
+        view.setDeckSize(patch.getDeckSize());
+        view.setLogs(patch.getLogs());
+
+        for (Map.Entry<String, List<String>> zone : patch.getZones().entrySet()) {
+            Integer owner = snapshot.handOwners.get(zone.getKey());
+            if (owner != null && owner != viewerId) {
+                view.getHandCounts().put(owner, zone.getValue().size());
+            } else {
+                view.getZones().put(zone.getKey(), zone.getValue());
+            }
+        }
+
+        for (Card card : patch.getCards()) {
+            Integer owner = snapshot.handOwners.get(snapshot.marks.get(card.getUid()).zone());
+            if (owner == null || owner == viewerId) {
+                view.getCards().add(card);
+            }
+        }
+
+        return view.isEmpty() ? null : view;
+    }
+
+    /**
+     * Immutable record of a published version
+     */
+    public static final class Snapshot {
+        private final String status;
+        private final TurnMark turn;
+        private final Map<String, List<String>> zones;
+        private final Map<String, CardMark> marks;
+        private final Map<String, Card> cards;
+        private final Map<String, Integer> handOwners;
+        private final int deckSize;
+        private final long logCount;
+
+        private Snapshot(String status, TurnMark turn, Map<String, List<String>> zones,
+                         Map<String, CardMark> marks, Map<String, Card> cards,
+                         Map<String, Integer> handOwners, int deckSize, long logCount) {
+            this.status = status;
+            this.turn = turn;
+            this.zones = zones;
+            this.marks = marks;
+            this.cards = cards;
+            this.handOwners = handOwners;
+            this.deckSize = deckSize;
+            this.logCount = logCount;
+        }
+
+        /**
+         * A patch can only append logs; anything else needs a keyframe
+         */
+        public boolean canPatchFrom(Snapshot prev) {
+            return prev != null && logCount >= prev.logCount;
+        }
+    }
+
+    private record CardMark(String zone, String currentColor, boolean hasHouse, boolean hasHotel) {
+        static CardMark of(String zone, Card card) {
+            return new CardMark(zone, card.getCurrentColor(), card.hasHouse(), card.hasHotel());
+        }
+    }
+
+    private record TurnMark(int activePlayerId, int actionsRemaining, boolean waitingForResponse,
+                            Integer targetPlayerId, String pendingActionCardUid, boolean paused,
+                            int turnTimer, boolean doubleRentActive, int pendingPayments,
+                            PaymentRequest lastRetired) {
+        static TurnMark of(GameState.TurnContext tc) {
+            // The history is bounded, so its size stops changing; its newest entry does not
+            List<PaymentRequest> history = tc.getPaymentHistory();
+            return new TurnMark(
+                tc.getActivePlayerId(),
+                tc.getActionsRemaining(),
+                tc.isWaitingForResponse(),
+                tc.getTargetPlayerId(),
+                tc.getPendingActionCard() != null ? tc.getPendingActionCard().getUid() : null,
+                tc.isPaused(),
+                tc.getTurnTimer(),
+                tc.isDoubleRentActive(),
+                tc.getPendingPayments().size(),
+                history.isEmpty() ? null : history.get(history.size() - 1)
+            );
+        }
+    }
+}
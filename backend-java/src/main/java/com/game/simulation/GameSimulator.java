@@ -0,0 +1,201 @@
+package com.game.simulation;
+
+import com.game.constants.GameConstants;
+import com.game.model.*;
+import com.game.service.BotEngine;
+import com.game.service.GameEngine;
+import com.game.service.RentCalculator;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless bot-vs-bot games for balancing and bot regression testing
+ * Four BotEngine players per game, moves applied straight through
+ * GameEngine.applyMove: no broadcaster, no scheduler, no sleeps. Games are
+ * split across a fork-join pool and each leaf keeps its own stats.
+ *
+ * Run from the packaged jar:
+ *   java -cp target/property-hustle-0.0.1-SNAPSHOT-exec.jar \
+ *     -Dloader.main=com.game.simulation.GameSimulator \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher [games] [seed] [parallelism]
+ * Game logging defaults to WARN; pass -Dsimulator.log-level=INFO to see it
+ */
+public class GameSimulator {
+
+    public static final int SEATS = 4;
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    private static final int GAMES_PER_LEAF = 64;
+    private static final String LOG_LEVEL_PROPERTY = "simulator.log-level";
+
+    private final GameEngine engine;
+    private final BotEngine botEngine;
+    private final int maxTurns;
+
+    public GameSimulator() {
+        this(new BotEngine(), new RentCalculator(), DEFAULT_MAX_TURNS);
+    }
+
+    public GameSimulator(BotEngine botEngine, RentCalculator rentCalculator, int maxTurns) {
+        this.engine = new GameEngine(botEngine, rentCalculator);
+        this.botEngine = botEngine;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Play games on a dedicated pool; game i is always dealt from seed and i
+     */
+    public SimulationStats run(long games, long seed, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new Batch(0, games, seed));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play one game to completion or the turn limit and record it
+     */
+    void playGame(long index, long seed, SimulationStats stats) {
+        GameState state = newGame("sim-" + index, seed * 31 + index);
+        int turns = 0;
+        int moves = 0;
+        int winner = -1;
+
+        while (turns < maxTurns) {
+            int botId = state.getTurnContext().getActivePlayerId();
+            moves += step(state, stats);
+
+            if ("GAME_OVER".equals(state.getStatus())) {
+                // A Sly or Forced Deal target can complete their third set on someone else's turn
+                winner = winnerOf(state, botId);
+                turns++;
+                break;
+            }
+            if (state.getTurnContext().getActivePlayerId() != botId) {
+                turns++;
+            }
+        }
+
+        stats.recordGame(winner, turns, moves);
+    }
+
+    /**
+     * Apply the active bot's next move, ending its turn if the engine refused
+     * the card it played. Returns how many moves were applied
+     */
+    int step(GameState state, SimulationStats stats) {
+        int botId = state.getTurnContext().getActivePlayerId();
+        Move move;
+        if (state.getTurnContext().getActionsRemaining() == 0) {
+            move = new Move(botId, "DRAW", null, null, null);
+        } else {
+            move = botEngine.calculateBestMove(state, botId);
+            if (move == null) {
+                move = new Move(botId, "END_TURN", null, null, null);
+            }
+        }
+
+        Player mover = state.getPlayers().get(botId);
+        boolean cardPlay = "PLAY_CARD".equals(move.getType());
+        Card played = cardPlay ? mover.getHand().find(move.getCardUid()) : null;
+        engine.applyMove(state, move);
+        if (!cardPlay) {
+            return 1;
+        }
+        // A played card always leaves the hand; action counts cannot tell since Pass Go draws and keeps them
+        if (played != null && mover.getHand().find(played.getUid()) == null) {
+            stats.recordCardPlay(kindOf(played));
+            return 1;
+        }
+        if (state.getTurnContext().getActivePlayerId() != botId) {
+            return 1;
+        }
+        // The engine rejected the card; end the turn rather than ask again forever
+        engine.applyMove(state, new Move(botId, "END_TURN", null, null, null));
+        return 2;
+    }
+
+    /**
+     * Seat holding the winning number of complete sets, checked from the mover
+     * onwards so they win a tie; -1 if nobody has
+     */
+    static int winnerOf(GameState state, int mover) {
+        List<Player> players = state.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get((mover + i) % players.size());
+            if (player.countCompletedSets() >= GameConstants.SETS_TO_WIN) {
+                return player.getId();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Deal through the engine so the simulator plays the live rules, with
+     * every seat, including the usual human one, played by a bot
+     */
+    GameState newGame(String gameId, long seed) {
+        GameState state = engine.newGame(gameId, seed);
+        for (Player player : state.getPlayers()) {
+            player.setHuman(false);
+        }
+        return state;
+    }
+
+    private static String kindOf(Card card) {
+        return card.getActionType() != null ? card.getActionType().name() : card.getType().name();
+    }
+
+    /**
+     * Splits [from, to) in half until a leaf is small enough to play sequentially
+     */
+    private final class Batch extends RecursiveTask<SimulationStats> {
+        private final long from;
+        private final long to;
+        private final long seed;
+
+        Batch(long from, long to, long seed) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                SimulationStats stats = new SimulationStats(SEATS);
+                for (long i = from; i < to; i++) {
+                    playGame(i, seed, stats);
+                }
+                return stats;
+            }
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(from, mid, seed);
+            left.fork();
+            SimulationStats right = new Batch(mid, to, seed).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        // The rule handlers log every payment at INFO; that would dominate a large run
+        LogLevel level = LogLevel.valueOf(System.getProperty(LOG_LEVEL_PROPERTY, "WARN").toUpperCase());
+        LoggingSystem.get(GameSimulator.class.getClassLoader()).setLogLevel("com.game", level);
+
+        long start = System.nanoTime();
+        SimulationStats stats = new GameSimulator().run(games, seed, parallelism);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.print(stats.summary());
+        System.out.printf("Elapsed: %.2fs (%.0f games/s on %d threads)%n", seconds, games / seconds, parallelism);
+    }
+}
@@ -0,0 +1,83 @@
+package com.game.simulation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregate results of a batch of simulated games
+ * Each fork-join leaf fills its own instance and parents merge them, so no
+ * counter is ever shared between threads
+ */
+public class SimulationStats {
+
+    private final long[] winsBySeat;
+    private long games;
+    private long unfinished;
+    private long totalTurns;
+    private long totalMoves;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+    private final Map<String, Long> cardPlays = new TreeMap<>();
+
+    public SimulationStats(int seats) {
+        this.winsBySeat = new long[seats];
+    }
+
+    void recordGame(int winner, int turns, int moves) {
+        games++;
+        if (winner >= 0) {
+            winsBySeat[winner]++;
+        } else {
+            unfinished++;
+        }
+        totalTurns += turns;
+        totalMoves += moves;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+    }
+
+    void recordCardPlay(String kind) {
+        cardPlays.merge(kind, 1L, Long::sum);
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        totalMoves += other.totalMoves;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        other.cardPlays.forEach((kind, count) -> cardPlays.merge(kind, count, Long::sum));
+        return this;
+    }
+
+    public long getGames() { return games; }
+    public long getUnfinished() { return unfinished; }
+    public long getWins(int seat) { return winsBySeat[seat]; }
+    public int getSeats() { return winsBySeat.length; }
+    public int getMinTurns() { return games == 0 ? 0 : minTurns; }
+    public int getMaxTurns() { return maxTurns; }
+    public double getAverageTurns() { return games == 0 ? 0 : (double) totalTurns / games; }
+    public double getAverageMoves() { return games == 0 ? 0 : (double) totalMoves / games; }
+    public Map<String, Long> getCardPlays() { return cardPlays; }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) winsBySeat[seat] / games;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (unfinished: %d)%n", games, unfinished));
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            sb.append(String.format("  Seat %d win rate: %.2f%%%n", seat, getWinRate(seat) * 100));
+        }
+        sb.append(String.format("Turns per game: avg %.1f, min %d, max %d%n", getAverageTurns(), getMinTurns(), maxTurns));
+        sb.append(String.format("Moves per game: avg %.1f%n", getAverageMoves()));
+        sb.append("Card plays:").append(System.lineSeparator());
+        cardPlays.forEach((kind, count) -> sb.append(String.format("  %-16s %d%n", kind, count)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.config;
+
+import com.game.model.UserSession;
+import com.game.service.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Session Activity Tests")
+class SessionActivityInterceptorTest {
+
+    private SessionManager sessions;
+    private SessionActivityInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new SessionManager(30, 100, 0);
+        interceptor = new SessionActivityInterceptor(sessions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.shutdown();
+    }
+
+    private static Message<byte[]> frame(Map<String, Object> attributes) {
+        StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+        headers.setSessionAttributes(attributes);
+        return MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("A STOMP frame touches the session its connection was opened with")
+    void testFrameTouchesSession() {
+        UserSession session = sessions.createGuestSession("alice");
+        session.setLastActivity(0);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SessionHandshakeHandler.SESSION_ATTRIBUTE, session.getSessionId());
+
+        Message<?> message = frame(attributes);
+
+        assertSame(message, interceptor.preSend(message, null));
+        assertTrue(session.getLastActivity() > 0);
+    }
+
+    @Test
+    @DisplayName("Frames without a session pass through untouched")
+    void testFrameWithoutSession() {
+        Message<?> empty = frame(new HashMap<>());
+        Message<?> bare = frame(null);
+
+        assertSame(empty, interceptor.preSend(empty, null));
+        assertSame(bare, interceptor.preSend(bare, null));
+    }
+}
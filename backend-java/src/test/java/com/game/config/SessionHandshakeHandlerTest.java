@@ -0,0 +1,64 @@
+package com.game.config;
+
+import com.game.service.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Session Handshake Tests")
+class SessionHandshakeHandlerTest {
+
+    private SessionManager sessions;
+    private SessionHandshakeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new SessionManager(30, 100, 0);
+        handler = new SessionHandshakeHandler(sessions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.shutdown();
+    }
+
+    private boolean handshake(String query, MockHttpServletResponse response, Map<String, Object> attributes) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ws-game");
+        request.setQueryString(query);
+        return handler.beforeHandshake(new ServletServerHttpRequest(request),
+            new ServletServerHttpResponse(response), null, attributes);
+    }
+
+    @Test
+    @DisplayName("A live session is named after its session id")
+    void testKnownSession() {
+        String sessionId = sessions.createGuestSession("alice").getSessionId();
+        Map<String, Object> attributes = new HashMap<>();
+
+        assertTrue(handshake("sessionId=" + sessionId, new MockHttpServletResponse(), attributes));
+        assertEquals(sessionId, handler.determineUser(null, null, attributes).getName());
+    }
+
+    @Test
+    @DisplayName("Unknown or missing sessions are refused before the upgrade")
+    void testUnknownSessionRefused() {
+        MockHttpServletResponse unknown = new MockHttpServletResponse();
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+
+        assertFalse(handshake("sessionId=made-up", unknown, new HashMap<>()));
+        assertFalse(handshake(null, missing, new HashMap<>()));
+        assertEquals(HttpStatus.FORBIDDEN.value(), unknown.getStatus());
+        assertEquals(HttpStatus.FORBIDDEN.value(), missing.getStatus());
+    }
+}
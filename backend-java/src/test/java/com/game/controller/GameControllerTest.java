@@ -0,0 +1,52 @@
+package com.game.controller;
+
+import com.game.model.PlayerView;
+import com.game.service.LobbyService;
+import com.game.service.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.Principal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Controller Tests")
+class GameControllerTest {
+
+    private SessionManager sessions;
+    private LobbyService lobbyService;
+    private GameController controller;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new SessionManager(30, 100, 0);
+        lobbyService = new LobbyService(sessions);
+        controller = new GameController(null, lobbyService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.shutdown();
+    }
+
+    private static Principal principal(String sessionId) {
+        return () -> sessionId;
+    }
+
+    @Test
+    @DisplayName("Seats follow lobby join order and outsiders spectate")
+    void testSeatComesFromLobby() {
+        String host = sessions.createGuestSession("host").getSessionId();
+        String guest = sessions.createGuestSession("guest").getSessionId();
+        String outsider = sessions.createGuestSession("outsider").getSessionId();
+        String roomId = lobbyService.createLobby(host, "table", 4).getRoomId();
+        lobbyService.joinLobby(guest, roomId);
+
+        assertEquals(0, controller.seatOf(roomId, principal(host)));
+        assertEquals(1, controller.seatOf(roomId, principal(guest)));
+        assertEquals(PlayerView.SPECTATOR, controller.seatOf(roomId, principal(outsider)));
+        assertEquals(PlayerView.SPECTATOR, controller.seatOf("no-such-room", principal(host)));
+    }
+}
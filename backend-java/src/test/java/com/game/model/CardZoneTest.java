@@ -0,0 +1,82 @@
+package com.game.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Card Zone Tests")
+class CardZoneTest {
+
+    private static Card money(String uid, int value) {
+        return Card.builder().uid(uid).type(CardType.MONEY).value(value).build();
+    }
+
+    @Test
+    @DisplayName("Cards are found by uid and removal swaps the last card in")
+    void testFindAndSwapRemove() {
+        CardZone zone = new CardZone();
+        Card a = money("g#0", 1);
+        Card b = money("g#1", 2);
+        Card c = money("g#2", 3);
+        zone.add(a);
+        zone.add(b);
+        zone.add(c);
+
+        assertSame(b, zone.find("g#1"));
+        assertNull(zone.find("g#9"));
+
+        assertTrue(zone.remove(a));
+        assertEquals(2, zone.size());
+        assertSame(c, zone.get(0));
+        assertEquals(0, zone.indexOf(c));
+        assertSame(b, zone.take("g#1"));
+        assertFalse(zone.contains(b));
+        assertSame(c, zone.find("g#2"));
+    }
+
+    @Test
+    @DisplayName("Iterator removal visits every card exactly once")
+    void testIteratorRemove() {
+        CardZone zone = new CardZone();
+        for (int i = 0; i < 6; i++) {
+            zone.add(money("g#" + i, i));
+        }
+
+        int seen = 0;
+        Iterator<Card> it = zone.iterator();
+        while (it.hasNext()) {
+            Card card = it.next();
+            seen++;
+            if (card.getValue() % 2 == 0) {
+                it.remove();
+            }
+        }
+
+        assertEquals(6, seen);
+        assertEquals(3, zone.size());
+        assertTrue(zone.stream().allMatch(card -> card.getValue() % 2 == 1));
+        assertNotNull(zone.find("g#5"));
+        assertNull(zone.find("g#4"));
+    }
+
+    @Test
+    @DisplayName("Cards sharing a uid or missing one are still tracked")
+    void testUnindexedCards() {
+        CardZone zone = new CardZone();
+        Card first = money("dup", 1);
+        Card second = money("dup", 2);
+        Card anonymous = Card.builder().type(CardType.MONEY).value(3).build();
+        zone.add(first);
+        zone.add(second);
+        zone.add(anonymous);
+
+        assertTrue(zone.contains(second));
+        assertTrue(zone.remove(first));
+        assertSame(second, zone.find("dup"));
+        assertTrue(zone.remove(anonymous));
+        assertEquals(1, zone.size());
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.model;
+
+import com.game.service.GameLogStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Log Buffer Tests")
+class GameLogBufferTest {
+
+    @Test
+    @DisplayName("Buffer keeps only the newest entries once full")
+    void testOverwritesOldest() {
+        GameLogBuffer logs = new GameLogBuffer(3);
+        for (int i = 0; i < 5; i++) {
+            logs.add(new GameState.GameLog("entry " + i, "info"));
+        }
+
+        assertEquals(3, logs.size());
+        assertEquals(5, logs.getTotalAppended());
+        assertEquals("entry 2", logs.get(0).getText());
+        assertEquals("entry 4", logs.get(2).getText());
+        assertEquals(4, logs.get(2).getSeq());
+    }
+
+    @Test
+    @DisplayName("Full history stays pageable after the live log wraps")
+    void testHistoryIsPaged() {
+        GameLogStore store = new GameLogStore();
+        GameLogBuffer logs = new GameLogBuffer(2, store.open("room")::append);
+        for (int i = 0; i < 600; i++) {
+            logs.add(new GameState.GameLog("entry " + i, "info"));
+        }
+
+        GameLogStore.Page first = store.page("room", 0, 10);
+        assertEquals(10, first.entries().size());
+        assertEquals("entry 0", first.entries().get(0).getText());
+        assertEquals(10, first.next());
+        assertEquals(600, first.total());
+
+        GameLogStore.Page last = store.page("room", 590, 50);
+        assertEquals(10, last.entries().size());
+        assertEquals("entry 599", last.entries().get(9).getText());
+        assertEquals(600, last.next());
+
+        assertNull(store.page("missing", 0, 10));
+    }
+}
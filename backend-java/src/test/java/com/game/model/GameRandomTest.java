@@ -0,0 +1,51 @@
+package com.game.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Random Tests")
+class GameRandomTest {
+
+    @Test
+    @DisplayName("A generator rebuilt from its state continues the same sequence")
+    void testResumeFromState() {
+        GameRandom random = new GameRandom(42L);
+        random.nextLong();
+        random.nextInt(10);
+
+        GameRandom resumed = new GameRandom(random.getState());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextLong(), resumed.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Bounded ints stay in range and shuffles are seed-determined permutations")
+    void testBoundsAndShuffle() {
+        GameRandom random = new GameRandom(7L);
+        int[] seen = new int[6];
+        for (int i = 0; i < 6000; i++) {
+            seen[random.nextInt(6)]++;
+        }
+        for (int count : seen) {
+            assertTrue(count > 800 && count < 1200, "Skewed bucket: " + count);
+        }
+
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        for (int i = 0; i < 106; i++) {
+            a.add(i);
+            b.add(i);
+        }
+        new GameRandom(99L).shuffle(a);
+        new GameRandom(99L).shuffle(b);
+        assertEquals(a, b);
+        assertEquals(106, a.stream().distinct().count());
+        assertNotEquals(a.subList(0, 10), List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+}
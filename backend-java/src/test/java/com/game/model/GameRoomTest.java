@@ -0,0 +1,100 @@
+package com.game.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameRoom Mailbox Tests")
+class GameRoomTest {
+
+    @Test
+    @DisplayName("Actions submitted from inside an action run after it, not re-entrantly")
+    void testNestedSubmitRunsAfterCurrentAction() {
+        GameRoom room = new GameRoom("room", new GameState());
+        List<String> order = new ArrayList<>();
+
+        room.submit(() -> {
+            order.add("outer-start");
+            room.submit(() -> order.add("inner"));
+            order.add("outer-end");
+        });
+
+        assertEquals(List.of("outer-start", "outer-end", "inner"), order);
+        assertEquals(0, room.getMailboxDepth());
+    }
+
+    @Test
+    @DisplayName("A failing action does not stall the mailbox")
+    void testFailureDoesNotStall() {
+        GameRoom room = new GameRoom("room", new GameState());
+        List<String> order = new ArrayList<>();
+
+        room.submit(() -> { throw new IllegalStateException("boom"); });
+        room.submit(() -> order.add("after"));
+
+        assertEquals(List.of("after"), order);
+    }
+
+    @Test
+    @DisplayName("Concurrent submitters never run actions in parallel")
+    void testSingleWriterUnderContention() throws InterruptedException {
+        ExecutorService drain = Executors.newFixedThreadPool(4);
+        ExecutorService submitters = Executors.newFixedThreadPool(8);
+        GameRoom room = new GameRoom("room", new GameState(), drain);
+
+        int perThread = 500;
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(perThread * threads);
+        int[] counter = new int[1];
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+
+        for (int t = 0; t < threads; t++) {
+            submitters.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    room.submit(() -> {
+                        // Unsynchronized increment is only safe with a single writer
+                        counter[0]++;
+                        seen.add(counter[0]);
+                        done.countDown();
+                    });
+                }
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(perThread * threads, counter[0]);
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(i + 1, seen.get(i));
+        }
+
+        submitters.shutdown();
+        drain.shutdown();
+    }
+
+    @Test
+    @DisplayName("An action queued behind the one that retires the room is handed back, not lost")
+    void testActionQueuedBeforeRetireIsHandedBack() {
+        List<Runnable> pending = new ArrayList<>();
+        GameRoom room = new GameRoom("room", new GameState(), pending::add);
+        List<String> order = new ArrayList<>();
+
+        assertTrue(room.submit(room::retire));
+        // Queued while the retiring action is still waiting to run
+        assertTrue(room.submit(() -> order.add("move"), () -> order.add("dropped")));
+        pending.remove(0).run();
+
+        assertEquals(List.of("dropped"), order);
+        assertFalse(room.submit(() -> order.add("late"), () -> order.add("late-dropped")));
+        assertEquals(List.of("dropped"), order);
+        assertEquals(0, room.getMailboxDepth());
+    }
+}
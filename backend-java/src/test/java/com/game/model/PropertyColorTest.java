@@ -0,0 +1,49 @@
+package com.game.model;
+
+import com.game.service.RentCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Property Color Tests")
+class PropertyColorTest {
+
+    @Test
+    @DisplayName("Keys round-trip and unknown keys map to null")
+    void testFromKey() {
+        for (PropertyColor color : PropertyColor.values()) {
+            assertSame(color, PropertyColor.fromKey(color.key()));
+        }
+        assertNull(PropertyColor.fromKey("purple"));
+        assertNull(PropertyColor.fromKey(null));
+    }
+
+    @Test
+    @DisplayName("Wild card masks cover exactly their colors")
+    void testMasks() {
+        int mask = PropertyColor.maskOf(List.of("light_blue", "brown"));
+        assertEquals(PropertyColor.LIGHT_BLUE.bit() | PropertyColor.BROWN.bit(), mask);
+        assertEquals(2, PropertyColor.setOf(mask).size());
+        assertEquals(PropertyColor.COUNT, PropertyColor.setOf(PropertyColor.ALL_MASK).size());
+    }
+
+    @Test
+    @DisplayName("Counts and rent follow recolored wild cards")
+    void testCountsFollowCurrentColor() {
+        Player player = new Player(0, "Test", true);
+        player.getProperties().add(Card.builder().uid("p1").type(CardType.PROPERTY).color("dark_blue").value(4).build());
+        Card wild = Card.builder().uid("w1").type(CardType.PROPERTY_WILD)
+            .colors(List.of("dark_blue", "green")).currentColor("green").value(4).build();
+        player.getProperties().add(wild);
+
+        assertEquals(0, player.countCompletedSets());
+        assertEquals(1, player.countByColor()[PropertyColor.GREEN.ordinal()]);
+
+        wild.setCurrentColor("dark_blue");
+        assertEquals(1, player.countCompletedSets());
+        assertEquals(8, new RentCalculator().calculateRent(player, PropertyColor.DARK_BLUE));
+    }
+}
@@ -0,0 +1,75 @@
+package com.game.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Property Zone Index Tests")
+class PropertyZoneTest {
+
+    private static Card property(String uid, String color, int value) {
+        return Card.builder().uid(uid).type(CardType.PROPERTY).color(color).value(value).build();
+    }
+
+    @Test
+    @DisplayName("Adding and removing cards keeps counts, value and complete sets current")
+    void testAddRemove() {
+        Player player = new Player(0, "Test", true);
+        Card first = property("b1", "brown", 1);
+        Card second = property("b2", "brown", 1);
+        player.getProperties().add(first);
+        player.getProperties().add(second);
+        player.getProperties().add(property("r1", "red", 3));
+
+        assertEquals(2, player.countOf(PropertyColor.BROWN));
+        assertTrue(player.hasCompleteSet(PropertyColor.BROWN));
+        assertEquals(PropertyColor.BROWN, player.firstCompleteSet());
+        assertEquals(5, player.propertyValue());
+
+        player.getProperties().remove(first);
+        assertFalse(player.hasCompleteSet(PropertyColor.BROWN));
+        assertEquals(0, player.countCompletedSets());
+        assertEquals(List.of(second), player.propertiesOf(PropertyColor.BROWN));
+        assertEquals(4, player.propertyValue());
+    }
+
+    @Test
+    @DisplayName("Recoloring a wild and adding buildings re-index the card in place")
+    void testMutationsReindex() {
+        Player player = new Player(0, "Test", true);
+        player.getProperties().add(property("u1", "utility", 2));
+        Card wild = Card.builder().uid("w1").type(CardType.PROPERTY_WILD)
+            .colors(List.of("railroad", "utility")).currentColor("railroad").value(2).build();
+        player.getProperties().add(wild);
+        assertEquals(1, player.countOf(PropertyColor.RAILROAD));
+
+        wild.setCurrentColor("utility");
+        assertEquals(0, player.countOf(PropertyColor.RAILROAD));
+        assertTrue(player.hasCompleteSet(PropertyColor.UTILITY));
+
+        wild.setHasHouse(true);
+        assertEquals(1, player.housesOf(PropertyColor.UTILITY));
+    }
+
+    @Test
+    @DisplayName("A card moved to another player stops updating its old owner")
+    void testMoveBetweenPlayers() {
+        Player victim = new Player(0, "Victim", true);
+        Player thief = new Player(1, "Thief", false);
+        Card card = Card.builder().uid("w1").type(CardType.PROPERTY_WILD)
+            .colors(List.of("dark_blue", "green")).currentColor("green").value(4).build();
+        victim.getProperties().add(card);
+
+        victim.getProperties().remove(card);
+        thief.getProperties().add(card);
+        card.setCurrentColor("dark_blue");
+
+        assertEquals(0, victim.countOf(PropertyColor.GREEN));
+        assertEquals(0, victim.countOf(PropertyColor.DARK_BLUE));
+        assertEquals(1, thief.countOf(PropertyColor.DARK_BLUE));
+        assertEquals(0, victim.propertyValue());
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -96,6 +97,7 @@ class GameFlowTest {
     void testDiscardToSevenCards() {
         GameState state = gameEngine.createGame("test-discard");
         Player player = state.getPlayers().get(0);
+        List<String> dealt = player.getHand().stream().map(Card::getUid).toList();
         
         // Give player 15 cards
         for (int i = 0; i < 15; i++) {
@@ -114,6 +116,16 @@ class GameFlowTest {
         // Should have discarded to 7 or fewer
         assertTrue(player.getHand().size() <= 7, 
                 "Player should have 7 or fewer cards after turn end");
+        
+        // The oldest cards go, in the order they were held
+        List<String> held = new ArrayList<>(dealt);
+        for (int i = 0; i < 15; i++) {
+            held.add("card-" + i);
+        }
+        List<String> pile = state.getDiscardPile().stream().map(Card::getUid).toList();
+        assertEquals(held.subList(0, 13), pile.subList(pile.size() - 13, pile.size()));
+        assertEquals(Set.copyOf(held.subList(13, 20)),
+                player.getHand().stream().map(Card::getUid).collect(Collectors.toSet()));
     }
 
     @Test
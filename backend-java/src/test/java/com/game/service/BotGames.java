@@ -0,0 +1,97 @@
+package com.game.service;
+
+import com.game.model.*;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bot-played games and a full state comparison, shared by the tests that
+ * copy, journal or snapshot a position and check it comes back the same
+ */
+final class BotGames {
+
+    private BotGames() {
+    }
+
+    /**
+     * The move a bot seat makes now: draw first, then its best play, else end the turn
+     */
+    static Move nextMove(BotEngine botEngine, GameState state) {
+        int active = state.getTurnContext().getActivePlayerId();
+        if (state.getTurnContext().getActionsRemaining() == 0) {
+            return new Move(active, "DRAW", null, null, null);
+        }
+        Move move = botEngine.calculateBestMove(state, active);
+        return move != null ? move : new Move(active, "END_TURN", null, null, null);
+    }
+
+    /**
+     * Play up to maxMoves bot moves, stopping at GAME_OVER
+     * Returns how many moves were accepted
+     */
+    static int play(GameEngine engine, BotEngine botEngine, GameState state, int maxMoves) {
+        return play(engine, botEngine, state, maxMoves, (move, outcome) -> { });
+    }
+
+    /**
+     * Play as above, handing every accepted move and its outcome to onAccepted
+     * the way a room journals them
+     */
+    static int play(GameEngine engine, BotEngine botEngine, GameState state, int maxMoves,
+                    BiConsumer<Move, MoveOutcome> onAccepted) {
+        int accepted = 0;
+        for (int i = 0; i < maxMoves && !"GAME_OVER".equals(state.getStatus()); i++) {
+            Move move = nextMove(botEngine, state);
+            MoveOutcome outcome = new MoveOutcome();
+            if (engine.applyMove(state, move, outcome)) {
+                onAccepted.accept(move, outcome);
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Hook that journals each accepted move under the room's next move number
+     * Reuse it across play calls on the same room to keep counting
+     */
+    static BiConsumer<Move, MoveOutcome> journaling(GameJournal journal, String roomId) {
+        long[] moves = {0};
+        return (move, outcome) -> journal.moved(roomId, ++moves[0], move, outcome);
+    }
+
+    static List<String> uids(List<Card> cards) {
+        return cards.stream().map(Card::getUid).toList();
+    }
+
+    /**
+     * Same status, turn, pending payments, card order in every zone, and
+     * per-color property and house counts for every seat
+     * Resolved payment history is left out since a compact copy drops it
+     */
+    static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(uids(expected.getDeck()), uids(actual.getDeck()));
+        assertEquals(uids(expected.getDiscardPile()), uids(actual.getDiscardPile()));
+        assertEquals(expected.getTurnContext().getActivePlayerId(), actual.getTurnContext().getActivePlayerId());
+        assertEquals(expected.getTurnContext().getActionsRemaining(), actual.getTurnContext().getActionsRemaining());
+        assertEquals(expected.getTurnContext().getPendingPayments().size(),
+            actual.getTurnContext().getPendingPayments().size());
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (int seat = 0; seat < expected.getPlayers().size(); seat++) {
+            Player a = expected.getPlayers().get(seat);
+            Player b = actual.getPlayers().get(seat);
+            assertEquals(a.getName(), b.getName());
+            assertEquals(uids(a.getHand()), uids(b.getHand()), "hand of seat " + seat);
+            assertEquals(uids(a.getBank()), uids(b.getBank()), "bank of seat " + seat);
+            assertEquals(uids(a.getProperties()), uids(b.getProperties()), "properties of seat " + seat);
+            for (PropertyColor color : PropertyColor.values()) {
+                assertEquals(a.countOf(color), b.countOf(color), color + " count of seat " + seat);
+                assertEquals(a.housesOf(color), b.housesOf(color), color + " houses of seat " + seat);
+            }
+        }
+    }
+}
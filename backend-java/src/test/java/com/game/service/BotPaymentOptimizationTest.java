@@ -191,4 +191,20 @@ class BotPaymentOptimizationTest {
         assertEquals(1, payment.size());
         assertEquals("Green", payment.get(0).getName(), "Should pay with expendable Property to save 5M Cash");
     }
+
+    @Test
+    void testExactSubsetBeatsGreedyRemoval() {
+        // Scenario: Debt 6M with 3M, 3M, 2M, 2M Money.
+        // Removing the largest cards first stops at 3M + 2M + 2M = 7M;
+        // 3M + 3M covers the debt exactly with fewer cards.
+        bot.getBank().add(Card.builder().uid("a3").name("3M").value(3).type(CardType.MONEY).build());
+        bot.getBank().add(Card.builder().uid("b3").name("3M").value(3).type(CardType.MONEY).build());
+        bot.getBank().add(Card.builder().uid("c2").name("2M").value(2).type(CardType.MONEY).build());
+        bot.getBank().add(Card.builder().uid("d2").name("2M").value(2).type(CardType.MONEY).build());
+
+        List<Card> payment = botEngine.selectCardsForPayment(bot, 6);
+
+        assertEquals(6, payment.stream().mapToInt(Card::getValue).sum(), "Should pay exactly 6M");
+        assertEquals(2, payment.size(), "Should pay with the two 3M cards");
+    }
 }
@@ -0,0 +1,61 @@
+package com.game.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bot Turn Scheduler Tests")
+class BotTurnSchedulerTest {
+
+    private BotTurnScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new BotTurnScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Scheduled step runs after its delay")
+    void testStepRuns() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        scheduler.schedule("room-1", 10, ran::countDown);
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS), "Step should run");
+        assertEquals(1, scheduler.getFiredStepCount());
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Cancelling a room drops its pending steps only")
+    void testCancelRoom() throws InterruptedException {
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        CountDownLatch otherRan = new CountDownLatch(1);
+
+        scheduler.schedule("room-a", 200, cancelledRuns::incrementAndGet);
+        scheduler.schedule("room-a", 200, cancelledRuns::incrementAndGet);
+        scheduler.schedule("room-b", 200, otherRan::countDown);
+        assertEquals(3, scheduler.getQueueDepth());
+        assertEquals(2, scheduler.getPendingRoomCount());
+
+        scheduler.cancelRoom("room-a");
+        assertEquals(1, scheduler.getQueueDepth());
+
+        assertTrue(otherRan.await(2, TimeUnit.SECONDS), "Other room's step should still run");
+        Thread.sleep(100);
+        assertEquals(0, cancelledRuns.get(), "Cancelled steps must not run");
+        assertEquals(0, scheduler.getPendingRoomCount());
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.service;
+
+import com.game.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Compact Game State Tests")
+class CompactGameStateTest {
+
+    private GameEngine engine;
+    private BotEngine botEngine;
+
+    @BeforeEach
+    void setUp() {
+        botEngine = new BotEngine();
+        engine = new GameEngine(botEngine, new RentCalculator());
+    }
+
+    private GameState playedGame(String roomId, long seed, int moves) {
+        GameState state = engine.newGame(roomId, seed);
+        BotGames.play(engine, botEngine, state, moves);
+        return state;
+    }
+
+    @Test
+    @DisplayName("Converting to the compact form and back keeps zones, colors, buildings and turn")
+    void testRoundTrip() {
+        GameState state = playedGame("compact-room", 6L, 150);
+        state.getTurnContext().setDoubleRentActive(true);
+
+        GameState copy = CompactGameState.of(state).toGameState();
+
+        BotGames.assertSameState(state, copy);
+        assertTrue(copy.getTurnContext().isDoubleRentActive());
+        assertEquals(state.getRandom().nextLong(), copy.getRandom().nextLong());
+    }
+
+    @Test
+    @DisplayName("copyInto makes an independent copy and counters follow property moves")
+    void testCopyIntoAndCounters() {
+        GameState state = playedGame("compact-copy", 9L, 60);
+        CompactGameState original = CompactGameState.of(state);
+        CompactGameState copy = new CompactGameState(4);
+        original.copyInto(copy);
+
+        int deckSize = original.size(original.deck());
+        int top = copy.pop(copy.deck());
+        PropertyColor color = copy.colorOf(top);
+        int before = color != null ? copy.countOf(2, color) : 0;
+        copy.push(copy.properties(2), top);
+        copy.setActionsRemaining(1);
+
+        assertEquals(deckSize, original.size(original.deck()));
+        assertEquals(deckSize - 1, copy.size(copy.deck()));
+        assertEquals(state.getTurnContext().getActionsRemaining(), original.getActionsRemaining());
+        assertEquals(1, copy.getActionsRemaining());
+        if (color != null) {
+            assertEquals(before + 1, copy.countOf(2, color));
+            assertEquals(before, original.countOf(2, color));
+        }
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(state.getPlayers().get(seat).countCompletedSets(), original.completedSets(seat));
+        }
+
+        copy.removeAt(copy.properties(2), copy.size(copy.properties(2)) - 1);
+        if (color != null) {
+            assertEquals(before, copy.countOf(2, color));
+        }
+    }
+}
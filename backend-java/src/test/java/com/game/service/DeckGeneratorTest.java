@@ -0,0 +1,47 @@
+package com.game.service;
+
+import com.game.model.Card;
+import com.game.model.CardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Stack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Deck Generator Tests")
+class DeckGeneratorTest {
+
+    @Test
+    @DisplayName("Deck has 106 cards with unique uids derived from the game id")
+    void testDeckUids() {
+        Stack<Card> deck = DeckGenerator.generateDeck("room-1");
+
+        assertEquals(106, deck.size());
+        Set<String> uids = new HashSet<>();
+        for (Card card : deck) {
+            assertTrue(uids.add(card.getUid()), "Duplicate uid " + card.getUid());
+            assertEquals(card.getId(), DeckGenerator.idOf(card.getUid()));
+            assertEquals(DeckGenerator.uidOf("room-1", card.getId()), card.getUid());
+        }
+        assertEquals(-1, DeckGenerator.idOf("not-a-deck-card"));
+    }
+
+    @Test
+    @DisplayName("Games share card definitions but not per-game state")
+    void testDefinitionsAreShared() {
+        Stack<Card> first = DeckGenerator.generateDeck("a");
+        Stack<Card> second = DeckGenerator.generateDeck("b");
+
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i).getDefinition(), second.get(i).getDefinition());
+        }
+
+        Card wild = first.stream().filter(c -> c.getType() == CardType.PROPERTY_WILD && !c.isRainbow()).findFirst().orElseThrow();
+        Card twin = second.get(wild.getId());
+        wild.setCurrentColor(wild.getColors().get(1));
+        assertEquals(wild.getColors().get(0), twin.getCurrentColor());
+    }
+}
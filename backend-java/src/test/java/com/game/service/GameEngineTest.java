@@ -61,6 +61,41 @@ class GameEngineTest {
         }
     }
 
+    @Test
+    @DisplayName("Each move is counted once in the validate stage, card plays included")
+    void testValidateStageRecordedOncePerMove() {
+        GameState state = gameEngine.newGame("test-stages", 5L);
+        assertTrue(gameEngine.applyMove(state, new Move(0, "DRAW", null, null, null)));
+        String uid = state.getPlayers().get(0).getHand().get(0).getUid();
+        assertTrue(gameEngine.applyMove(state, new Move(0, "PLAY_CARD", uid, null, null)));
+        gameEngine.applyMove(state, new Move(0, "PLAY_CARD", "no-such-card", null, null));
+
+        assertEquals(3, gameEngine.getStageTimings().get(MoveStage.VALIDATE).count());
+    }
+
+    @Test
+    @DisplayName("A room that already has a game refuses a second one")
+    void testCreateGameRefusesRunningRoom() {
+        GameState running = gameEngine.createGame("test-room-twice", 1L);
+
+        assertThrows(IllegalStateException.class, () -> gameEngine.createGame("test-room-twice", 2L));
+        assertSame(running, gameEngine.getGameState("test-room-twice"));
+    }
+
+    @Test
+    @DisplayName("Games created with the same seed deal and reshuffle identically")
+    void testSeededGamesAreReproducible() {
+        GameState a = gameEngine.createGame("seeded-a", 1234L);
+        GameState b = gameEngine.createGame("seeded-b", 1234L);
+
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(a.getPlayers().get(seat).getHand().stream().map(Card::getId).toList(),
+                b.getPlayers().get(seat).getHand().stream().map(Card::getId).toList());
+        }
+        assertEquals(a.getDeck().stream().map(Card::getId).toList(), b.getDeck().stream().map(Card::getId).toList());
+        assertEquals(a.getRandom().nextLong(), b.getRandom().nextLong());
+    }
+
     @Test
     @DisplayName("Should deal 5 cards to each player at start")
     void testInitialCardDeal() {
@@ -183,4 +218,44 @@ class GameEngineTest {
         // Hand size should not change
         assertEquals(initialHandSize, state.getPlayers().get(1).getHand().size());
     }
+
+    @Test
+    @DisplayName("Birthday settles every opponent in one batch and retires the requests")
+    void testBirthdayPaymentBatch() {
+        GameEngine engine = new GameEngine(botEngine, new RentCalculator());
+        GameState state = engine.newGame("test-room-9", 4L);
+        Player player = state.getPlayers().get(0);
+        Card birthday = state.getDeck().stream()
+            .filter(card -> card.getActionType() == ActionType.BIRTHDAY)
+            .findFirst()
+            .orElseThrow();
+        state.getDeck().remove(birthday);
+        player.getHand().add(birthday);
+        for (int i = 1; i < 4; i++) {
+            Player opponent = state.getPlayers().get(i);
+            opponent.getHand().removeIf(card -> card.getActionType() == ActionType.JUST_SAY_NO);
+            opponent.getBank().add(Card.builder().uid("gift-" + i).name("2M").value(2).type(CardType.MONEY).build());
+        }
+        assertTrue(engine.applyMove(state, new Move(0, "DRAW", null, null, null)));
+        int logsBefore = state.getLogs().size();
+
+        assertTrue(engine.applyMove(state, new Move(0, "PLAY_CARD", birthday.getUid(), null, null)));
+
+        GameState.TurnContext turn = state.getTurnContext();
+        assertTrue(turn.getPendingPayments().isEmpty(), "Settled payments should leave the pending queue");
+        assertEquals(3, turn.getPaymentHistory().size());
+        for (PaymentRequest request : turn.getPaymentHistory()) {
+            assertTrue(request.isResolved());
+            assertEquals("birthday", request.getReason());
+            assertFalse(request.getPaidCardUids().isEmpty());
+        }
+        long paymentLogs = state.getLogs().stream()
+            .skip(logsBefore)
+            .filter(entry -> "payment".equals(entry.getType()))
+            .count();
+        assertEquals(1, paymentLogs, "The batch should be logged once");
+        for (int i = 1; i < 4; i++) {
+            assertNotNull(player.getBank().find("gift-" + i));
+        }
+    }
 }
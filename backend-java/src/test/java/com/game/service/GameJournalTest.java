@@ -0,0 +1,148 @@
+package com.game.service;
+
+import com.game.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Journal Tests")
+class GameJournalTest {
+
+    private Path dir;
+    private GameJournal journal;
+    private GameEngine engine;
+    private BotEngine botEngine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal-test");
+        journal = new GameJournal(dir.toString(), 4096, 5);
+        botEngine = new BotEngine();
+        engine = new GameEngine(botEngine, new RentCalculator());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Plays a bot game the way a room does, journaling every accepted move
+     */
+    private GameState playJournaled(String roomId, long seed, int maxMoves) {
+        GameState state = engine.newGame(roomId, seed);
+        journal.created(roomId, seed);
+        BotGames.play(engine, botEngine, state, maxMoves, BotGames.journaling(journal, roomId));
+        return state;
+    }
+
+    @Test
+    @DisplayName("Replaying a room's journal rebuilds the same state, across segment rolls")
+    void testReplayRebuildsState() {
+        GameState original = playJournaled("room-a", 11L, 400);
+        journal.commit();
+
+        GameState replayed = new JournalReplayer(engine, journal).replay("room-a");
+
+        assertNotNull(replayed);
+        assertTrue(journal.getAppendedCount() > 50);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.count() > 1, "Records should have spilled into more than one segment");
+        } catch (IOException e) {
+            fail(e.toString());
+        }
+        BotGames.assertSameState(original, replayed);
+    }
+
+    @Test
+    @DisplayName("A card uid that is not one of the room's cards replays as no card")
+    void testForeignUidReplaysAsNoCard() {
+        GameState original = engine.newGame("room-f", 5L);
+        journal.created("room-f", 5L);
+        var journaling = BotGames.journaling(journal, "room-f");
+        BotGames.play(engine, botEngine, original, 1, journaling);
+        int active = original.getTurnContext().getActivePlayerId();
+        int id = DeckGenerator.idOf(original.getPlayers().get(active).getHand().get(0).getUid());
+
+        for (String uid : List.of("other#" + id, String.format("room-f#%04d", id))) {
+            Move move = new Move(active, "PLAY_CARD", uid, null, null);
+            MoveOutcome outcome = new MoveOutcome();
+            assertTrue(engine.applyMove(original, move, outcome));
+            journaling.accept(move, outcome);
+        }
+        BotGames.play(engine, botEngine, original, 40, journaling);
+        journal.commit();
+
+        List<String> journaledUids = new ArrayList<>();
+        journal.read(entry -> {
+            if (entry.kind() == GameJournal.Kind.MOVE && "PLAY_CARD".equals(entry.move().getType())) {
+                journaledUids.add(entry.move().getCardUid());
+            }
+        });
+        assertNull(journaledUids.get(0));
+        assertNull(journaledUids.get(1));
+        BotGames.assertSameState(original, new JournalReplayer(engine, journal).replay("room-f"));
+    }
+
+    @Test
+    @DisplayName("Reopening the journal appends after the existing records and closed rooms are skipped")
+    void testReopenAndClose() {
+        GameState kept = engine.newGame("room-b", 3L);
+        journal.created("room-b", 3L);
+        int moves = BotGames.play(engine, botEngine, kept, 60, BotGames.journaling(journal, "room-b"));
+        playJournaled("room-c", 4L, 20);
+        journal.closed("room-c");
+        journal.close();
+
+        journal = new GameJournal(dir.toString(), 4096, 5);
+        MoveOutcome outcome = new MoveOutcome();
+        Move draw = new Move(kept.getTurnContext().getActivePlayerId(),
+            kept.getTurnContext().getActionsRemaining() == 0 ? "DRAW" : "END_TURN", null, null, null);
+        assertTrue(engine.applyMove(kept, draw, outcome));
+        journal.moved("room-b", moves + 1, draw, outcome);
+
+        var rooms = new JournalReplayer(engine, journal).replayOpenRooms();
+
+        assertEquals(List.of("room-b"), List.copyOf(rooms.keySet()));
+        BotGames.assertSameState(kept, rooms.get("room-b"));
+    }
+
+    @Test
+    @DisplayName("Segments are retired once every room in them is closed or covered by a snapshot")
+    void testRetiresCoveredSegments() {
+        journal.retireSegments();
+        GameState covered = engine.newGame("room-d", 5L);
+        journal.created("room-d", 5L);
+        int coveredMoves = BotGames.play(engine, botEngine, covered, 300, BotGames.journaling(journal, "room-d"));
+        playJournaled("room-e", 6L, 20);
+        playJournaled("room-f", 7L, 20);
+        journal.closed("room-f");
+        assertEquals(0, journal.getRetiredCount(), "room-d still needs every segment");
+
+        journal.covered("room-d", coveredMoves);
+        GameState open = playJournaled("room-g", 8L, 300);
+
+        assertTrue(journal.getRetiredCount() > 0);
+        assertFalse(Files.exists(dir.resolve("segment-00000001.journal")));
+        var rooms = new JournalReplayer(engine, journal).replayOpenRooms();
+        assertTrue(rooms.containsKey("room-e"), "room-e is neither closed nor snapshotted");
+        assertFalse(rooms.containsKey("room-f"));
+        BotGames.assertSameState(open, rooms.get("room-g"));
+    }
+}
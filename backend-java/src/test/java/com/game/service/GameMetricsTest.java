@@ -0,0 +1,56 @@
+package com.game.service;
+
+import com.game.model.GameRoom;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Metrics Tests")
+class GameMetricsTest {
+
+    private MeterRegistry registry;
+    private GameMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new GameMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Moves are timed per type and outcome, unknown types share one tag")
+    void testMoveTimersByType() {
+        long start = System.nanoTime();
+        metrics.recordMove("draw", true, start);
+        metrics.recordMove("DRAW", true, start);
+        metrics.recordMove("PLAY_CARD", false, start);
+        metrics.recordMove("made-up", false, start);
+        metrics.recordMove(null, false, start);
+
+        assertEquals(2, registry.get("game.move").tag("type", "DRAW").tag("outcome", "accepted").timer().count());
+        assertEquals(1, registry.get("game.move").tag("type", "PLAY_CARD").tag("outcome", "rejected").timer().count());
+        assertEquals(2, registry.get("game.move").tag("type", "OTHER").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    @DisplayName("Room mailboxes report how long each action waited")
+    void testMailboxWait() {
+        List<Runnable> parked = new ArrayList<>();
+        GameRoom room = new GameRoom("metrics-room", null, parked::add);
+        room.setWaitRecorder(metrics::recordMailboxWait);
+
+        room.submit(() -> { });
+        room.submit(() -> { });
+        assertEquals(0, registry.get("game.room.mailbox.wait").timer().count());
+
+        parked.forEach(Runnable::run);
+        assertEquals(2, registry.get("game.room.mailbox.wait").timer().count());
+    }
+}
@@ -0,0 +1,142 @@
+package com.game.service;
+
+import com.game.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Snapshot Tests")
+class GameSnapshotTest {
+
+    private Path dir;
+    private GameEngine engine;
+    private BotEngine botEngine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("snapshot-test");
+        botEngine = new BotEngine();
+        engine = new GameEngine(botEngine, new RentCalculator());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A decoded snapshot has the same zones, colors, buildings and turn as the original")
+    void testRoundTrip() {
+        GameState state = engine.newGame("snap-room", 5L);
+        BotGames.play(engine, botEngine, state, 150);
+
+        GameSnapshot.Restored restored = GameSnapshot.decode(GameSnapshot.encode(state, 150));
+
+        assertEquals(150, restored.moveCount());
+        assertEquals("snap-room", restored.state().getGameId());
+        assertEquals(state.getRandom().nextLong(), restored.state().getRandom().nextLong());
+        BotGames.assertSameState(state, restored.state());
+        assertEquals(state.getTurnContext().getPaymentHistory().size(),
+            restored.state().getTurnContext().getPaymentHistory().size());
+    }
+
+    @Test
+    @DisplayName("Recovery loads the latest snapshot and replays only the journal tail")
+    void testRecoverFromSnapshotAndTail() {
+        GameJournal journal = new GameJournal(dir.resolve("journal").toString(), 1 << 20, 5);
+        GameSnapshotStore snapshots = new GameSnapshotStore(dir.resolve("snapshots").toString(), 1000, 3600);
+        try {
+            GameState state = engine.newGame("live-room", 8L);
+            journal.created("live-room", 8L);
+            BiConsumer<Move, MoveOutcome> journaled = BotGames.journaling(journal, "live-room");
+            int moves = BotGames.play(engine, botEngine, state, 80, journaled);
+            assertEquals(80, moves);
+            snapshots.save("live-room", GameSnapshot.encode(state, moves));
+            BotGames.play(engine, botEngine, state, 40, journaled);
+            journal.created("closed-room", 9L);
+            journal.closed("closed-room");
+            snapshots.flush();
+            assertEquals(1, snapshots.getWrittenCount());
+
+            GameEngine restarted = new GameEngine(botEngine, new RentCalculator());
+            GameRecovery recovery = new GameRecovery(restarted, journal, snapshots,
+                new JournalReplayer(restarted, journal));
+
+            assertEquals(1, recovery.restoreAll());
+            assertNull(restarted.getGameState("closed-room"));
+            BotGames.assertSameState(state, restarted.getGameState("live-room"));
+        } finally {
+            journal.close();
+            snapshots.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Rooms restored beyond the room budget stay spilled and reload when used")
+    void testRecoveryBeyondBudgetSpills() {
+        GameJournal journal = new GameJournal(dir.resolve("journal").toString(), 1 << 20, 5);
+        GameSnapshotStore snapshots = new GameSnapshotStore(dir.resolve("snapshots").toString(), 1000, 3600);
+        try {
+            GameState state = engine.newGame("parked-room", 11L);
+            journal.created("parked-room", 11L);
+            BotGames.play(engine, botEngine, state, 60, BotGames.journaling(journal, "parked-room"));
+
+            GameEngine restarted = GameEngine.persistent(botEngine, new RentCalculator(), journal, snapshots);
+            restarted.setRoomAdmission(roomId -> false);
+            GameRecovery recovery = new GameRecovery(restarted, journal, snapshots,
+                new JournalReplayer(restarted, journal));
+
+            assertEquals(1, recovery.restoreAll());
+            assertEquals(0, restarted.getActiveGameCount());
+            assertEquals(1, restarted.getSpilledRoomCount());
+            BotGames.assertSameState(state, restarted.getGameState("parked-room"));
+            assertEquals(1, restarted.getActiveGameCount());
+        } finally {
+            journal.close();
+            snapshots.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Recovery rebuilds a room whose creation was retired from its snapshot and later moves")
+    void testRecoverAfterRetirement() {
+        GameJournal journal = new GameJournal(dir.resolve("journal").toString(), 1024, 5);
+        GameSnapshotStore snapshots = new GameSnapshotStore(dir.resolve("snapshots").toString(), 1000, 3600);
+        try {
+            // Startup on an empty journal wires snapshots to the journal and switches retiring on
+            assertEquals(0, new GameRecovery(engine, journal, snapshots, new JournalReplayer(engine, journal)).restoreAll());
+            GameState state = engine.newGame("old-room", 8L);
+            journal.created("old-room", 8L);
+            BiConsumer<Move, MoveOutcome> journaled = BotGames.journaling(journal, "old-room");
+            int moves = BotGames.play(engine, botEngine, state, 80, journaled);
+            snapshots.save("old-room", GameSnapshot.encode(state, moves));
+            snapshots.flush();
+            BotGames.play(engine, botEngine, state, 40, journaled);
+            assertTrue(journal.getRetiredCount() > 0, "The segment holding the room's creation should be retired");
+
+            GameEngine restarted = new GameEngine(botEngine, new RentCalculator());
+            GameRecovery recovery = new GameRecovery(restarted, journal, snapshots,
+                new JournalReplayer(restarted, journal));
+
+            assertEquals(1, recovery.restoreAll());
+            BotGames.assertSameState(state, restarted.getGameState("old-room"));
+        } finally {
+            journal.close();
+            snapshots.shutdown();
+        }
+    }
+}
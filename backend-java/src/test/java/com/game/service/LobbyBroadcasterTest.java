@@ -0,0 +1,122 @@
+package com.game.service;
+
+import com.game.model.LobbyEvent;
+import com.game.model.LobbyGame;
+import com.game.model.LobbyPage;
+import com.game.model.LobbyUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lobby Broadcaster Tests")
+class LobbyBroadcasterTest {
+
+    private SessionManager sessions;
+    private LobbyService lobbyService;
+    private LobbyBroadcaster broadcaster;
+    private List<LobbyUpdate> sent;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new SessionManager(60_000, 100, 0, System::currentTimeMillis);
+        lobbyService = new LobbyService(sessions);
+        lobbyService.init();
+        sent = new ArrayList<>();
+        // No background flush; tests flush by hand
+        broadcaster = new LobbyBroadcaster(lobbyService, sent::add, 0);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+        sessions.shutdown();
+    }
+
+    private String session(String name) {
+        return sessions.createGuestSession(name).getSessionId();
+    }
+
+    @Test
+    @DisplayName("Changes to one lobby within an interval go out once with its latest state")
+    void testCoalescesPerLobby() {
+        LobbyGame party = lobbyService.createLobby(session("alice"), "Party", 4);
+        lobbyService.joinLobby(session("bob"), party.getRoomId());
+        lobbyService.joinLobby(session("carol"), party.getRoomId());
+
+        assertEquals(1, broadcaster.flush());
+        assertEquals(0, broadcaster.flush(), "Nothing changed since the last batch");
+
+        LobbyUpdate batch = sent.get(0);
+        assertEquals(LobbyUpdate.BATCH, batch.getType());
+        assertEquals(1, batch.getSeq());
+        LobbyEvent event = batch.getEvents().get(0);
+        assertEquals(LobbyEvent.Type.CREATED, event.type(), "Clients have not seen the lobby yet");
+        assertEquals(3, event.lobby().getCurrentPlayers());
+        assertEquals(2, broadcaster.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("Lobbies that stop being joinable are sent without a lobby")
+    void testStartedAndRemovedLobbies() {
+        String bob = session("bob");
+        LobbyGame started = lobbyService.createLobby(session("alice"), "Started", 4);
+        LobbyGame emptied = lobbyService.createLobby(bob, "Emptied", 4);
+        broadcaster.flush();
+
+        lobbyService.startGame(started.getRoomId());
+        lobbyService.leaveLobby(bob, emptied.getRoomId());
+        broadcaster.flush();
+
+        List<LobbyEvent> events = sent.get(1).getEvents();
+        assertEquals(2, sent.get(1).getSeq());
+        assertEquals(LobbyEvent.Type.STARTED, events.get(0).type());
+        assertNull(events.get(0).lobby());
+        assertEquals(LobbyEvent.Type.REMOVED, events.get(1).type());
+        assertNull(events.get(1).lobby());
+    }
+
+    @Test
+    @DisplayName("A snapshot holds the first page of joinable lobbies and the last batch it covers")
+    void testSnapshot() {
+        LobbyGame first = lobbyService.createLobby(session("alice"), "First", 4);
+        broadcaster.flush();
+        LobbyGame second = lobbyService.createLobby(session("bob"), "Second", 4);
+
+        LobbyUpdate snapshot = broadcaster.snapshot();
+
+        assertEquals(LobbyUpdate.SNAPSHOT, snapshot.getType());
+        assertEquals(1, snapshot.getSeq());
+        List<String> roomIds = snapshot.getLobbies().stream().map(LobbyGame::getRoomId).toList();
+        assertTrue(roomIds.containsAll(List.of(first.getRoomId(), second.getRoomId())));
+        assertNull(snapshot.getNextCursor(), "Both lobbies fit on the first page");
+
+        // The second lobby still goes out in the next batch, which the client applies on top
+        broadcaster.flush();
+        assertEquals(2, sent.get(1).getSeq());
+        assertEquals(second.getRoomId(), sent.get(1).getEvents().get(0).roomId());
+    }
+
+    @Test
+    @DisplayName("A snapshot stops at the first page and carries the cursor for the rest")
+    void testSnapshotIsFirstPage() {
+        for (int i = 0; i <= LobbyService.DEFAULT_PAGE_SIZE; i++) {
+            lobbyService.createLobby(session("host" + i), "Game " + i, 4);
+        }
+
+        LobbyUpdate snapshot = broadcaster.snapshot();
+
+        assertEquals(LobbyService.DEFAULT_PAGE_SIZE, snapshot.getLobbies().size());
+        assertNotNull(snapshot.getNextCursor());
+        LobbyPage rest = lobbyService.findLobbies(snapshot.getNextCursor(), LobbyService.DEFAULT_PAGE_SIZE, 0, null);
+        assertEquals(1, rest.lobbies().size());
+        assertNull(rest.nextCursor());
+        assertFalse(snapshot.getLobbies().contains(rest.lobbies().get(0)));
+    }
+}
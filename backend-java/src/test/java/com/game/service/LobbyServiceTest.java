@@ -0,0 +1,225 @@
+package com.game.service;
+
+import com.game.model.LobbyGame;
+import com.game.model.LobbyPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lobby Service Tests")
+class LobbyServiceTest {
+
+    private SessionManager sessions;
+    private LobbyService lobbyService;
+
+    @BeforeEach
+    void setUp() {
+        sessions = new SessionManager(60_000, 100, 0, System::currentTimeMillis);
+        lobbyService = new LobbyService(sessions);
+        lobbyService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.shutdown();
+    }
+
+    private String session(String name) {
+        return sessions.createGuestSession(name).getSessionId();
+    }
+
+    private LobbyGame lobby(String owner, int maxPlayers) {
+        return lobbyService.createLobby(session(owner), owner + "'s game", maxPlayers);
+    }
+
+    private static List<String> roomIds(List<LobbyGame> lobbies) {
+        return lobbies.stream().map(LobbyGame::getRoomId).toList();
+    }
+
+    @Test
+    @DisplayName("Cursor pages walk every joinable lobby once, newest first")
+    void testCursorPagination() {
+        for (int i = 0; i < 5; i++) {
+            lobby("host" + i, 4);
+        }
+
+        List<String> seen = new ArrayList<>();
+        LobbyPage page = lobbyService.findLobbies(null, 2, 0, null);
+        int pages = 1;
+        seen.addAll(roomIds(page.lobbies()));
+        while (page.nextCursor() != null) {
+            page = lobbyService.findLobbies(page.nextCursor(), 2, 0, null);
+            seen.addAll(roomIds(page.lobbies()));
+            pages++;
+        }
+
+        assertEquals(3, pages);
+        assertEquals(roomIds(lobbyService.getAvailableLobbies()), seen);
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(lobbyService.getLobby(seen.get(i - 1)).getCreatedAt()
+                >= lobbyService.getLobby(seen.get(i)).getCreatedAt());
+        }
+        assertThrows(IllegalArgumentException.class, () -> lobbyService.findLobbies("not-a-cursor", 2, 0, null));
+    }
+
+    @Test
+    @DisplayName("Full and started lobbies leave the index and come back when a seat frees up")
+    void testIndexFollowsJoinLeaveStart() {
+        LobbyGame duel = lobby("alice", 2);
+        LobbyGame party = lobby("bob", 4);
+        String carol = session("carol");
+
+        lobbyService.joinLobby(carol, duel.getRoomId());
+        assertEquals(List.of(party.getRoomId()), roomIds(lobbyService.getAvailableLobbies()));
+
+        lobbyService.leaveLobby(carol, duel.getRoomId());
+        assertTrue(roomIds(lobbyService.getAvailableLobbies()).contains(duel.getRoomId()));
+
+        lobbyService.startGame(party.getRoomId());
+        assertEquals(List.of(duel.getRoomId()), roomIds(lobbyService.getAvailableLobbies()));
+    }
+
+    @Test
+    @DisplayName("Filters keep only lobbies with enough free seats and the asked size")
+    void testFilters() {
+        LobbyGame duel = lobby("alice", 2);
+        LobbyGame party = lobby("bob", 4);
+
+        assertEquals(List.of(party.getRoomId()), roomIds(lobbyService.findLobbies(null, 10, 2, null).lobbies()));
+        assertEquals(List.of(duel.getRoomId()), roomIds(lobbyService.findLobbies(null, 10, 0, 2).lobbies()));
+        assertTrue(lobbyService.findLobbies(null, 10, 4, null).lobbies().isEmpty());
+    }
+
+    @Test
+    @DisplayName("The first page is cached until a lobby changes and holds copies")
+    void testFirstPageCache() {
+        LobbyGame party = lobby("alice", 4);
+
+        LobbyPage first = lobbyService.findLobbies(null, LobbyService.DEFAULT_PAGE_SIZE, 0, null);
+        assertSame(first, lobbyService.getFirstPage());
+
+        lobbyService.joinLobby(session("bob"), party.getRoomId());
+        LobbyPage second = lobbyService.getFirstPage();
+
+        assertNotSame(first, second);
+        assertEquals(1, first.lobbies().get(0).getCurrentPlayers(), "A cached page must not change under readers");
+        assertEquals(2, second.lobbies().get(0).getCurrentPlayers());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Concurrent joins never overfill a lobby")
+    void testJoinStormFillsExactlyTheFreeSeats() throws Exception {
+        LobbyGame party = lobby("host", 4);
+        List<String> joiners = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            joiners.add(session("player" + i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger seated = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        for (String joiner : joiners) {
+            pool.execute(() -> {
+                try {
+                    go.await();
+                    lobbyService.joinLobby(joiner, party.getRoomId());
+                    seated.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    refused.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        go.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        LobbyGame full = lobbyService.getLobby(party.getRoomId());
+        assertEquals(3, seated.get());
+        assertEquals(29, refused.get());
+        assertEquals(4, full.getCurrentPlayers());
+        assertEquals(4, lobbyService.getParticipants(party.getRoomId()).size());
+        assertTrue(lobbyService.getAvailableLobbies().isEmpty(), "A full lobby is not listed");
+    }
+
+    @Test
+    @DisplayName("Lobbies handed out don't change under their readers")
+    void testLobbiesAreImmutable() {
+        LobbyGame created = lobby("alice", 4);
+
+        lobbyService.joinLobby(session("bob"), created.getRoomId());
+        lobbyService.startGame(created.getRoomId());
+
+        assertEquals(List.of("alice"), created.getPlayerNames());
+        assertEquals("WAITING", created.getStatus());
+        LobbyGame started = lobbyService.getLobby(created.getRoomId());
+        assertEquals(List.of("alice", "bob"), started.getPlayerNames());
+        assertEquals("PLAYING", started.getStatus());
+        assertThrows(UnsupportedOperationException.class, () -> started.getPlayerNames().add("mallory"));
+    }
+
+    @Test
+    @DisplayName("An expired session leaves its lobby")
+    void testExpiredSessionLeavesLobby() {
+        long[] now = {1_000_000};
+        sessions.shutdown();
+        sessions = new SessionManager(60_000, 100, 0, () -> now[0]);
+        lobbyService = new LobbyService(sessions);
+        lobbyService.init();
+        LobbyGame party = lobby("alice", 4);
+        String bob = session("bob");
+        lobbyService.joinLobby(bob, party.getRoomId());
+
+        now[0] += 30_000;
+        sessions.updateActivity(bob);
+        now[0] += 40_000;
+        sessions.cleanupExpiredSessions();
+
+        assertEquals(List.of("bob"), lobbyService.getLobby(party.getRoomId()).getPlayerNames());
+        assertEquals(1, lobbyService.getFirstPage().lobbies().get(0).getCurrentPlayers());
+    }
+
+    @Test
+    @DisplayName("A session that expires during a started game keeps its seat")
+    void testExpiredSessionKeepsStartedSeat() {
+        long[] now = {1_000_000};
+        sessions.shutdown();
+        sessions = new SessionManager(60_000, 100, 0, () -> now[0]);
+        lobbyService = new LobbyService(sessions);
+        lobbyService.init();
+        String alice = session("alice");
+        String roomId = lobbyService.createLobby(alice, "alice's game", 4).getRoomId();
+        String bob = session("bob");
+        lobbyService.joinLobby(bob, roomId);
+        lobbyService.startGame(roomId);
+
+        now[0] += 30_000;
+        sessions.updateActivity(bob);
+        now[0] += 40_000;
+        sessions.cleanupExpiredSessions();
+
+        assertNull(sessions.getSession(alice));
+        assertEquals(List.of(alice, bob), List.copyOf(lobbyService.getParticipants(roomId)));
+        assertEquals("PLAYING", lobbyService.getLobby(roomId).getStatus());
+
+        now[0] += 70_000;
+        sessions.cleanupExpiredSessions();
+
+        assertEquals(List.of(alice, bob), List.copyOf(lobbyService.getParticipants(roomId)),
+            "Everyone expiring must not delete the game's seats");
+    }
+}
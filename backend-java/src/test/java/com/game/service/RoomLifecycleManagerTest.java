@@ -0,0 +1,158 @@
+package com.game.service;
+
+import com.game.model.GameState;
+import com.game.model.Move;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Room Lifecycle Manager Tests")
+class RoomLifecycleManagerTest {
+
+    private GameEngine engine;
+    private RoomLifecycleManager lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new BotEngine(), new RentCalculator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (lifecycle != null) {
+            lifecycle.shutdown();
+        }
+    }
+
+    /**
+     * Manager with no background sweep and no heap budget; minutes and seconds as given
+     */
+    private RoomLifecycleManager manager(int maxRooms, long idleMinutes, long finishedMinutes, long minIdleSeconds) {
+        lifecycle = new RoomLifecycleManager(engine, maxRooms, idleMinutes, finishedMinutes, minIdleSeconds,
+            100, true, 1440, 0);
+        lifecycle.start();
+        return lifecycle;
+    }
+
+    @Test
+    @DisplayName("Finished rooms are evicted after their grace period, live ones are kept")
+    void testEvictsFinishedRooms() {
+        manager(100, 30, 0, 60);
+        GameState finished = engine.createGame("finished-room", 1L);
+        engine.createGame("live-room", 2L);
+        finished.setStatus("GAME_OVER");
+
+        assertEquals(1, lifecycle.sweep());
+
+        assertNull(engine.getGameState("finished-room"));
+        assertNotNull(engine.getGameState("live-room"));
+        assertEquals(1, engine.getActiveGameCount());
+        assertEquals(1, lifecycle.getEvictedCount());
+    }
+
+    @Test
+    @DisplayName("Idle rooms are evicted and an evicted room ignores late moves")
+    void testEvictsIdleRooms() {
+        manager(100, 0, 0, 0);
+        GameState state = engine.createGame("idle-room", 3L);
+        int deckSize = state.getDeck().size();
+
+        lifecycle.sweep();
+        engine.processMove("idle-room", new Move(0, "DRAW", null, null, null));
+
+        assertEquals(0, engine.getActiveGameCount());
+        assertEquals(deckSize, state.getDeck().size(), "A retired room must not change");
+    }
+
+    @Test
+    @DisplayName("At the room limit the least recently active room makes way for a new one")
+    void testAdmissionEvictsLeastRecentRoom() {
+        manager(2, 30, 30, 0);
+        engine.createGame("oldest-room", 4L);
+        engine.createGame("newer-room", 5L);
+        engine.processMove("newer-room", new Move(0, "DRAW", null, null, null));
+
+        engine.createGame("newest-room", 6L);
+
+        assertEquals(2, engine.getActiveGameCount());
+        assertNull(engine.getGameState("oldest-room"));
+        assertNotNull(engine.getGameState("newer-room"));
+        assertNotNull(engine.getGameState("newest-room"));
+    }
+
+    @Test
+    @DisplayName("New rooms are refused when the limit is reached and every room is in use")
+    void testAdmissionRefusesWhenNothingIdle() {
+        manager(1, 30, 30, 3600);
+        engine.createGame("busy-room", 7L);
+
+        assertThrows(IllegalStateException.class, () -> engine.createGame("extra-room", 8L));
+        assertEquals(1, engine.getActiveGameCount());
+        assertEquals(1, lifecycle.getRefusedCount());
+    }
+
+    @Test
+    @DisplayName("A spilled room reloads from its snapshot on the next move")
+    void testSpilledRoomReloadsOnMove(@TempDir Path dir) {
+        GameJournal journal = new GameJournal(dir.resolve("journal").toString(), 1 << 20, 5);
+        GameSnapshotStore snapshots = new GameSnapshotStore(dir.resolve("snapshots").toString(), 1000, 3600);
+        try {
+            GameLogStore logs = new GameLogStore();
+            engine = GameEngine.persistent(new BotEngine(), new RentCalculator(), journal, snapshots, logs);
+            manager(100, 0, 0, 0);
+            GameState state = engine.createGame("spilled-room", 9L);
+            int handSize = state.getPlayers().get(0).getHand().size();
+            var started = logs.page("spilled-room", 0, 10).entries();
+
+            assertEquals(1, lifecycle.sweep());
+            assertEquals(0, engine.getActiveGameCount());
+            assertNotNull(logs.page("spilled-room", 0, 10), "A spilled room keeps its log history");
+
+            engine.processMove("spilled-room", new Move(0, "DRAW", null, null, null));
+
+            assertEquals(1, engine.getActiveGameCount());
+            assertEquals(handSize + 2, engine.getGameState("spilled-room").getPlayers().get(0).getHand().size());
+            var history = logs.page("spilled-room", 0, 10).entries();
+            assertTrue(history.size() > started.size());
+            assertEquals(started, history.subList(0, started.size()), "The reloaded room appends to its history");
+        } finally {
+            journal.close();
+            snapshots.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A room left spilled past its TTL is closed in the journal and loses its snapshot")
+    void testSpilledRoomClosedAfterTtl(@TempDir Path dir) {
+        GameJournal journal = new GameJournal(dir.resolve("journal").toString(), 1 << 20, 5);
+        GameSnapshotStore snapshots = new GameSnapshotStore(dir.resolve("snapshots").toString(), 1000, 3600);
+        try {
+            engine = GameEngine.persistent(new BotEngine(), new RentCalculator(), journal, snapshots);
+            lifecycle = new RoomLifecycleManager(engine, 100, 0, 0, 0, 100, true, 0, 0);
+            lifecycle.start();
+            engine.createGame("abandoned-room", 10L);
+
+            lifecycle.sweep();
+            assertEquals(1, engine.getSpilledRoomCount());
+            assertThrows(IllegalStateException.class, () -> engine.createGame("abandoned-room", 11L),
+                "A spilled game still holds its room");
+            lifecycle.sweep();
+            snapshots.flush();
+
+            assertEquals(0, engine.getSpilledRoomCount());
+            assertNull(engine.getGameState("abandoned-room"));
+            assertNull(snapshots.load("abandoned-room"));
+            assertTrue(new JournalReplayer(engine, journal).replayOpenRooms().isEmpty());
+            assertNotNull(engine.createGame("abandoned-room", 11L), "A closed room can host a new game");
+        } finally {
+            journal.close();
+            snapshots.shutdown();
+        }
+    }
+}
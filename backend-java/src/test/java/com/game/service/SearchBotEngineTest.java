@@ -0,0 +1,98 @@
+package com.game.service;
+
+import com.game.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search Bot Engine Tests")
+class SearchBotEngineTest {
+
+    private GameEngine engine;
+    private SearchBotEngine searchBot;
+
+    @BeforeEach
+    void setUp() {
+        BotEngine botEngine = new BotEngine();
+        engine = new GameEngine(botEngine, new RentCalculator());
+        searchBot = new SearchBotEngine(botEngine, new RentCalculator(), 40, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchBot.shutdown();
+    }
+
+    /**
+     * Pull the first plain property of a color out of the deck or any hand
+     */
+    private static Card take(GameState state, PropertyColor color) {
+        List<List<Card>> zones = new java.util.ArrayList<>();
+        zones.add(state.getDeck());
+        for (Player player : state.getPlayers()) {
+            zones.add(player.getHand());
+        }
+        for (List<Card> zone : zones) {
+            for (Card card : zone) {
+                if (card.getType() == CardType.PROPERTY && card.getPropertyColor() == color) {
+                    zone.remove(card);
+                    return card;
+                }
+            }
+        }
+        throw new IllegalStateException("No " + color + " property left");
+    }
+
+    @Test
+    @DisplayName("Returns a move the active player can make, within its time budget")
+    void testReturnsLegalMove() {
+        GameState state = engine.newGame("search-room", 21L);
+        assertTrue(engine.applyMove(state, new Move(0, "DRAW", null, null, null)));
+
+        long start = System.nanoTime();
+        Move move = searchBot.calculateBestMove(state, 0);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(move);
+        assertEquals(0, move.getPlayerId());
+        if ("PLAY_CARD".equals(move.getType())) {
+            assertNotNull(state.getPlayers().get(0).getHand().find(move.getCardUid()));
+        } else {
+            assertEquals("END_TURN", move.getType());
+        }
+        assertTrue(elapsedMs < 1000, "Search took " + elapsedMs + " ms");
+        assertTrue(searchBot.getIterationCount() > 0);
+        assertTrue(engine.applyMove(state, move));
+    }
+
+    @Test
+    @DisplayName("Takes the last action to complete a third set rather than pass it up")
+    void testPlaysWinningProperty() {
+        GameState state = engine.newGame("search-win", 33L);
+        Player bot = state.getPlayers().get(0);
+        state.getDeck().addAll(bot.getHand());
+        bot.getHand().clear();
+
+        bot.getProperties().add(take(state, PropertyColor.BROWN));
+        bot.getProperties().add(take(state, PropertyColor.BROWN));
+        bot.getProperties().add(take(state, PropertyColor.UTILITY));
+        bot.getProperties().add(take(state, PropertyColor.UTILITY));
+        bot.getProperties().add(take(state, PropertyColor.DARK_BLUE));
+        Card winner = take(state, PropertyColor.DARK_BLUE);
+        bot.getHand().add(winner);
+        bot.getHand().add(take(state, PropertyColor.RED));
+        state.getTurnContext().setActionsRemaining(1);
+
+        Move move = searchBot.calculateBestMove(state, 0);
+
+        assertEquals("PLAY_CARD", move.getType());
+        assertEquals(winner.getUid(), move.getCardUid());
+        assertTrue(engine.applyMove(state, move));
+        assertEquals("GAME_OVER", state.getStatus());
+    }
+}
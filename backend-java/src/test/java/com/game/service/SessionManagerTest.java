@@ -0,0 +1,80 @@
+package com.game.service;
+
+import com.game.model.UserSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Session Manager Tests")
+class SessionManagerTest {
+
+    private static final long TIMEOUT_MS = 60_000;
+
+    private AtomicLong now;
+    private SessionManager sessions;
+    private List<UserSession> expired;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000);
+        sessions = new SessionManager(TIMEOUT_MS, 2, 0, now::get);
+        expired = new ArrayList<>();
+        sessions.addExpiryListener(expired::add);
+    }
+
+    @Test
+    @DisplayName("Idle sessions expire in the background and listeners hear about them")
+    void testExpiresIdleSessions() {
+        UserSession idle = sessions.createGuestSession("idle");
+        UserSession active = sessions.createGuestSession("active");
+
+        now.addAndGet(TIMEOUT_MS / 2);
+        sessions.updateActivity(active.getSessionId());
+        now.addAndGet(TIMEOUT_MS);
+
+        assertEquals(1, sessions.cleanupExpiredSessions());
+        assertEquals(List.of(idle), expired);
+        assertEquals(1, sessions.getActiveSessionCount());
+        assertNotNull(sessions.getSession(active.getSessionId()));
+        assertEquals(1, sessions.getExpiredCount());
+    }
+
+    @Test
+    @DisplayName("Each pass checks at most one batch of sessions")
+    void testExpiresInBatches() {
+        for (int i = 0; i < 5; i++) {
+            sessions.createGuestSession("guest" + i);
+        }
+        now.addAndGet(2 * TIMEOUT_MS);
+
+        assertEquals(2, sessions.expireDue(2));
+        assertEquals(2, sessions.expireDue(2));
+        assertEquals(1, sessions.expireDue(2));
+        assertEquals(0, sessions.expireDue(2));
+        assertEquals(0, sessions.getActiveSessionCount());
+        assertEquals(5, expired.size());
+    }
+
+    @Test
+    @DisplayName("Sessions keep living while used, however many passes run")
+    void testActiveSessionSurvivesPasses() {
+        UserSession session = sessions.createGuestSession("regular");
+        for (int i = 0; i < 10; i++) {
+            now.addAndGet(TIMEOUT_MS / 2);
+            assertNotNull(sessions.getSession(session.getSessionId()));
+            sessions.cleanupExpiredSessions();
+        }
+        assertTrue(expired.isEmpty());
+
+        now.addAndGet(TIMEOUT_MS + 1);
+        assertNull(sessions.getSession(session.getSessionId()), "Lookups expire a stale session too");
+        assertEquals(List.of(session), expired);
+        assertEquals(0, sessions.cleanupExpiredSessions());
+    }
+}
@@ -0,0 +1,63 @@
+package com.game.service;
+
+import com.game.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("State Differ Redaction Tests")
+class StateDifferTest {
+
+    private GameState gameState;
+    private Player human;
+    private Player bot;
+
+    @BeforeEach
+    void setUp() {
+        gameState = new GameEngine().createGame("test-state-differ");
+        human = gameState.getPlayers().get(0);
+        bot = gameState.getPlayers().get(1);
+    }
+
+    @Test
+    @DisplayName("Opponent draw is sent as a hand count without card bodies")
+    void testOpponentHandIsRedacted() {
+        StateDiffer.Snapshot before = StateDiffer.capture(gameState);
+        Card drawn = gameState.getDeck().remove(0);
+        bot.getHand().add(drawn);
+        StateDiffer.Snapshot after = StateDiffer.capture(gameState);
+
+        StatePatch patch = StateDiffer.diff(before, after, gameState);
+        assertNotNull(patch);
+
+        StatePatch humanView = StateDiffer.redact(patch, after, human.getId());
+        assertNotNull(humanView);
+        assertFalse(humanView.getZones().containsKey(StateDiffer.handZone(bot.getId())));
+        assertEquals(bot.getHand().size(), humanView.getHandCounts().get(bot.getId()));
+        assertTrue(humanView.getCards().stream().noneMatch(c -> c.getUid().equals(drawn.getUid())),
+            "Opponent's drawn card must not be sent");
+
+        StatePatch botView = StateDiffer.redact(patch, after, bot.getId());
+        assertNotNull(botView);
+        assertTrue(botView.getZones().containsKey(StateDiffer.handZone(bot.getId())));
+        assertTrue(botView.getCards().stream().anyMatch(c -> c.getUid().equals(drawn.getUid())));
+    }
+
+    @Test
+    @DisplayName("Keyframe view hides opponents' hands but keeps their counts")
+    void testPlayerViewHidesOpponentHands() {
+        PlayerView view = PlayerView.project(gameState, human.getId());
+
+        assertEquals(gameState.getDeck().size(), view.getDeckSize());
+        PlayerView.SeatView own = view.getPlayers().get(0);
+        PlayerView.SeatView opponent = view.getPlayers().get(1);
+        assertEquals(human.getHand(), own.getHand());
+        assertNull(opponent.getHand());
+        assertEquals(bot.getHand().size(), opponent.getHandCount());
+
+        PlayerView spectator = PlayerView.project(gameState, PlayerView.SPECTATOR);
+        assertTrue(spectator.getPlayers().stream().allMatch(seat -> seat.getHand() == null));
+    }
+}
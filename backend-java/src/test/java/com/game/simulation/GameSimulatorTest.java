@@ -0,0 +1,102 @@
+package com.game.simulation;
+
+import com.game.model.ActionType;
+import com.game.model.Card;
+import com.game.model.CardType;
+import com.game.model.GameState;
+import com.game.model.Player;
+import com.game.service.BotEngine;
+import com.game.service.RentCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Game Simulator Tests")
+class GameSimulatorTest {
+
+    @Test
+    @DisplayName("Every simulated game is counted once as a win or unfinished")
+    void testBatchAccounting() {
+        GameSimulator simulator = new GameSimulator(new BotEngine(), new RentCalculator(), 300);
+
+        SimulationStats stats = simulator.run(200, 7L, 2);
+
+        assertEquals(200, stats.getGames());
+        long wins = 0;
+        for (int seat = 0; seat < stats.getSeats(); seat++) {
+            wins += stats.getWins(seat);
+        }
+        assertEquals(200, wins + stats.getUnfinished());
+        assertTrue(stats.getAverageTurns() > 0);
+        assertTrue(stats.getMaxTurns() <= 300);
+        assertFalse(stats.getCardPlays().isEmpty(), "Bots should have played cards");
+        assertTrue(stats.getCardPlays().getOrDefault("PASS_GO", 0L) > 0, "Pass Go plays should be counted");
+    }
+
+    @Test
+    @DisplayName("The win goes to the player with three complete sets, not the last mover")
+    void testWinnerIsTheSetHolder() {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 0; seat < GameSimulator.SEATS; seat++) {
+            players.add(new Player(seat, "Bot " + seat, false));
+        }
+        Player target = players.get(2);
+        for (String color : List.of("brown", "dark_blue")) {
+            target.getProperties().add(property(color + "-1", color));
+            target.getProperties().add(property(color + "-2", color));
+        }
+        for (int i = 0; i < 3; i++) {
+            target.getProperties().add(property("light_blue-" + i, "light_blue"));
+        }
+        GameState state = GameState.builder().players(players).status("GAME_OVER").build();
+
+        // Seat 0 played the Forced Deal that handed seat 2 its third set
+        assertEquals(2, GameSimulator.winnerOf(state, 0));
+        assertEquals(-1, GameSimulator.winnerOf(GameState.builder().players(List.of(players.get(0))).build(), 0));
+    }
+
+    @Test
+    @DisplayName("A Pass Go play is counted and the bot keeps its turn")
+    void testPassGoCountedAndTurnContinues() {
+        GameSimulator simulator = new GameSimulator(new BotEngine(), new RentCalculator(), 300);
+        GameState state = simulator.newGame("sim-pass-go", 11L);
+        SimulationStats stats = new SimulationStats(GameSimulator.SEATS);
+
+        assertEquals(1, simulator.step(state, stats), "Seat 0 draws first");
+        Card passGo = state.getDeck().stream()
+                .filter(c -> c.getActionType() == ActionType.PASS_GO)
+                .findFirst()
+                .orElseThrow();
+        state.getDeck().remove(passGo);
+        Player bot = state.getPlayers().get(0);
+        bot.getHand().add(passGo);
+        long passGosBefore = passGos(bot);
+        int handBefore = bot.getHand().size();
+
+        assertEquals(1, simulator.step(state, stats));
+
+        assertEquals(1L, stats.getCardPlays().get("PASS_GO"));
+        assertEquals(passGosBefore - 1, passGos(bot));
+        assertEquals(handBefore + 1, bot.getHand().size(), "Pass Go draws two cards");
+        assertEquals(0, state.getTurnContext().getActivePlayerId(), "The turn should continue");
+    }
+
+    private static long passGos(Player player) {
+        return player.getHand().stream().filter(c -> c.getActionType() == ActionType.PASS_GO).count();
+    }
+
+    private static Card property(String uid, String color) {
+        return Card.builder()
+                .uid(uid)
+                .name(uid)
+                .type(CardType.PROPERTY)
+                .color(color)
+                .currentColor(color)
+                .value(1)
+                .build();
+    }
+}
@@ -1,23 +1,30 @@
 import { useState, useEffect, useRef } from 'react';
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
+import { applyStateUpdate } from '../utils/stateUpdates';
 
 /**
  * Custom hook for managing WebSocket connection to game backend
  * Handles STOMP messaging for real-time game state updates
+ * The server seats this connection by its lobby session, so no seat is sent
  */
 export const useGameWebSocket = (roomId) => {
   const [gameState, setGameState] = useState(null);
   const [connected, setConnected] = useState(false);
   const [error, setError] = useState(null);
   const clientRef = useRef(null);
+  const syncRef = useRef({ state: null, seq: 0, cards: {} });
 
   useEffect(() => {
     if (!roomId) return;
 
     // Create STOMP client
     const client = new Client({
-      webSocketFactory: () => new SockJS('http://localhost:8080/ws'),
+      webSocketFactory: () => {
+        const sessionId = localStorage.getItem('sessionId');
+        const query = sessionId ? `?sessionId=${encodeURIComponent(sessionId)}` : '';
+        return new SockJS(`http://localhost:8080/ws${query}`);
+      },
       debug: (str) => console.log('[STOMP]', str),
       reconnectDelay: 5000,
       heartbeatIncoming: 4000,
@@ -29,18 +36,26 @@ export const useGameWebSocket = (roomId) => {
       setConnected(true);
       setError(null);
 
-      // Subscribe to game updates
-      client.subscribe(`/topic/game/${roomId}`, (message) => {
-        const state = JSON.parse(message.body);
-        console.log('📦 Received game state:', state);
-        setGameState(state);
+      const requestKeyframe = () => {
+        client.publish({
+          destination: `/app/game/${roomId}/state`,
+        });
+      };
+
+      // Subscribe to this seat's view (keyframes + patches)
+      client.subscribe(`/user/queue/game/${roomId}`, (message) => {
+        const update = JSON.parse(message.body);
+        const next = applyStateUpdate(syncRef.current, update);
+        if (next.resync) {
+          requestKeyframe();
+          return;
+        }
+        syncRef.current = next;
+        setGameState(next.state);
       });
 
       // Request initial game state
-      client.publish({
-        destination: `/app/game/${roomId}/state`,
-        body: JSON.stringify({}),
-      });
+      requestKeyframe();
     };
 
     client.onStompError = (frame) => {
@@ -76,7 +91,8 @@ export const useGameWebSocket = (roomId) => {
     });
   };
 
-  const startGame = () => {
+  // bots optionally maps a bot seat to 'STANDARD' or 'SEARCH'
+  const startGame = (bots) => {
     if (!clientRef.current || !connected) {
       console.error('Cannot start game: not connected');
       return;
@@ -84,7 +100,7 @@ export const useGameWebSocket = (roomId) => {
 
     clientRef.current.publish({
       destination: `/app/game/${roomId}/start`,
-      body: JSON.stringify({}),
+      body: JSON.stringify({ bots }),
     });
   };
 
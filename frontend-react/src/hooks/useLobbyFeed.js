@@ -0,0 +1,101 @@
+import { useState, useEffect, useRef } from 'react';
+import { Client } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+import { appendLobbyPage, applyLobbyUpdate, initialLobbyFeed } from '../utils/lobbyUpdates';
+
+const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
+
+/**
+ * Custom hook for the live list of joinable lobbies
+ * Subscribes to /topic/lobby for change batches and asks /app/lobby for a
+ * snapshot of the first page to apply them on top of, so the lobby never has
+ * to poll. loadMore fetches the next page from the REST listing
+ */
+export const useLobbyFeed = (enabled) => {
+  const [games, setGames] = useState([]);
+  const [hasMore, setHasMore] = useState(false);
+  const [connected, setConnected] = useState(false);
+  const feedRef = useRef(initialLobbyFeed);
+
+  const show = (feed) => {
+    feedRef.current = feed;
+    if (feed.ready) {
+      setGames(feed.lobbies);
+      setHasMore(feed.nextCursor !== null);
+    }
+  };
+
+  useEffect(() => {
+    if (!enabled) return;
+
+    feedRef.current = initialLobbyFeed;
+    const client = new Client({
+      // The server refuses connections without a live lobby session
+      webSocketFactory: () => {
+        const sessionId = localStorage.getItem('sessionId');
+        return new SockJS(`${API_URL}/ws-game?sessionId=${encodeURIComponent(sessionId)}`);
+      },
+      reconnectDelay: 5000,
+      heartbeatIncoming: 4000,
+      heartbeatOutgoing: 4000,
+    });
+
+    client.onConnect = () => {
+      setConnected(true);
+      feedRef.current = initialLobbyFeed;
+
+      const handle = (message) => {
+        const next = applyLobbyUpdate(feedRef.current, JSON.parse(message.body));
+        if (next.resync) {
+          feedRef.current = initialLobbyFeed;
+          requestSnapshot();
+          return;
+        }
+        show(next);
+      };
+
+      // The snapshot is a one-off reply to this subscription
+      const requestSnapshot = () => {
+        const subscription = client.subscribe('/app/lobby', (message) => {
+          subscription.unsubscribe();
+          handle(message);
+        });
+      };
+
+      client.subscribe('/topic/lobby', handle);
+      requestSnapshot();
+    };
+
+    client.onStompError = (frame) => {
+      console.error('❌ Lobby feed error:', frame);
+      setConnected(false);
+    };
+
+    client.onWebSocketClose = () => {
+      setConnected(false);
+    };
+
+    client.activate();
+
+    return () => {
+      client.deactivate();
+    };
+  }, [enabled]);
+
+  const loadMore = async () => {
+    const cursor = feedRef.current.nextCursor;
+    if (!cursor) return;
+    try {
+      const response = await fetch(`${API_URL}/api/lobby/games?cursor=${encodeURIComponent(cursor)}`);
+      if (!response.ok) return;
+      const page = await response.json();
+      // A resync meanwhile replaced the feed; its own snapshot starts the paging over
+      if (feedRef.current.nextCursor !== cursor) return;
+      show(appendLobbyPage(feedRef.current, page, response.headers.get('X-Next-Cursor')));
+    } catch (error) {
+      console.error('Failed to load more lobbies:', error);
+    }
+  };
+
+  return { games, hasMore, loadMore, connected };
+};
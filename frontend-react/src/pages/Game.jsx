@@ -432,7 +432,7 @@ const Game = () => {
             </button>
             {isMultiplayer && !backendGameState && connected && (
               <button
-                onClick={startMultiplayerGame}
+                onClick={() => startMultiplayerGame()}
                 className="bg-green-600 hover:bg-green-700 text-white px-4 py-2 rounded-lg font-bold transition-colors shadow-md"
               >
                 Start Game
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
+import { useLobbyFeed } from '../hooks/useLobbyFeed';
 import './Lobby.css';
 
 const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
@@ -7,21 +8,17 @@ const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
 const Lobby = () => {
     const [username, setUsername] = useState('');
     const [sessionId, setSessionId] = useState(localStorage.getItem('sessionId'));
-    const [games, setGames] = useState([]);
     const [gameName, setGameName] = useState('');
     const [loading, setLoading] = useState(false);
     const navigate = useNavigate();
+    // Lobby changes are pushed over the socket once we have a session
+    const { games, hasMore, loadMore } = useLobbyFeed(Boolean(sessionId));
 
     // Create session on mount if needed
     useEffect(() => {
         if (!sessionId) {
             const savedUsername = localStorage.getItem('username') || '';
             setUsername(savedUsername);
-        } else {
-            loadGames();
-            // Refresh games every 5 seconds
-            const interval = setInterval(loadGames, 5000);
-            return () => clearInterval(interval);
         }
     }, [sessionId]);
 
@@ -51,16 +48,6 @@ const Lobby = () => {
         }
     };
 
-    const loadGames = async () => {
-        try {
-            const response = await fetch(`${API_URL}/api/lobby/games`);
-            const data = await response.json();
-            setGames(data);
-        } catch (error) {
-            console.error('Failed to load games:', error);
-        }
-    };
-
     const createGame = async () => {
         if (!gameName.trim()) {
             alert('Please enter a game name');
@@ -202,6 +189,11 @@ const Lobby = () => {
                         ))}
                     </div>
                 )}
+                {hasMore && (
+                    <button onClick={loadMore} className="load-more-button">
+                        Load more games
+                    </button>
+                )}
             </div>
 
             <div className="lobby-footer">
@@ -0,0 +1,87 @@
+/**
+ * Client side of the backend's lobby feed.
+ * A SNAPSHOT (the reply to subscribing to /app/lobby) holds the first page of
+ * joinable lobbies as of batch seq and the cursor for the next page; BATCH
+ * messages on /topic/lobby carry the latest state of each lobby that changed,
+ * where a null lobby means it left the list. Batches that arrive before the
+ * snapshot are held, and only those newer than the snapshot are applied on
+ * top of it. Further pages come from the REST listing and are appended with
+ * appendLobbyPage; changes to lobbies past the loaded pages are skipped, since
+ * those lobbies arrive with their page.
+ */
+
+export const initialLobbyFeed = { lobbies: [], nextCursor: null, lastLoaded: null, seq: 0, ready: false, held: [] };
+
+// Same order as the REST listing: newest first, ties by room id
+const byNewest = (a, b) => b.createdAt - a.createdAt || a.roomId.localeCompare(b.roomId);
+
+// Whether a lobby sorts after the end of the last loaded page while more pages remain
+const pastLoaded = (current, lobby) =>
+  current.nextCursor !== null && current.lastLoaded !== null && byNewest(lobby, current.lastLoaded) > 0;
+
+// Where the next page picks up: the last lobby of the page just loaded
+const endOf = (page) => (page.length > 0 ? page[page.length - 1] : null);
+
+const applyBatch = (current, batch) => {
+  if (batch.seq <= current.seq) {
+    return current; // Already covered by the snapshot
+  }
+  if (batch.seq !== current.seq + 1) {
+    return { ...current, resync: true };
+  }
+  const lobbies = new Map(current.lobbies.map(lobby => [lobby.roomId, lobby]));
+  (batch.events || []).forEach(({ roomId, lobby }) => {
+    if (lobby) {
+      if (!lobbies.has(roomId) && pastLoaded(current, lobby)) {
+        return;
+      }
+      lobbies.set(roomId, lobby);
+    } else {
+      lobbies.delete(roomId);
+    }
+  });
+  return { ...current, lobbies: [...lobbies.values()].sort(byNewest), seq: batch.seq };
+};
+
+/**
+ * Apply a snapshot or batch to the current feed state.
+ * Returns { lobbies, nextCursor, seq, ready, held, resync } where resync=true means a
+ * batch was missed and the caller should ask for a fresh snapshot.
+ */
+export const applyLobbyUpdate = (current, update) => {
+  if (update.type === 'SNAPSHOT') {
+    const page = update.lobbies || [];
+    const base = {
+      lobbies: [...page].sort(byNewest),
+      nextCursor: update.nextCursor ?? null,
+      lastLoaded: endOf(page),
+      seq: update.seq,
+      ready: true,
+      held: [],
+    };
+    return current.held
+      .filter(batch => batch.seq > update.seq)
+      .sort((a, b) => a.seq - b.seq)
+      .reduce((state, batch) => (state.resync ? state : applyBatch(state, batch)), base);
+  }
+  if (!current.ready) {
+    return { ...current, held: [...current.held, update] };
+  }
+  return applyBatch(current, update);
+};
+
+/**
+ * Append a page fetched from the REST listing with the cursor the feed held.
+ * Lobbies already in the feed keep their pushed state; nextCursor is the
+ * X-Next-Cursor header of the response, or null on the last page.
+ */
+export const appendLobbyPage = (current, lobbies, nextCursor) => {
+  const known = new Set(current.lobbies.map(lobby => lobby.roomId));
+  const added = lobbies.filter(lobby => !known.has(lobby.roomId));
+  return {
+    ...current,
+    lobbies: [...current.lobbies, ...added].sort(byNewest),
+    nextCursor,
+    lastLoaded: endOf(lobbies) ?? current.lastLoaded,
+  };
+};
@@ -0,0 +1,102 @@
+/**
+ * Client side of the backend's sequenced state protocol.
+ * KEYFRAME messages carry this seat's full view (own hand, opponents' hand
+ * counts, deck size); PATCH messages carry only the zones that changed, the
+ * card bodies that moved, hand counts, and newly appended logs.
+ */
+
+const ZONE_PATTERN = /^p(\d+)\.(hand|bank|properties)$/;
+
+// Matches GameConstants.LIVE_LOG_CAPACITY; older entries are paged from /api/games/{roomId}/logs
+const LIVE_LOG_CAPACITY = 50;
+
+const indexCards = (state) => {
+  const cards = {};
+  const add = (list) => (list || []).forEach(card => { if (card) cards[card.uid] = card; });
+  add(state.discardPile);
+  (state.players || []).forEach(p => {
+    add(p.hand);
+    add(p.bank);
+    add(p.properties);
+  });
+  return cards;
+};
+
+// Opponents' hands and the deck arrive as counts; components only read .length
+const placeholders = (count) => Array.from({ length: count || 0 }, () => null);
+
+const fromView = (view) => ({
+  ...view,
+  deck: placeholders(view.deckSize),
+  players: (view.players || []).map(p => (p.hand ? p : { ...p, hand: placeholders(p.handCount) })),
+});
+
+/**
+ * Apply a keyframe or patch to the current client state.
+ * Returns { state, seq, cards, resync } where resync=true means a patch
+ * arrived out of order and the caller should request a fresh keyframe.
+ */
+export const applyStateUpdate = (current, update) => {
+  // Plain GameState (older servers)
+  if (!update || !update.type) {
+    return { state: update, seq: 0, cards: update ? indexCards(update) : {}, resync: false };
+  }
+
+  if (update.type === 'KEYFRAME') {
+    return { state: fromView(update.state), seq: update.seq, cards: indexCards(update.state), resync: false };
+  }
+
+  if (!current.state || update.baseSeq !== current.seq) {
+    return { ...current, resync: true };
+  }
+
+  const patch = update.patch || {};
+  const cards = { ...current.cards };
+  (patch.cards || []).forEach(card => { cards[card.uid] = card; });
+  const resolve = (uids) => uids.map(uid => cards[uid]).filter(Boolean);
+
+  const players = current.state.players.map(p => ({ ...p }));
+  let discardPile = current.state.discardPile;
+
+  Object.entries(patch.zones || {}).forEach(([zone, uids]) => {
+    if (zone === 'discard') {
+      discardPile = resolve(uids);
+      return;
+    }
+    const match = ZONE_PATTERN.exec(zone);
+    if (!match) return;
+    const player = players.find(p => p.id === Number(match[1]));
+    if (player) {
+      player[match[2]] = resolve(uids);
+      if (match[2] === 'hand') player.handCount = uids.length;
+    }
+  });
+
+  Object.entries(patch.handCounts || {}).forEach(([id, count]) => {
+    const player = players.find(p => p.id === Number(id));
+    if (player) {
+      player.handCount = count;
+      player.hand = placeholders(count);
+    }
+  });
+
+  // Cards that changed in place (wild color, buildings) need their zone refreshed
+  players.forEach(p => {
+    p.hand = (p.hand || []).map(c => (c ? cards[c.uid] || c : c));
+    p.bank = (p.bank || []).map(c => cards[c.uid] || c);
+    p.properties = (p.properties || []).map(c => cards[c.uid] || c);
+  });
+
+  const state = {
+    ...current.state,
+    players,
+    discardPile,
+    status: patch.status ?? current.state.status,
+    turnContext: patch.turnContext ?? current.state.turnContext,
+    deckSize: patch.deckSize ?? current.state.deckSize,
+    deck: patch.deckSize !== undefined ? placeholders(patch.deckSize) : current.state.deck,
+    logs: [...(current.state.logs || []), ...(patch.logs || [])].slice(-LIVE_LOG_CAPACITY),
+  };
+
+  return { state, seq: update.seq, cards, resync: false };
+};